@@ -14,20 +14,25 @@ import biomesoplenty.common.core.BOPItems;
 import biomesoplenty.common.core.BOPPotions;
 import biomesoplenty.common.core.BOPVanillaCompat;
 import biomesoplenty.common.eventhandler.BOPEventHandlers;
+import biomesoplenty.common.helpers.BiomeSearchScheduler;
 import biomesoplenty.common.helpers.CreativeTabsBOP;
 import biomesoplenty.common.integration.BOPIntegration;
 import biomesoplenty.common.integration.TreecapitatorIntegration;
 import biomesoplenty.common.network.BOPPacketHandler;
 import biomesoplenty.common.utils.BOPModInfo;
 import biomesoplenty.common.world.WorldTypeBOP;
+import biomesoplenty.common.world.generation.BlockSet;
 import biomesoplenty.common.world.generation.WorldGenFieldAssociation;
+import biomesoplenty.common.world.layer.BiomePropertyBenchmark;
 import cpw.mods.fml.common.Mod;
 import cpw.mods.fml.common.Mod.EventHandler;
 import cpw.mods.fml.common.Mod.Instance;
 import cpw.mods.fml.common.SidedProxy;
 import cpw.mods.fml.common.event.FMLInitializationEvent;
+import cpw.mods.fml.common.event.FMLModIdMappingEvent;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.event.FMLServerStoppingEvent;
 
 @Mod(modid = BOPModInfo.modID, name = BOPModInfo.modName, dependencies = "after:Natura; required-after:Forge@[10.12.2.1147,)")
 public class BiomesOPlenty
@@ -77,5 +82,19 @@ public class BiomesOPlenty
     {
     	BOPIntegration.postInit();
         BOPBiomes.worldTypeBOP = new WorldTypeBOP();
+
+        if (Boolean.getBoolean("biomesoplenty.benchmarkBiomeLayers")) BiomePropertyBenchmark.run(BOPBiomes.worldTypeBOP);
+    }
+    
+    @EventHandler
+    public void remap(FMLModIdMappingEvent event)
+    {
+        BlockSet.onIdsRemapped();
+    }
+    
+    @EventHandler
+    public void serverStopping(FMLServerStoppingEvent event)
+    {
+        BiomeSearchScheduler.clear();
     }
 }
\ No newline at end of file
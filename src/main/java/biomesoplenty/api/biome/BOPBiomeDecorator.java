@@ -1,8 +1,5 @@
 package biomesoplenty.api.biome;
 
-import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.FLOWERS;
-import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.GRASS;
-
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
@@ -11,14 +8,17 @@ import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeDecorator;
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.feature.WorldGenerator;
+import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType;
 import net.minecraftforge.event.terraingen.TerrainGen;
 import biomesoplenty.common.utils.RandomForcedPositiveOwned;
-import biomesoplenty.common.world.generation.IBOPWorldGenerator;
-import biomesoplenty.common.world.generation.WorldGenFieldAssociation;
+import biomesoplenty.common.world.generation.DecorationGuard;
+import biomesoplenty.common.world.generation.DecorationPlan;
 
 public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
 {
     public T bopFeatures;
+
+    private DecorationPlan decorationPlan;
     
     public BOPBiomeDecorator(Class<T> biomeFeaturesClass)
     {
@@ -37,6 +37,8 @@ public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
     @Override
 	public void decorateChunk(World world, Random random, BiomeGenBase biome, int chunkX, int chunkZ)
     {
+        //Decoration only runs one chunk at a time on the server thread, as the world can't be used from anywhere else.
+        //A chunk of the same biome that cascades from decorating another is skipped rather than failing as vanilla does
         if (this.currentWorld != null)
         {
             return;
@@ -47,9 +49,19 @@ public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
             this.randomGenerator = new RandomForcedPositiveOwned(random);
             this.chunk_X = chunkX;
             this.chunk_Z = chunkZ;
-            this.genDecorations(biome);
-            this.currentWorld = null;
-            this.randomGenerator = null;
+
+            DecorationGuard.DecorationContext previousContext = DecorationGuard.beginDecoration(world, biome, chunkX, chunkZ);
+
+            try
+            {
+                this.genDecorations(biome);
+            }
+            finally
+            {
+                DecorationGuard.endDecoration(previousContext);
+                this.currentWorld = null;
+                this.randomGenerator = null;
+            }
         }
     }
     
@@ -58,31 +70,32 @@ public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
     {
     	super.genDecorations(biome);
     	
-    	BOPBiome bopBiome = (BOPBiome)biome;
-    	
-    	for (String featureName : bopFeatures.getFeatureNames())
-    	{
-            if (featureName.equals("bopFlowersPerChunk"))
-            {
-                if (!TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, FLOWERS)) continue;
-            }
-            else if (featureName.equals("bopGrassPerChunk"))
-            {
-                if (!TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, GRASS)) continue;
-            }
+    	this.genBOPFeatures((BOPBiome)biome);
+    }
 
-            WorldGenFieldAssociation.WorldFeature worldFeature = WorldGenFieldAssociation.getAssociatedFeature(featureName);
+    protected void genBOPFeatures(BOPBiome biome)
+    {
+        DecorationPlan plan = this.getDecorationPlan();
 
-            if (worldFeature != null)
-            {
-                IBOPWorldGenerator worldGenerator = worldFeature.getBOPWorldGenerator();
+        for (int i = 0; i < plan.size(); i++)
+        {
+            EventType eventType = plan.getEventType(i);
 
-                if (worldGenerator != null)
-                {
-                    worldGenerator.setupGeneration(currentWorld, randomGenerator, bopBiome, featureName, chunk_X, chunk_Z);
-                }
-            }
-    	}
+            if (eventType != null && !TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, eventType)) continue;
+
+            DecorationGuard.setFeature(plan.getFeatureName(i));
+            plan.getWorldGenerator(i).setupGeneration(currentWorld, randomGenerator, biome, plan.getFeatureName(i), plan.getAmountPerChunk(i), chunk_X, chunk_Z);
+        }
+    }
+
+    public DecorationPlan getDecorationPlan()
+    {
+        if (this.decorationPlan == null)
+        {
+            this.decorationPlan = DecorationPlan.compile(this.bopFeatures);
+        }
+
+        return this.decorationPlan;
     }
     
     public static <T extends WorldGenerator> T getRandomWeightedWorldGenerator(HashMap<T, ? extends Number> worldGeneratorMap)
@@ -91,7 +104,7 @@ public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
 
         for (Number weight : worldGeneratorMap.values())
         {
-            completeWeight += Double.parseDouble(weight.toString());
+            completeWeight += weight.doubleValue();
         }
 
         double random = Math.random() * completeWeight;
@@ -99,7 +112,7 @@ public class BOPBiomeDecorator<T extends BiomeFeatures> extends BiomeDecorator
 
         for (Map.Entry<T, ? extends Number> entry : worldGeneratorMap.entrySet())
         {
-            countWeight += Double.parseDouble(entry.getValue().toString());
+            countWeight += entry.getValue().doubleValue();
 
             if (countWeight >= random) return entry.getKey();
         }
@@ -7,6 +7,7 @@ import java.lang.annotation.Target;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 
 import net.minecraft.world.gen.feature.WorldGenerator;
 import biomesoplenty.api.exception.FeatureExistsException;
@@ -14,8 +15,9 @@ import biomesoplenty.api.exception.NoSuchFeatureException;
 
 public class BiomeFeatures 
 {
-    public HashMap<WorldGenerator, Double> weightedGrassGen = new HashMap<WorldGenerator, Double>();
-    public HashMap<WorldGenerator, Integer> weightedFlowerGen = new HashMap<WorldGenerator, Integer>();
+    //Linked so that the order generators are picked from doesn't depend on their identity hash codes
+    public HashMap<WorldGenerator, Double> weightedGrassGen = new LinkedHashMap<WorldGenerator, Double>();
+    public HashMap<WorldGenerator, Integer> weightedFlowerGen = new LinkedHashMap<WorldGenerator, Integer>();
 	
     private ArrayList<String> features = new ArrayList<String>();
 	
@@ -49,6 +51,22 @@ public class BiomeFeatures
 		}
     }
 	
+    public int getFeatureAmount(String featureName)
+    {
+        Object feature = this.getFeature(featureName);
+
+        if (feature instanceof Boolean)
+        {
+            return (Boolean)feature ? 1 : 0;
+        }
+        else if (feature instanceof Integer)
+        {
+            return (Integer)feature;
+        }
+
+        throw new NoSuchFeatureException(featureName);
+    }
+	
     public ArrayList<String> getFeatureNames()
     {
         return features;
@@ -0,0 +1,278 @@
+package biomesoplenty.client.fog;
+
+import java.util.ArrayList;
+
+import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
+
+/**
+ * Holds the fog density and colour of every column in a square around the player in a ring buffer.
+ * When the player moves by a block only the row or column that scrolls in is sampled, and running
+ * totals are kept so that the edge weighted sums used for blending can be found without a loop.
+ * 
+ * Columns are sampled at the height the player was at when they entered the field. Columns in chunks
+ * that load while they are in the field are sampled again, as until then they only held placeholder biomes.
+ */
+public class FogField 
+{
+	public static final int DENSITY = 0;
+	public static final int WEIGHT = 1;
+	public static final int RED = 2;
+	public static final int GREEN = 3;
+	public static final int BLUE = 4;
+	
+	private static final int CHANNELS = 5;
+	
+	//Indices into edgeSums
+	private static final int MIN_X = 0;
+	private static final int MAX_X = 1;
+	private static final int MIN_Z = 2;
+	private static final int MAX_Z = 3;
+	
+	private final int radius;
+	private final int size;
+	
+	private final float[][] values;
+	private final double[] totals = new double[CHANNELS];
+	private final double[][] edgeSums = new double[CHANNELS][4];
+	private final float[][] cornerValues = new float[CHANNELS][4];
+	
+	private World world;
+	private int centerX;
+	private int centerZ;
+	private boolean filled = false;
+	
+	/** Chunks that have loaded since the last update, as (x, z) pairs */
+	private final ArrayList<int[]> loadedChunks = new ArrayList<int[]>();
+	
+	public FogField(int radius)
+	{
+		this.radius = radius;
+		this.size = radius * 2 + 1;
+		this.values = new float[CHANNELS][size * size];
+	}
+	
+	public int getRadius()
+	{
+		return radius;
+	}
+	
+	/**
+	 * Moves the field to be centred on the given column, sampling any columns that have come into range.
+	 */
+	public void update(World world, int x, int y, int z)
+	{
+		if (filled && world == this.world && x == centerX && z == centerZ && loadedChunks.isEmpty()) return;
+		
+		if (!filled || world != this.world || Math.abs(x - centerX) >= size || Math.abs(z - centerZ) >= size)
+		{
+			this.world = world;
+			this.fill(x, y, z);
+		}
+		else
+		{
+			//The column leaving the field on one side shares its slot with the one entering on the other
+			while (centerX < x)
+			{
+				this.replaceColumn(centerX + radius + 1, y);
+				centerX++;
+			}
+			
+			while (centerX > x)
+			{
+				this.replaceColumn(centerX - radius - 1, y);
+				centerX--;
+			}
+			
+			while (centerZ < z)
+			{
+				this.replaceRow(centerZ + radius + 1, y);
+				centerZ++;
+			}
+			
+			while (centerZ > z)
+			{
+				this.replaceRow(centerZ - radius - 1, y);
+				centerZ--;
+			}
+			
+			for (int[] chunk : loadedChunks)
+			{
+				this.resampleChunk(chunk[0], chunk[1], y);
+			}
+		}
+		
+		loadedChunks.clear();
+		this.updateEdges();
+	}
+	
+	/**
+	 * Forgets the world the field was sampled from, so that it can be unloaded. The field is refilled when next updated.
+	 */
+	public void clear()
+	{
+		this.world = null;
+		this.filled = false;
+		this.loadedChunks.clear();
+	}
+	
+	/**
+	 * Marks the columns of a chunk that has just loaded to be sampled again on the next update. The chunk's
+	 * biomes may not have arrived yet when it is loaded, so they aren't sampled straight away.
+	 */
+	public void onChunkLoaded(int chunkX, int chunkZ)
+	{
+		if (!filled) return;
+		
+		//Chunks outside the field are sampled as they scroll into it
+		if ((chunkX << 4) + 15 < centerX - radius || (chunkX << 4) > centerX + radius || (chunkZ << 4) + 15 < centerZ - radius || (chunkZ << 4) > centerZ + radius) return;
+		
+		loadedChunks.add(new int[] {chunkX, chunkZ});
+	}
+	
+	private void resampleChunk(int chunkX, int chunkZ, int y)
+	{
+		int minX = Math.max(chunkX << 4, centerX - radius);
+		int maxX = Math.min((chunkX << 4) + 15, centerX + radius);
+		int minZ = Math.max(chunkZ << 4, centerZ - radius);
+		int maxZ = Math.min((chunkZ << 4) + 15, centerZ + radius);
+		
+		for (int x = minX; x <= maxX; x++)
+		{
+			for (int z = minZ; z <= maxZ; z++)
+			{
+				this.sample(x, y, z);
+			}
+		}
+	}
+	
+	private void fill(int x, int y, int z)
+	{
+		centerX = x;
+		centerZ = z;
+		filled = true;
+		
+		for (int channel = 0; channel < CHANNELS; channel++)
+		{
+			totals[channel] = 0D;
+		}
+		
+		for (int xi = x - radius; xi <= x + radius; xi++)
+		{
+			for (int zi = z - radius; zi <= z + radius; zi++)
+			{
+				this.sample(xi, y, zi);
+			}
+		}
+	}
+	
+	private void replaceColumn(int x, int y)
+	{
+		for (int z = centerZ - radius; z <= centerZ + radius; z++)
+		{
+			this.sample(x, y, z);
+		}
+	}
+	
+	private void replaceRow(int z, int y)
+	{
+		for (int x = centerX - radius; x <= centerX + radius; x++)
+		{
+			this.sample(x, y, z);
+		}
+	}
+	
+	private void sample(int x, int y, int z)
+	{
+		int index = this.getIndex(x, z);
+		BiomeGenBase biome = world.getBiomeGenForCoords(x, z);
+		
+		for (int channel = 0; channel < CHANNELS; channel++)
+		{
+			totals[channel] -= values[channel][index];
+		}
+		
+		if (biome instanceof IBiomeFog)
+		{
+			IBiomeFog biomeFog = (IBiomeFog)biome;
+			int fogColour = biomeFog.getFogColour(x, y, z);
+			
+			values[DENSITY][index] = biomeFog.getFogDensity(x, y, z);
+			values[WEIGHT][index] = 1F;
+			values[RED][index] = (fogColour & 0xFF0000) >> 16;
+			values[GREEN][index] = (fogColour & 0x00FF00) >> 8;
+			values[BLUE][index] = fogColour & 0x0000FF;
+		}
+		else
+		{
+			for (int channel = 0; channel < CHANNELS; channel++)
+			{
+				values[channel][index] = 0F;
+			}
+		}
+		
+		for (int channel = 0; channel < CHANNELS; channel++)
+		{
+			totals[channel] += values[channel][index];
+		}
+	}
+	
+	private void updateEdges()
+	{
+		int minX = centerX - radius;
+		int maxX = centerX + radius;
+		int minZ = centerZ - radius;
+		int maxZ = centerZ + radius;
+		
+		for (int channel = 0; channel < CHANNELS; channel++)
+		{
+			float[] channelValues = values[channel];
+			double[] channelEdgeSums = edgeSums[channel];
+			
+			channelEdgeSums[MIN_X] = channelEdgeSums[MAX_X] = channelEdgeSums[MIN_Z] = channelEdgeSums[MAX_Z] = 0D;
+			
+			for (int i = -radius; i <= radius; i++)
+			{
+				channelEdgeSums[MIN_X] += channelValues[this.getIndex(minX, centerZ + i)];
+				channelEdgeSums[MAX_X] += channelValues[this.getIndex(maxX, centerZ + i)];
+				channelEdgeSums[MIN_Z] += channelValues[this.getIndex(centerX + i, minZ)];
+				channelEdgeSums[MAX_Z] += channelValues[this.getIndex(centerX + i, maxZ)];
+			}
+			
+			cornerValues[channel][0] = channelValues[this.getIndex(minX, minZ)];
+			cornerValues[channel][1] = channelValues[this.getIndex(maxX, minZ)];
+			cornerValues[channel][2] = channelValues[this.getIndex(minX, maxZ)];
+			cornerValues[channel][3] = channelValues[this.getIndex(maxX, maxZ)];
+		}
+	}
+	
+	/**
+	 * Returns the sum of a channel over the field, with the columns on the edges weighted by how far
+	 * the player is into their block, as (1 - fracX) on the low x edge and fracX on the high x edge.
+	 */
+	public float getWeightedSum(int channel, double fracX, double fracZ)
+	{
+		double[] channelEdgeSums = edgeSums[channel];
+		float[] channelCorners = cornerValues[channel];
+		
+		//Subtract the part of each edge that is cut off, then add back the corners which were subtracted twice
+		double sum = totals[channel];
+		
+		sum -= fracX * channelEdgeSums[MIN_X] + (1 - fracX) * channelEdgeSums[MAX_X];
+		sum -= fracZ * channelEdgeSums[MIN_Z] + (1 - fracZ) * channelEdgeSums[MAX_Z];
+		sum += fracX * fracZ * channelCorners[0] + (1 - fracX) * fracZ * channelCorners[1] + fracX * (1 - fracZ) * channelCorners[2] + (1 - fracX) * (1 - fracZ) * channelCorners[3];
+		
+		return (float)sum;
+	}
+	
+	private int getIndex(int x, int z)
+	{
+		int xi = x % size;
+		int zi = z % size;
+		
+		if (xi < 0) xi += size;
+		if (zi < 0) zi += size;
+		
+		return xi + zi * size;
+	}
+}
@@ -18,6 +18,8 @@ import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraftforge.client.event.EntityViewRenderEvent;
 import net.minecraftforge.client.event.EntityViewRenderEvent.FogColors;
 import net.minecraftforge.common.ForgeModContainer;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 
 import org.lwjgl.opengl.GL11;
 
@@ -64,10 +66,8 @@ public class FogHandler
 		}
 	}
 
-    private static double fogX, fogZ;
-
-    private static boolean fogInit;
-    private static float fogFarPlaneDistance;
+	private static FogField densityField = new FogField(20);
+	private static FogField colourField;
 	
 	@SubscribeEvent
 	public void onRenderFog(EntityViewRenderEvent.RenderFogEvent event)
@@ -79,60 +79,14 @@ public class FogHandler
         int playerY = MathHelper.floor_double(entity.posY);
         int playerZ = MathHelper.floor_double(entity.posZ);
         
-        if (playerX == fogX && playerZ == fogZ && fogInit)
-        {
-    		renderFog(event.fogMode, fogFarPlaneDistance, 0.75f);
-        	return;
-        }
-        
-        fogInit = true;
-        
-        int distance = 20;
+        densityField.update(world, playerX, playerY, playerZ);
         
-        float fpDistanceBiomeFog = 0F;
-		float weightBiomeFog = 0;
+        int distance = densityField.getRadius();
+        double fracX = entity.posX - playerX;
+        double fracZ = entity.posZ - playerZ;
         
-		for (int x = -distance; x <= distance; ++x)
-		{
-			for (int z = -distance; z <= distance; ++z)
-			{
-				BiomeGenBase biome = world.getBiomeGenForCoords(playerX + x, playerZ + z);
-				if (biome instanceof IBiomeFog)
-                {
-					float distancePart = ((IBiomeFog)biome).getFogDensity(playerX + x, playerY, playerZ + z);
-					float weightPart = 1;
-
-					if (x == -distance)
-					{
-						double xDiff = 1 - (entity.posX - playerX);
-						distancePart *= xDiff;
-						weightPart *= xDiff;
-					}
-					else if (x == distance)
-					{
-						double xDiff = (entity.posX - playerX);
-						distancePart *= xDiff;
-						weightPart *= xDiff;
-					}
-
-					if (z == -distance)
-					{
-						double zDiff = 1 - (entity.posZ - playerZ);
-						distancePart *= zDiff;
-						weightPart *= zDiff;
-					}
-					else if (z == distance)
-					{
-						double zDiff = (entity.posZ - playerZ);
-						distancePart *= zDiff;
-						weightPart *= zDiff;
-					}
-
-					fpDistanceBiomeFog += distancePart;
-					weightBiomeFog += weightPart;
-                }
-			}
-		}
+        float fpDistanceBiomeFog = densityField.getWeightedSum(FogField.DENSITY, fracX, fracZ);
+		float weightBiomeFog = densityField.getWeightedSum(FogField.WEIGHT, fracX, fracZ);
 
 		float weightMixed = (distance * 2) * (distance * 2);
 		float weightDefault = weightMixed - weightBiomeFog;
@@ -143,11 +97,29 @@ public class FogHandler
 		float farPlaneDistanceScaleBiome = (0.1f * (1 - fpDistanceBiomeFogAvg) + 0.75f * fpDistanceBiomeFogAvg);
 		float farPlaneDistanceScale = (farPlaneDistanceScaleBiome * weightBiomeFog + 0.75f * weightDefault) / weightMixed;
 
-		fogX = entity.posX;
-		fogZ = entity.posZ;
-        fogFarPlaneDistance = Math.min(farPlaneDistance, event.farPlaneDistance);
-
-		renderFog(event.fogMode, fogFarPlaneDistance, farPlaneDistanceScale);
+		renderFog(event.fogMode, Math.min(farPlaneDistance, event.farPlaneDistance), farPlaneDistanceScale);
+	}
+	
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event)
+	{
+		if (event.world.isRemote)
+		{
+			densityField.onChunkLoaded(event.getChunk().xPosition, event.getChunk().zPosition);
+			
+			if (colourField != null) colourField.onChunkLoaded(event.getChunk().xPosition, event.getChunk().zPosition);
+		}
+	}
+	
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		if (event.world.isRemote)
+		{
+			densityField.clear();
+			
+			if (colourField != null) colourField.clear();
+		}
 	}
 	
 	private static void renderFog(int fogMode, float farPlaneDistance, float farPlaneDistanceScale)
@@ -292,69 +264,26 @@ public class FogHandler
 			distance = ranges[settings.renderDistanceChunks];
 		}
 
-		float rBiomeFog = 0;
-		float gBiomeFog = 0;
-		float bBiomeFog = 0;
-		float weightBiomeFog = 0;
-
-		for (int x = -distance; x <= distance; ++x)
+		if (distance == 0)
 		{
-			for (int z = -distance; z <= distance; ++z)
-			{
-				BiomeGenBase biome = world.getBiomeGenForCoords(playerX + x, playerZ + z);
+			return Vec3.createVectorHelper(defR, defG, defB);
+		}
 
-				if (biome instanceof IBiomeFog)
-				{
-					IBiomeFog biomeFog = (IBiomeFog)biome;
-					int fogColour = biomeFog.getFogColour(playerX + x, playerY, playerZ + z);
-
-					float rPart = (fogColour & 0xFF0000) >> 16;
-					float gPart = (fogColour & 0x00FF00) >> 8;
-					float bPart = fogColour & 0x0000FF;
-					float weightPart = 1;
-
-					if (x == -distance)
-					{
-						double xDiff = 1 - (playerEntity.posX - playerX);
-						rPart *= xDiff;
-						gPart *= xDiff;
-						bPart *= xDiff;
-						weightPart *= xDiff;
-					}
-					else if (x == distance)
-					{
-						double xDiff = playerEntity.posX - playerX;
-						rPart *= xDiff;
-						gPart *= xDiff;
-						bPart *= xDiff;
-						weightPart *= xDiff;
-					}
-
-					if (z == -distance)
-					{
-						double zDiff = 1 - (playerEntity.posZ - playerZ);
-						rPart *= zDiff;
-						gPart *= zDiff;
-						bPart *= zDiff;
-						weightPart *= zDiff;
-					}
-					else if (z == distance)
-					{
-						double zDiff = playerEntity.posZ - playerZ;
-						rPart *= zDiff;
-						gPart *= zDiff;
-						bPart *= zDiff;
-						weightPart *= zDiff;
-					}
-
-					rBiomeFog += rPart;
-					gBiomeFog += gPart;
-					bBiomeFog += bPart;
-					weightBiomeFog += weightPart;
-				}
-			}
+		if (colourField == null || colourField.getRadius() != distance)
+		{
+			colourField = new FogField(distance);
 		}
 
+		colourField.update(world, playerX, playerY, playerZ);
+
+		double fracX = playerEntity.posX - playerX;
+		double fracZ = playerEntity.posZ - playerZ;
+
+		float rBiomeFog = colourField.getWeightedSum(FogField.RED, fracX, fracZ);
+		float gBiomeFog = colourField.getWeightedSum(FogField.GREEN, fracX, fracZ);
+		float bBiomeFog = colourField.getWeightedSum(FogField.BLUE, fracX, fracZ);
+		float weightBiomeFog = colourField.getWeightedSum(FogField.WEIGHT, fracX, fracZ);
+
 		if (weightBiomeFog == 0 || distance == 0)
 		{
 			return Vec3.createVectorHelper(defR, defG, defB);
@@ -0,0 +1,213 @@
+package biomesoplenty.client.utils;
+
+import java.util.HashMap;
+
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.biome.BiomeGenBase;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Biome colours for the loaded client chunks, worked out once per chunk section rather than for every block
+ * that is coloured while the section's mesh is built. Each section holds 16x16 planes of foliage and grass
+ * colours, along with the foliage colours blended with the eight surrounding columns.
+ *
+ * Colours are taken at the middle of each section, as above sea level they only change slightly with height.
+ * A chunk's planes are dropped whenever it or one of its neighbours is loaded or unloaded, which is also when
+ * the server sends new biomes for it.
+ */
+@SideOnly(Side.CLIENT)
+public class BiomeColourCache
+{
+    private static final int FOLIAGE = 0;
+    private static final int GRASS = 1;
+    private static final int BLENDED_FOLIAGE = 2;
+
+    private static final HashMap<Long, ChunkColours> chunkColours = new HashMap<Long, ChunkColours>();
+
+    /** Meshes are built a block at a time, so most lookups are for the same chunk as the last */
+    private static ChunkColours lastChunk;
+
+    public static int getFoliageColour(IBlockAccess world, int x, int y, int z)
+    {
+        return getPlane(world, x, y, z, FOLIAGE)[(z & 15) << 4 | (x & 15)];
+    }
+
+    public static int getGrassColour(IBlockAccess world, int x, int y, int z)
+    {
+        return getPlane(world, x, y, z, GRASS)[(z & 15) << 4 | (x & 15)];
+    }
+
+    /**
+     * Gets the average foliage colour of the given column and the eight around it.
+     */
+    public static int getBlendedFoliageColour(IBlockAccess world, int x, int y, int z)
+    {
+        return getPlane(world, x, y, z, BLENDED_FOLIAGE)[(z & 15) << 4 | (x & 15)];
+    }
+
+    /**
+     * Forgets the colours of the given chunk and its neighbours, whose blended colours may have been taken from it.
+     */
+    public static synchronized void invalidate(int chunkX, int chunkZ)
+    {
+        if (chunkColours.isEmpty()) return;
+
+        for (int offsetX = -1; offsetX <= 1; offsetX++)
+        {
+            for (int offsetZ = -1; offsetZ <= 1; offsetZ++)
+            {
+                chunkColours.remove(getChunkKey(chunkX + offsetX, chunkZ + offsetZ));
+            }
+        }
+
+        lastChunk = null;
+    }
+
+    public static synchronized void clear()
+    {
+        chunkColours.clear();
+        lastChunk = null;
+    }
+
+    private static synchronized int[] getPlane(IBlockAccess world, int x, int y, int z, int type)
+    {
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        ChunkColours chunk = lastChunk;
+
+        if (chunk == null || chunk.chunkX != chunkX || chunk.chunkZ != chunkZ)
+        {
+            Long key = getChunkKey(chunkX, chunkZ);
+
+            chunk = chunkColours.get(key);
+
+            if (chunk == null)
+            {
+                chunk = new ChunkColours(chunkX, chunkZ);
+                chunkColours.put(key, chunk);
+            }
+
+            lastChunk = chunk;
+        }
+
+        return chunk.getPlane(world, (y >> 4) & 15, type);
+    }
+
+    private static Long getChunkKey(int chunkX, int chunkZ)
+    {
+        return Long.valueOf((long)chunkX & 4294967295L | ((long)chunkZ & 4294967295L) << 32);
+    }
+
+    private static class ChunkColours
+    {
+        public final int chunkX;
+        public final int chunkZ;
+
+        /** The planes of each section, indexed by section then type, each filled in when first needed */
+        private final int[][][] planes = new int[16][][];
+
+        public ChunkColours(int chunkX, int chunkZ)
+        {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        public int[] getPlane(IBlockAccess world, int sectionY, int type)
+        {
+            int[][] sectionPlanes = planes[sectionY];
+
+            if (sectionPlanes == null)
+            {
+                sectionPlanes = new int[3][];
+                planes[sectionY] = sectionPlanes;
+            }
+
+            if (sectionPlanes[type] == null)
+            {
+                int y = (sectionY << 4) + 8;
+
+                switch (type)
+                {
+                    case FOLIAGE:
+                        sectionPlanes[FOLIAGE] = this.buildPlane(world, y, false);
+                        break;
+
+                    case GRASS:
+                        sectionPlanes[GRASS] = this.buildPlane(world, y, true);
+                        break;
+
+                    default:
+                        sectionPlanes[BLENDED_FOLIAGE] = this.buildBlendedPlane(world, y);
+                        break;
+                }
+            }
+
+            return sectionPlanes[type];
+        }
+
+        private int[] buildPlane(IBlockAccess world, int y, boolean grass)
+        {
+            int[] plane = new int[256];
+            int baseX = chunkX << 4;
+            int baseZ = chunkZ << 4;
+
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    BiomeGenBase biome = world.getBiomeGenForCoords(baseX + x, baseZ + z);
+
+                    plane[z << 4 | x] = grass ? biome.getBiomeGrassColor(baseX + x, y, baseZ + z) : biome.getBiomeFoliageColor(baseX + x, y, baseZ + z);
+                }
+            }
+
+            return plane;
+        }
+
+        private int[] buildBlendedPlane(IBlockAccess world, int y)
+        {
+            int baseX = chunkX << 4;
+            int baseZ = chunkZ << 4;
+
+            //The foliage colours of this chunk with a border of one column from each of its neighbours
+            int[] border = new int[18 * 18];
+
+            for (int z = 0; z < 18; z++)
+            {
+                for (int x = 0; x < 18; x++)
+                {
+                    border[z * 18 + x] = world.getBiomeGenForCoords(baseX + x - 1, baseZ + z - 1).getBiomeFoliageColor(baseX + x - 1, y, baseZ + z - 1);
+                }
+            }
+
+            int[] plane = new int[256];
+
+            for (int z = 0; z < 16; z++)
+            {
+                for (int x = 0; x < 16; x++)
+                {
+                    int red = 0;
+                    int green = 0;
+                    int blue = 0;
+
+                    for (int offsetZ = 0; offsetZ <= 2; offsetZ++)
+                    {
+                        for (int offsetX = 0; offsetX <= 2; offsetX++)
+                        {
+                            int colour = border[(z + offsetZ) * 18 + x + offsetX];
+
+                            red += (colour & 16711680) >> 16;
+                            green += (colour & 65280) >> 8;
+                            blue += colour & 255;
+                        }
+                    }
+
+                    plane[z << 4 | x] = (red / 9 & 255) << 16 | (green / 9 & 255) << 8 | blue / 9 & 255;
+                }
+            }
+
+            return plane;
+        }
+    }
+}
@@ -2,11 +2,14 @@ package biomesoplenty.common.armor;
 
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemArmor;
 import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.BOPItemHelper;
 import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.common.helpers.EntityEffectTracker;
 
 public class ItemFlippers extends ItemArmor
 {
@@ -31,6 +34,12 @@ public class ItemFlippers extends ItemArmor
 		return null;
 	}
 
+	@Override
+	public void onArmorTick(World world, EntityPlayer player, ItemStack itemStack)
+	{
+		EntityEffectTracker.track(player);
+	}
+
 	@Override
 	public void registerIcons(IIconRegister iconRegister)
 	{
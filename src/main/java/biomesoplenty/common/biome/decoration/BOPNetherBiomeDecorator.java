@@ -4,8 +4,6 @@ import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.Ev
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.CACTUS;
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.CLAY;
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.DEAD_BUSH;
-import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.FLOWERS;
-import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.GRASS;
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.LAKE;
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.LILYPAD;
 import static net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType.PUMPKIN;
@@ -28,8 +26,6 @@ import net.minecraftforge.event.terraingen.DecorateBiomeEvent;
 import net.minecraftforge.event.terraingen.TerrainGen;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.biome.BOPBiomeDecorator;
-import biomesoplenty.common.world.generation.IBOPWorldGenerator;
-import biomesoplenty.common.world.generation.WorldGenFieldAssociation;
 
 public class BOPNetherBiomeDecorator extends BOPBiomeDecorator<NetherBiomeFeatures>
 {
@@ -72,29 +68,7 @@ public class BOPNetherBiomeDecorator extends BOPBiomeDecorator<NetherBiomeFeatur
             }
         }
 
-    	for (String featureName : bopFeatures.getFeatureNames())
-    	{
-            if (featureName.equals("bopFlowersPerChunk"))
-            {
-                if (!TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, FLOWERS)) continue;
-            }
-            else if (featureName.equals("bopGrassPerChunk"))
-            {
-                if (!TerrainGen.decorate(currentWorld, randomGenerator, chunk_X, chunk_Z, GRASS)) continue;
-            }
-
-            WorldGenFieldAssociation.WorldFeature worldFeature = WorldGenFieldAssociation.getAssociatedFeature(featureName);
-
-            if (worldFeature != null)
-            {
-                IBOPWorldGenerator worldGenerator = worldFeature.getBOPWorldGenerator();
-
-                if (worldGenerator != null)
-                {
-                    worldGenerator.setupGeneration(currentWorld, randomGenerator, bopBiome, featureName, chunk_X, chunk_Z);
-                }
-            }
-    	}
+        this.genBOPFeatures(bopBiome);
 
         MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Post(currentWorld, randomGenerator, chunk_X, chunk_Z));
     }
@@ -12,6 +12,8 @@ import biomesoplenty.common.world.features.trees.WorldGenMiniShrub;
 
 public class BiomeGenUndergarden extends BOPNetherBiome
 {
+    private final WorldGenAbstractTree miniShrub = new WorldGenMiniShrub(BOPCBlocks.logs4, BOPCBlocks.leaves4, 1, 0, BOPCBlocks.overgrownNetherrack);
+
     public BiomeGenUndergarden(int id)
     {
         super(id);
@@ -47,6 +49,6 @@ public class BiomeGenUndergarden extends BOPNetherBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return new WorldGenMiniShrub(BOPCBlocks.logs4, BOPCBlocks.leaves4, 1, 0, BOPCBlocks.overgrownNetherrack);
+		return miniShrub;
 	}
 }
@@ -19,6 +19,9 @@ import biomesoplenty.common.world.features.trees.WorldGenBulbTree;
 public class BiomeGenBambooForest extends BOPOverworldBiome implements IBiomeFog
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.3F);
+
+	private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
+	private final WorldGenAbstractTree bulbTree = new WorldGenBulbTree(BOPCBlocks.bamboo, BOPCBlocks.leaves1, 0, 1, false, 10, 12, false);
 	
 	public BiomeGenBambooForest(int id)
 	{
@@ -74,7 +77,7 @@ public class BiomeGenBambooForest extends BOPOverworldBiome implements IBiomeFog
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(3) == 0 ? new WorldGenShrub(0, 0) : new WorldGenBulbTree(BOPCBlocks.bamboo, BOPCBlocks.leaves1, 0, 1, false, 10, 12, false);
+		return random.nextInt(3) == 0 ? shrub : bulbTree;
 	}
 
 	@Override
@@ -22,6 +22,10 @@ public class BiomeGenBayou extends BOPOverworldBiome implements IBiomeFog
 {
     private static final Height biomeHeight = new Height(-0.1F, 0.1F);
 
+    private final WorldGenAbstractTree bayou3Tree = new WorldGenBayou3(BOPCBlocks.logs3, 1);
+    private final WorldGenAbstractTree bayou1Tree = new WorldGenBayou1(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0);
+    private final WorldGenAbstractTree bayou2Tree = new WorldGenBayou2(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0);
+
 	public BiomeGenBayou(int id)
 	{
 		super(id);
@@ -69,9 +73,9 @@ public class BiomeGenBayou extends BOPOverworldBiome implements IBiomeFog
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(8) == 0 ? new WorldGenBayou3(BOPCBlocks.logs3, 1) : 
-		(random.nextInt(2) == 0 ? new WorldGenBayou1(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0) : 
-		new WorldGenBayou2(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0));
+		return random.nextInt(8) == 0 ? bayou3Tree : 
+		(random.nextInt(2) == 0 ? bayou1Tree : 
+		bayou2Tree);
 	}
 
 	@Override
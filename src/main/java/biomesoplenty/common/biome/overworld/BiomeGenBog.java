@@ -19,6 +19,10 @@ import biomesoplenty.common.world.features.trees.WorldGenCypress;
 public class BiomeGenBog extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.2F);
+
+    private final WorldGenAbstractTree cypressTree1 = new WorldGenCypress(Blocks.log2, Blocks.leaves2, 1, 1, false, 8, 5, 0);
+    private final WorldGenAbstractTree cypressTree2 = new WorldGenCypress(Blocks.log, Blocks.leaves, 2, 2, false, 4, 4, 1);
+    private final WorldGenAbstractTree bogBush = new WorldGenBogBush();
     
     public BiomeGenBog(int id)
     {
@@ -88,7 +92,7 @@ public class BiomeGenBog extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(3) == 0 ? new WorldGenCypress(Blocks.log2, Blocks.leaves2, 1, 1, false, 8, 5, 0) : (random.nextInt(6) == 0 ? new WorldGenCypress(Blocks.log, Blocks.leaves, 2, 2, false, 4, 4, 1) : new WorldGenBogBush());
+        return random.nextInt(3) == 0 ? cypressTree1 : (random.nextInt(6) == 0 ? cypressTree2 : bogBush);
     }
 
     @Override
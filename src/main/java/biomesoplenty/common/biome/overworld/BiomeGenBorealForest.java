@@ -21,6 +21,12 @@ import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 public class BiomeGenBorealForest extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.2F, 0.4F);
+
+	private final WorldGenAbstractTree originalTree1 = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 3);
+	private final WorldGenAbstractTree originalTree2 = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 8, 2, false);
+	private final WorldGenAbstractTree shrub = new WorldGenShrub(0,0);
+	private final WorldGenAbstractTree originalTree3 = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves1, 2, 0, false, 5, 3, false);
+	private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 13, 9, 2, 4);
 	
 	public BiomeGenBorealForest(int id)
 	{
@@ -56,8 +62,8 @@ public class BiomeGenBorealForest extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(15) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 3) : (random.nextInt(4) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 8, 2, false) : (random.nextInt(5) == 0 ? new WorldGenShrub(0,0) : (random.nextInt(3) == 0 ? new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves1, 2, 0, false, 5, 3, false) : 
-		(random.nextInt(3) == 0 ? worldGeneratorTrees : new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 13, 9, 2, 4)))));
+		return random.nextInt(15) == 0 ? originalTree1 : (random.nextInt(4) == 0 ? originalTree2 : (random.nextInt(5) == 0 ? shrub : (random.nextInt(3) == 0 ? originalTree3 : 
+		(random.nextInt(3) == 0 ? worldGeneratorTrees : taiga2Tree))));
 	}
 	
 	@Override
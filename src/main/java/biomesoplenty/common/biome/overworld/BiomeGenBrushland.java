@@ -19,6 +19,10 @@ import biomesoplenty.common.world.features.trees.WorldGenMiniShrub;
 public class BiomeGenBrushland extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.2F);
+
+	private final WorldGenAbstractTree brush2Tree = new WorldGenBrush2(Blocks.log, Blocks.leaves, 3, 0, Blocks.grass);
+	private final WorldGenAbstractTree brush1Tree = new WorldGenBrush1();
+	private final WorldGenAbstractTree miniShrub = new WorldGenMiniShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass, Blocks.sand);
 	
 	public BiomeGenBrushland(int id)
 	{
@@ -50,7 +54,7 @@ public class BiomeGenBrushland extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(2) == 0 ? new WorldGenBrush2(Blocks.log, Blocks.leaves, 3, 0, Blocks.grass) : (random.nextInt(5) == 0 ?  new WorldGenBrush1() : new WorldGenMiniShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass, Blocks.sand));
+		return random.nextInt(2) == 0 ? brush2Tree : (random.nextInt(5) == 0 ?  brush1Tree : miniShrub);
 	}
 	
 	@Override
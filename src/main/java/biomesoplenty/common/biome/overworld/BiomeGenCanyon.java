@@ -18,6 +18,9 @@ public class BiomeGenCanyon extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(5.0F, 0.025F);
 
+	private final WorldGenAbstractTree pineTree = new WorldGenPineTree();
+	private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(Blocks.log2, Blocks.leaves2, 0, 0, 64, 256, BOPCBlocks.hardDirt);
+
 	public BiomeGenCanyon(int id)
 	{
 		super(id);
@@ -47,7 +50,7 @@ public class BiomeGenCanyon extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(5) == 0 ? new WorldGenPineTree() : new WorldGenBOPShrub(Blocks.log2, Blocks.leaves2, 0, 0, 64, 256, BOPCBlocks.hardDirt);
+		return random.nextInt(5) == 0 ? pineTree : shrub;
 	}
 	
 	@Override
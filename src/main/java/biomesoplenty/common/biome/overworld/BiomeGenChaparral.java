@@ -22,6 +22,10 @@ public class BiomeGenChaparral extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.2F, 0.3F);
 
+    private final WorldGenAbstractTree miniShrub = new WorldGenMiniShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass, Blocks.sand);
+    private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass, Blocks.sand);
+    private final WorldGenAbstractTree chaparral3Tree = new WorldGenChaparral3();
+
     public BiomeGenChaparral(int id)
     {
         super(id);
@@ -62,7 +66,7 @@ public class BiomeGenChaparral extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(2) == 0 ? new WorldGenMiniShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass, Blocks.sand) : (random.nextInt(5) == 0 ?  new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass, Blocks.sand) : new WorldGenChaparral3());
+        return random.nextInt(2) == 0 ? miniShrub : (random.nextInt(5) == 0 ?  shrub : chaparral3Tree);
     }
 
     @Override
@@ -19,6 +19,10 @@ public class BiomeGenCherryBlossomGrove extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.2F);
 
+	private final WorldGenAbstractTree mixedTree = new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3, 2);
+	private final WorldGenAbstractTree bigTree1 = new WorldGenBOPBigTree(BOPCBlocks.logs1, BOPCBlocks.leaves3, 1, 3);
+	private final WorldGenAbstractTree bigTree2 = new WorldGenBOPBigTree(BOPCBlocks.logs1, BOPCBlocks.leaves3, 1, 1);
+
 	public BiomeGenCherryBlossomGrove(int id)
 	{
 		super(id);
@@ -54,7 +58,7 @@ public class BiomeGenCherryBlossomGrove extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(15) == 0 ? new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3, 2) : (random.nextInt(3) == 0 ? new WorldGenBOPBigTree(BOPCBlocks.logs1, BOPCBlocks.leaves3, 1, 3) : new WorldGenBOPBigTree(BOPCBlocks.logs1, BOPCBlocks.leaves3, 1, 1));
+		return random.nextInt(15) == 0 ? mixedTree : (random.nextInt(3) == 0 ? bigTree1 : bigTree2);
 	}
 	
 	@Override
@@ -19,6 +19,10 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPTaiga3;
 public class BiomeGenConiferousForestSnow extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.3F);
+
+    private final WorldGenAbstractTree taiga2Tree1 = new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 10, 10, 5, 4);
+    private final WorldGenAbstractTree taiga2Tree2 = new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 20, 15, 4, 4);
+    private final WorldGenAbstractTree taiga3Tree = new WorldGenBOPTaiga3(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 35, 10, 0, 4);
     
     public BiomeGenConiferousForestSnow(int id)
     {
@@ -58,9 +62,9 @@ public class BiomeGenConiferousForestSnow extends BOPOverworldBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(6) == 0 ? new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 10, 10, 5, 4) :
-		(random.nextInt(3) == 0 ? new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 20, 15, 4, 4) : 
-		new WorldGenBOPTaiga3(BOPCBlocks.logs1, BOPCBlocks.leaves2, 3, 1, false, 35, 10, 0, 4));
+		return random.nextInt(6) == 0 ? taiga2Tree1 :
+		(random.nextInt(3) == 0 ? taiga2Tree2 : 
+		taiga3Tree);
 	}
 
     @Override
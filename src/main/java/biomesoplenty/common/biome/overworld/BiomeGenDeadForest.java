@@ -20,6 +20,11 @@ public class BiomeGenDeadForest extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.3F);
 
+	private final WorldGenAbstractTree deadTree = new WorldGenDeadTree();
+	private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 1, 4);
+	private final WorldGenAbstractTree originalTree1 = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, 1);
+	private final WorldGenAbstractTree originalTree2 = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, false, 5, 3, false);
+
 	public BiomeGenDeadForest(int id)
 	{
 		super(id);
@@ -51,9 +56,9 @@ public class BiomeGenDeadForest extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(3) == 0 ? new WorldGenDeadTree() : 
-		(random.nextInt(4) == 0 ? new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 1, 4) : 
-		(random.nextInt(10) == 0? new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, 1) : new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, false, 5, 3, false)));
+		return random.nextInt(3) == 0 ? deadTree : 
+		(random.nextInt(4) == 0 ? taiga2Tree : 
+		(random.nextInt(10) == 0? originalTree1 : originalTree2));
 	}
 	
 	@Override
@@ -18,6 +18,8 @@ import biomesoplenty.common.world.features.trees.WorldGenDeadTree;
 public class BiomeGenDeadSwamp extends BOPOverworldBiome implements IBiomeFog
 {
     private static final Height biomeHeight = new Height(0.0F, 0.1F);
+
+    private final WorldGenAbstractTree deadTree = new WorldGenDeadTree();
     
 	public BiomeGenDeadSwamp(int id)
 	{
@@ -57,7 +59,7 @@ public class BiomeGenDeadSwamp extends BOPOverworldBiome implements IBiomeFog
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenDeadTree();
+        return deadTree;
     }
 	
     @Override
@@ -15,6 +15,10 @@ import biomesoplenty.common.world.features.trees.WorldGenBulbTree;
 
 public class BiomeGenDeciduousForest extends BOPOverworldBiome
 {
+
+	private final WorldGenAbstractTree shrub1 = new WorldGenShrub(2,2);
+	private final WorldGenAbstractTree shrub2 = new WorldGenShrub(0,0);
+	private final WorldGenAbstractTree bulbTree = new WorldGenBulbTree(Blocks.log, Blocks.leaves, 0, 0, false, 10, 15, false);
 	//private static final Height biomeHeight = new Height(); Not set?
 	
 	public BiomeGenDeciduousForest(int id)
@@ -52,7 +56,7 @@ public class BiomeGenDeciduousForest extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(6) == 0 ? new WorldGenShrub(2,2) : (random.nextInt(3) == 0 ? new WorldGenShrub(0,0) : new WorldGenBulbTree(Blocks.log, Blocks.leaves, 0, 0, false, 10, 15, false));
+		return random.nextInt(6) == 0 ? shrub1 : (random.nextInt(3) == 0 ? shrub2 : bulbTree);
 	}
 	
 	
@@ -16,6 +16,9 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPShrub;
 public class BiomeGenDenseForest extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.075F, 0.05F);
+
+    private final WorldGenAbstractTree hugeTree = new WorldGenBOPHugeTree(Blocks.log, Blocks.leaves, 0, 0);
+    private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.dirt, Blocks.grass);
     
     public BiomeGenDenseForest(int id)
     {
@@ -46,7 +49,7 @@ public class BiomeGenDenseForest extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(2) == 0 ? new WorldGenBOPHugeTree(Blocks.log, Blocks.leaves, 0, 0) : new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.dirt, Blocks.grass);
+        return random.nextInt(2) == 0 ? hugeTree : shrub;
     }
 
     @Override
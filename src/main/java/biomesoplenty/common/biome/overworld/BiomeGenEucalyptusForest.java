@@ -19,6 +19,9 @@ import biomesoplenty.common.world.features.trees.WorldGenBulbTree;
 public class BiomeGenEucalyptusForest extends BOPOverworldBiome implements IBiomeFog
 {
     private static final Height biomeHeight = new Height(0.0F, 0.2F);
+
+    private final WorldGenAbstractTree bulbTree = new WorldGenBulbTree(Blocks.log, Blocks.leaves, 3, 3, false, 15, 25, true);
+    private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.dirt, Blocks.grass);
 	
 	public BiomeGenEucalyptusForest(int biomeID)
 	{
@@ -79,7 +82,7 @@ public class BiomeGenEucalyptusForest extends BOPOverworldBiome implements IBiom
 	 @Override
 	 public WorldGenAbstractTree func_150567_a(Random random)
 	 {
-		 return random.nextInt(5) == 0 ? new WorldGenBulbTree(Blocks.log, Blocks.leaves, 3, 3, false, 15, 25, true) : new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.dirt, Blocks.grass);
+		 return random.nextInt(5) == 0 ? bulbTree : shrub;
 	 }
 
 	 @Override
@@ -21,6 +21,10 @@ import biomesoplenty.common.world.features.trees.WorldGenDeadTree;
 public class BiomeGenFen extends BOPOverworldBiome implements IBiomeFog
 {
     private static final Height biomeHeight = new Height(0.1F, 0.1F);
+
+    private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log2, BOPCBlocks.leaves2, 1, 0, false, 10, 12, 3, -1);
+    private final WorldGenAbstractTree deadTree = new WorldGenDeadTree();
+    private final WorldGenAbstractTree taiga1Tree = new WorldGenBOPTaiga1(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 5, 1);
     
 	public BiomeGenFen(int id)
 	{
@@ -69,9 +73,9 @@ public class BiomeGenFen extends BOPOverworldBiome implements IBiomeFog
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(3) == 0 ? new WorldGenBOPTaiga2(Blocks.log2, BOPCBlocks.leaves2, 1, 0, false, 10, 12, 3, -1) : 
-		(random.nextInt(20) == 0 ? new WorldGenDeadTree() : 
-		new WorldGenBOPTaiga1(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 5, 1));
+		return random.nextInt(3) == 0 ? taiga2Tree : 
+		(random.nextInt(20) == 0 ? deadTree : 
+		taiga1Tree);
 	}
 
 	@Override
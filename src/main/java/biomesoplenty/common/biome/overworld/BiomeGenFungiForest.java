@@ -22,6 +22,9 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPJungle;
 public class BiomeGenFungiForest extends BOPOverworldBiome implements IBiomeFog
 {
     private static final Height biomeHeight = new Height(0.1F, 0.2F);
+
+    private final WorldGenAbstractTree jungleTree = new WorldGenBOPJungle(false, 5, 20, 0, 0);
+    private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
 	
 	public BiomeGenFungiForest(int biomeID)
 	{
@@ -102,7 +105,7 @@ public class BiomeGenFungiForest extends BOPOverworldBiome implements IBiomeFog
 	 @Override
 	 public WorldGenAbstractTree func_150567_a(Random random)
 	 {
-		 return random.nextInt(2) == 0 ? new WorldGenBOPJungle(false, 5, 20, 0, 0) : new WorldGenShrub(0, 0);
+		 return random.nextInt(2) == 0 ? jungleTree : shrub;
 	 }
 
 	 @Override
@@ -21,6 +21,10 @@ import biomesoplenty.common.world.features.trees.WorldGenGiantFlower;
 public class BiomeGenGarden extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.1F);
+
+    private final WorldGenAbstractTree giantFlower1 = new WorldGenGiantFlower(0);
+    private final WorldGenAbstractTree giantFlower2 = new WorldGenGiantFlower(1);
+    private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
 	
 	public BiomeGenGarden(int biomeID) 
 	{
@@ -61,7 +65,7 @@ public class BiomeGenGarden extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(6) == 0 ? new WorldGenGiantFlower(0) : (random.nextInt(6) == 0 ? new WorldGenGiantFlower(1) : new WorldGenShrub(0, 0));
+		return random.nextInt(6) == 0 ? giantFlower1 : (random.nextInt(6) == 0 ? giantFlower2 : shrub);
 	}
 	
 	@Override
@@ -21,6 +21,10 @@ public class BiomeGenGrove extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.2F);
 
+    private final WorldGenAbstractTree miniShrub = new WorldGenMiniShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass, Blocks.sand);
+    private final WorldGenAbstractTree poplar2Tree = new WorldGenPoplar2();
+    private final WorldGenAbstractTree poplarTree = new WorldGenPoplar();
+
 	public BiomeGenGrove(int id)
 	{
 		super(id);
@@ -56,7 +60,7 @@ public class BiomeGenGrove extends BOPOverworldBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(2) == 0 ? new WorldGenMiniShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass, Blocks.sand) : random.nextInt(3) == 0 ? new WorldGenPoplar2() : new WorldGenPoplar();
+		return random.nextInt(2) == 0 ? miniShrub : random.nextInt(3) == 0 ? poplar2Tree : poplarTree;
 	}
 
 	@Override
@@ -22,6 +22,9 @@ public class BiomeGenHeathland extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.2F);
 
+    private final WorldGenAbstractTree shrub1 = new WorldGenBOPShrub(BOPCBlocks.logs4, BOPCBlocks.leaves4, 2, 1, Blocks.grass);
+    private final WorldGenAbstractTree shrub2 = new WorldGenShrub(0, 0);
+
 	public BiomeGenHeathland(int id)
 	{
 		super(id);
@@ -60,7 +63,7 @@ public class BiomeGenHeathland extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(3) == 0 ? new WorldGenBOPShrub(BOPCBlocks.logs4, BOPCBlocks.leaves4, 2, 1, Blocks.grass) : (random.nextInt(2) == 0 ? new WorldGenShrub(0, 0) : worldGeneratorTrees);
+        return random.nextInt(3) == 0 ? shrub1 : (random.nextInt(2) == 0 ? shrub2 : worldGeneratorTrees);
     }
 	
     @Override
@@ -19,6 +19,9 @@ import biomesoplenty.common.world.features.trees.WorldGenPineTree;
 public class BiomeGenJadeCliffs extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.5F, 1.0F);
+
+	private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 1);
+	private final WorldGenAbstractTree pineTree = new WorldGenPineTree();
 	
 	public BiomeGenJadeCliffs(int id)
 	{
@@ -44,7 +47,7 @@ public class BiomeGenJadeCliffs extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(4) == 0 ? new WorldGenShrub(0, 1) : new WorldGenPineTree();
+		return random.nextInt(4) == 0 ? shrub : pineTree;
 	}
 
 	@Override
@@ -21,6 +21,10 @@ import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 public class BiomeGenLandOfLakes extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.2F);
+
+	private final WorldGenAbstractTree taiga2Tree = new WorldGenTaiga2(false);
+	private final WorldGenAbstractTree originalTree1 = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 2, 2, false, 5, 3, false);
+	private final WorldGenAbstractTree originalTree2 = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 5, 3, false);
 	
 	public BiomeGenLandOfLakes(int id)
 	{
@@ -60,8 +64,8 @@ public class BiomeGenLandOfLakes extends BOPOverworldBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(3) == 0 ? new WorldGenTaiga2(false) : (random.nextInt(6) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 2, 2, false, 5, 3, false) : 
-			new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 5, 3, false));
+		return random.nextInt(3) == 0 ? taiga2Tree : (random.nextInt(6) == 0 ? originalTree1 : 
+			originalTree2);
 	}
 
 	@Override
@@ -17,6 +17,8 @@ import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 public class BiomeGenLavenderFields extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.125F, 0.05F);
+
+	private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(BOPCBlocks.logs4, BOPCBlocks.leaves4, 2, 1);
 	
 	public BiomeGenLavenderFields(int id)
 	{
@@ -36,7 +38,7 @@ public class BiomeGenLavenderFields extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(3) == 0 ? this.worldGeneratorBigTree : new WorldGenOriginalTree(BOPCBlocks.logs4, BOPCBlocks.leaves4, 2, 1);
+		return random.nextInt(3) == 0 ? this.worldGeneratorBigTree : originalTree;
 	}
 	
 	@Override
@@ -22,6 +22,10 @@ import biomesoplenty.common.world.features.trees.WorldGenDeadTree;
 public class BiomeGenLushDesert extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.2F, 0.5F);
+
+    private final WorldGenAbstractTree cypressTree = new WorldGenCypress(Blocks.log2, Blocks.leaves2, 0, 0, false, 7, 10, 2);
+    private final WorldGenAbstractTree deadTree = new WorldGenDeadTree();
+    private final WorldGenAbstractTree shrub = new WorldGenShrub(0,0);
     
     public BiomeGenLushDesert(int id)
     {
@@ -67,9 +71,9 @@ public class BiomeGenLushDesert extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(4) == 0 ? new WorldGenCypress(Blocks.log2, Blocks.leaves2, 0, 0, false, 7, 10, 2) : 
-        (random.nextInt(18) == 0 ? new WorldGenDeadTree() : 
-        (random.nextInt(2) == 0 ? worldGeneratorTrees : new WorldGenShrub(0,0)));
+        return random.nextInt(4) == 0 ? cypressTree : 
+        (random.nextInt(18) == 0 ? deadTree : 
+        (random.nextInt(2) == 0 ? worldGeneratorTrees : shrub));
     }
 
     @Override
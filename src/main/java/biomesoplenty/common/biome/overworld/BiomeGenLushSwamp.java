@@ -20,6 +20,8 @@ public class BiomeGenLushSwamp extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.0F, 0.1F);
 
+    private final WorldGenAbstractTree swampTree = new WorldGenBOPSwampTree(Blocks.log, Blocks.leaves, 0, 0, 8, 6, BOPCBlocks.ivy, -1);
+
     public BiomeGenLushSwamp(int id)
     {
         super(id);
@@ -64,7 +66,7 @@ public class BiomeGenLushSwamp extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenBOPSwampTree(Blocks.log, Blocks.leaves, 0, 0, 8, 6, BOPCBlocks.ivy, -1);
+        return swampTree;
     }
 
     @Override
@@ -18,6 +18,9 @@ import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 public class BiomeGenMapleWoods extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.3F);
+
+    private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, 4);
+    private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 2, false, 5, 3, false);
     
 	public BiomeGenMapleWoods(int id)
 	{
@@ -48,8 +51,8 @@ public class BiomeGenMapleWoods extends BOPOverworldBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(6) == 0 ? new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, 4) : 
-		new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 2, false, 5, 3, false);
+		return random.nextInt(6) == 0 ? taiga2Tree : 
+		originalTree;
 	}
 	
 	@Override
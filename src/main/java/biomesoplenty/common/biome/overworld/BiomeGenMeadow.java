@@ -19,6 +19,9 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPTaiga2;
 
 public class BiomeGenMeadow extends BOPOverworldBiome
 {
+	private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 6, 4, 0, 4);
+	private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 1, Blocks.dirt, Blocks.grass);
+
 	public BiomeGenMeadow(int id)
 	{
 		super(id);
@@ -61,7 +64,7 @@ public class BiomeGenMeadow extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(5) == 0 ? new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 6, 4, 0, 4) : new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 1, Blocks.dirt, Blocks.grass);
+        return random.nextInt(5) == 0 ? taiga2Tree : shrub;
     }
 	
     @Override
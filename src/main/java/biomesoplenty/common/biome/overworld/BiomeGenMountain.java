@@ -19,6 +19,9 @@ public class BiomeGenMountain extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(2.5F, 0.5F);
 
+	private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 0);
+	private final WorldGenAbstractTree pineTree = new WorldGenPineTree();
+
 	public BiomeGenMountain(int id)
 	{
 		super(id);
@@ -51,7 +54,7 @@ public class BiomeGenMountain extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(15) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 0) : (random.nextInt(4) == 0 ? new WorldGenPineTree() : worldGeneratorTrees);
+		return random.nextInt(15) == 0 ? originalTree : (random.nextInt(4) == 0 ? pineTree : worldGeneratorTrees);
 	}
 	
 	@Override
@@ -23,6 +23,11 @@ public class BiomeGenMysticGrove extends BOPOverworldBiome implements IBiomeFog
 {
     private static final Height biomeHeight = new Height(0.1F, 0.2F);
 
+    private final WorldGenAbstractTree originalTree1 = new WorldGenOriginalTree(BOPCBlocks.logs2, BOPCBlocks.leaves1, 1, 2, false, 5, 3, false);
+    private final WorldGenAbstractTree originalTree2 = new WorldGenOriginalTree(BOPCBlocks.logs4, BOPCBlocks.leaves4, 2, 1);
+    private final WorldGenAbstractTree swampTree = new WorldGenBOPSwampTree(Blocks.log, Blocks.leaves, 0, 0, 8, 6, BOPCBlocks.flowerVine, -1);
+    private final WorldGenAbstractTree mixedTree = new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3, -1);
+
 	public BiomeGenMysticGrove(int id)
 	{
 		super(id);
@@ -76,10 +81,10 @@ public class BiomeGenMysticGrove extends BOPOverworldBiome implements IBiomeFog
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(4) == 0 ? new WorldGenOriginalTree(BOPCBlocks.logs2, BOPCBlocks.leaves1, 1, 2, false, 5, 3, false) : 
-		(random.nextInt(3) == 0 ? new WorldGenOriginalTree(BOPCBlocks.logs4, BOPCBlocks.leaves4, 2, 1) : 
+		return random.nextInt(4) == 0 ? originalTree1 : 
+		(random.nextInt(3) == 0 ? originalTree2 : 
 		((random.nextInt(3) == 0 ? this.worldGeneratorBigTree : 
-		((random.nextInt(5) == 0 ? new WorldGenBOPSwampTree(Blocks.log, Blocks.leaves, 0, 0, 8, 6, BOPCBlocks.flowerVine, -1) : new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3, -1))))));
+		((random.nextInt(5) == 0 ? swampTree : mixedTree)))));
 	}
 	
 	@Override
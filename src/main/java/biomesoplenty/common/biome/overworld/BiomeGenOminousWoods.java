@@ -23,6 +23,10 @@ import biomesoplenty.common.world.features.trees.WorldGenDeadTree;
 public class BiomeGenOminousWoods extends BOPOverworldBiome implements IBiomeFog
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.2F);
+
+	private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, false, 14, 6, 0, -1);
+	private final WorldGenAbstractTree deadTree = new WorldGenDeadTree();
+	private final WorldGenAbstractTree swampTree = new WorldGenBOPSwampTree(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, 5, 4, BOPCBlocks.treeMoss, -1);
 	
 	public BiomeGenOminousWoods(int id)
 	{
@@ -70,7 +74,7 @@ public class BiomeGenOminousWoods extends BOPOverworldBiome implements IBiomeFog
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(2) == 0 ? new WorldGenBOPTaiga2(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, false, 14, 6, 0, -1) : (random.nextInt(6) == 0 ? new WorldGenDeadTree() : new WorldGenBOPSwampTree(BOPCBlocks.logs1, BOPCBlocks.leaves1, 2, 3, 5, 4, BOPCBlocks.treeMoss, -1));
+		return random.nextInt(2) == 0 ? taiga2Tree : (random.nextInt(6) == 0 ? deadTree : swampTree);
 	}
 	
 	@Override
@@ -19,6 +19,10 @@ import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 public class BiomeGenOrchard extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.1F);
+
+	private final WorldGenAbstractTree mixedTree1 = new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3, 0);
+	private final WorldGenAbstractTree mixedTree2 = new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3, 2);
+	private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 3);
 	
 	public BiomeGenOrchard(int biomeID) 
 	{
@@ -54,7 +58,7 @@ public class BiomeGenOrchard extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-    	return random.nextInt(15) == 0 ? new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3, 0) : (random.nextInt(15) == 0 ? new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3, 2) : (random.nextInt(15) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 3) : this.worldGeneratorTrees));
+    	return random.nextInt(15) == 0 ? mixedTree1 : (random.nextInt(15) == 0 ? mixedTree2 : (random.nextInt(15) == 0 ? originalTree : this.worldGeneratorTrees));
     }
 
 	@Override
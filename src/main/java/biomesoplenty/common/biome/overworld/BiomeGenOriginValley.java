@@ -15,6 +15,8 @@ public class BiomeGenOriginValley extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.3F);
 
+    private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 0, false, 5, 3, false);
+
 	public BiomeGenOriginValley(int id)
 	{
 		super(id);
@@ -46,7 +48,7 @@ public class BiomeGenOriginValley extends BOPOverworldBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 0, false, 5, 3, false);
+		return originalTree;
 	}
 
 	@Override
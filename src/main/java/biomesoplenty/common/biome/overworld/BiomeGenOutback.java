@@ -17,6 +17,9 @@ public class BiomeGenOutback extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.1F);
 
+    private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(Blocks.log2, Blocks.leaves2, 0, 0, BOPCBlocks.hardSand);
+    private final WorldGenAbstractTree miniShrub = new WorldGenMiniShrub(Blocks.log2, Blocks.leaves2, 0, 0, BOPCBlocks.hardSand);
+
 	public BiomeGenOutback(int id)
 	{
 		super(id);
@@ -44,8 +47,8 @@ public class BiomeGenOutback extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(3) == 0 ? new WorldGenBOPShrub(Blocks.log2, Blocks.leaves2, 0, 0, BOPCBlocks.hardSand) : 
-        new WorldGenMiniShrub(Blocks.log2, Blocks.leaves2, 0, 0, BOPCBlocks.hardSand);
+        return random.nextInt(3) == 0 ? shrub : 
+        miniShrub;
     }
 	
     @Override
@@ -19,6 +19,8 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPTaiga2;
 public class BiomeGenPrairie extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.1F);
+
+    private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 0, 0, false, 6, 1, 7, -1);
     
 	public BiomeGenPrairie(int id)
 	{
@@ -55,7 +57,7 @@ public class BiomeGenPrairie extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 0, 0, false, 6, 1, 7, -1);
+        return taiga2Tree;
     }
 	
     @Override
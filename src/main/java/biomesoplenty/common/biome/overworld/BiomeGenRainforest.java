@@ -22,6 +22,9 @@ public class BiomeGenRainforest extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.2F, 0.9F);
 
+	private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 2, 2);
+	private final WorldGenAbstractTree mixedTree = new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3);
+
 	public BiomeGenRainforest(int id)
 	{
 		super(id);
@@ -61,7 +64,7 @@ public class BiomeGenRainforest extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(15) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 2, 2) : (random.nextInt(5) == 0 ? worldGeneratorBigTree : new WorldGenMixedTree(Blocks.log, Blocks.leaves, 0, 0, BOPCBlocks.colorizedLeaves2, 3));
+		return random.nextInt(15) == 0 ? originalTree : (random.nextInt(5) == 0 ? worldGeneratorBigTree : mixedTree);
 	}
 
 	@Override
@@ -20,6 +20,11 @@ import biomesoplenty.common.world.features.trees.WorldGenRedwoodTree3;
 public class BiomeGenRedwoodForest extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.05F);
+
+    private final WorldGenAbstractTree redwoodTree = new WorldGenRedwoodTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 40, 10);
+    private final WorldGenAbstractTree shrub = new WorldGenShrub(0,0);
+    private final WorldGenAbstractTree redwoodTree2 = new WorldGenRedwoodTree2(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 30, 15);
+    private final WorldGenAbstractTree redwoodTree3 = new WorldGenRedwoodTree3(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 20, 10);
     
     public BiomeGenRedwoodForest(int id)
     {
@@ -55,7 +60,7 @@ public class BiomeGenRedwoodForest extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(4) == 0 ? new WorldGenRedwoodTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 40, 10) : (random.nextInt(15) == 0 ? new WorldGenShrub(0,0) : (random.nextInt(2) == 0 ? new WorldGenRedwoodTree2(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 30, 15) : new WorldGenRedwoodTree3(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves1, 0, 3, false, 20, 10)));
+        return random.nextInt(4) == 0 ? redwoodTree : (random.nextInt(15) == 0 ? shrub : (random.nextInt(2) == 0 ? redwoodTree2 : redwoodTree3));
     }
 
     @Override
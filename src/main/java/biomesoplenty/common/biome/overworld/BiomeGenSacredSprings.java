@@ -24,6 +24,9 @@ import cpw.mods.fml.relauncher.SideOnly;
 public class BiomeGenSacredSprings extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.0F, 0.6F);
+
+	private final WorldGenAbstractTree sacredOakTree = new WorldGenSacredOak(false);
+	private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
 	
     public BiomeGenSacredSprings(int id)
     {
@@ -52,7 +55,7 @@ public class BiomeGenSacredSprings extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random rand)
     {
-    	return (WorldGenAbstractTree)(rand.nextInt(450) == 0 ? new WorldGenSacredOak(false) : new WorldGenShrub(0, 0));
+    	return (WorldGenAbstractTree)(rand.nextInt(450) == 0 ? sacredOakTree : shrub);
     }
     
     @Override
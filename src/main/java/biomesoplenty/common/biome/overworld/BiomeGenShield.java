@@ -20,6 +20,10 @@ public class BiomeGenShield extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.0F, 0.2F);
 
+    private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
+    private final WorldGenAbstractTree pineTree = new WorldGenPineTree();
+    private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, 4);
+
 	public BiomeGenShield(int id)
 	{
 		super(id);
@@ -54,9 +58,9 @@ public class BiomeGenShield extends BOPOverworldBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(2) == 0 ? new WorldGenShrub(0, 0) : 
-		(random.nextInt(4) == 0 ? new WorldGenPineTree() : 
-		new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, 4));
+		return random.nextInt(2) == 0 ? shrub : 
+		(random.nextInt(4) == 0 ? pineTree : 
+		taiga2Tree);
 	}
 
 	@Override
@@ -19,6 +19,8 @@ import biomesoplenty.common.world.features.WorldGenBOPTallGrass;
 public class BiomeGenShrubland extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.1F);
+
+	private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
 	
 	public BiomeGenShrubland(int id)
 	{
@@ -56,7 +58,7 @@ public class BiomeGenShrubland extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return new WorldGenShrub(0, 0);
+		return shrub;
 	}
 
 	@Override
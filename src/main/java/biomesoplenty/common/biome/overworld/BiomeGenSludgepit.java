@@ -19,6 +19,9 @@ public class BiomeGenSludgepit extends BOPOverworldBiome implements IBiomeFog
 {
     private static final Height biomeHeight = new Height(0.0F, 0.1F);
 
+    private final WorldGenAbstractTree bogTree2 = new WorldGenBogTree2(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 4);
+    private final WorldGenAbstractTree bogTree1 = new WorldGenBogTree1(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 5);
+
     public BiomeGenSludgepit(int id)
     {
         super(id);
@@ -59,8 +62,8 @@ public class BiomeGenSludgepit extends BOPOverworldBiome implements IBiomeFog
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(3) == 0 ? new WorldGenBogTree2(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 4) : 
-        new WorldGenBogTree1(Blocks.log2, Blocks.leaves2, 1, 1, false, 7, 5);
+        return random.nextInt(3) == 0 ? bogTree2 : 
+        bogTree1;
     }
 
     @Override
@@ -23,6 +23,11 @@ public class BiomeGenTemperateRainforest extends BOPOverworldBiome implements IB
 {
     private static final Height biomeHeight = new Height(0.0F, 0.3F);
 
+    private final WorldGenAbstractTree swampTree = new WorldGenBOPSwampTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0, 6, 9, BOPCBlocks.colorizedLeaves2, 0);
+    private final WorldGenAbstractTree taiga3Tree = new WorldGenBOPTaiga3(Blocks.log, Blocks.leaves, 0, 0, false, 35, 10, 0, -1);
+    private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 0, 0, false, 10, 25, 8, -1);
+    private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
+
 	public BiomeGenTemperateRainforest(int id)
 	{
 		super(id);
@@ -65,10 +70,10 @@ public class BiomeGenTemperateRainforest extends BOPOverworldBiome implements IB
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(10) == 0 ? new WorldGenBOPSwampTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0, 6, 9, BOPCBlocks.colorizedLeaves2, 0)  : 
-		(random.nextInt(6) == 0 ? new WorldGenBOPTaiga3(Blocks.log, Blocks.leaves, 0, 0, false, 35, 10, 0, -1) : 
-		(random.nextInt(2) == 0 ? new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 0, 0, false, 10, 25, 8, -1) : 
-		new WorldGenShrub(0, 0)));
+		return random.nextInt(10) == 0 ? swampTree  : 
+		(random.nextInt(6) == 0 ? taiga3Tree : 
+		(random.nextInt(2) == 0 ? taiga2Tree : 
+		shrub));
 	}
 
     @Override
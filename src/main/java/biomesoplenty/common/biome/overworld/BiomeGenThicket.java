@@ -18,6 +18,8 @@ import biomesoplenty.common.world.features.WorldGenBOPFlora;
 public class BiomeGenThicket extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(0.1F, 0.1F);
+
+	private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
 	
 	public BiomeGenThicket(int id)
 	{
@@ -43,7 +45,7 @@ public class BiomeGenThicket extends BOPOverworldBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(5) == 0 ? worldGeneratorTrees : new WorldGenShrub(0, 0);
+		return random.nextInt(5) == 0 ? worldGeneratorTrees : shrub;
 	}
 
 	@Override
@@ -23,6 +23,8 @@ public class BiomeGenTropicalRainforest extends BOPOverworldBiome implements IBi
 {
     private static final Height biomeHeight = new Height(0.2F, 0.3F);
 
+    private final WorldGenAbstractTree rainforestTree1 = new WorldGenRainforestTree1(BOPCBlocks.logs4, BOPCBlocks.colorizedLeaves2, 3, 2, false, 8, 8);
+
     public BiomeGenTropicalRainforest(int id)
     {
         super(id);
@@ -67,7 +69,7 @@ public class BiomeGenTropicalRainforest extends BOPOverworldBiome implements IBi
     public WorldGenAbstractTree func_150567_a(Random random)
     {
         return random.nextInt(5) == 0 ? new WorldGenTrees(false, 4 + random.nextInt(7), 3, 3, true) : 
-        new WorldGenRainforestTree1(BOPCBlocks.logs4, BOPCBlocks.colorizedLeaves2, 3, 2, false, 8, 8);
+        rainforestTree1;
     }
 
     @Override
@@ -17,6 +17,8 @@ import biomesoplenty.common.world.features.WorldGenBOPTallGrass;
 public class BiomeGenTundra extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.0F, 0.1F);
+
+    private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
     
     public BiomeGenTundra(int id)
     {
@@ -55,7 +57,7 @@ public class BiomeGenTundra extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenShrub(0, 0);
+        return shrub;
     }
 
     @Override
@@ -18,6 +18,8 @@ public class BiomeGenWasteland extends BOPOverworldBiome implements IBiomeFog
 {
     private static final Height biomeHeight = new Height(0.1F, 0.1F);
 
+    private final WorldGenAbstractTree deadTree = new WorldGenDeadTree();
+
     public BiomeGenWasteland(int id)
     {
         super(id);
@@ -53,7 +55,7 @@ public class BiomeGenWasteland extends BOPOverworldBiome implements IBiomeFog
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenDeadTree();
+        return deadTree;
     }
     
     @Override
@@ -23,6 +23,9 @@ public class BiomeGenWetland extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(-0.1F, 0.2F);
 
+    private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, -1);
+    private final WorldGenAbstractTree swampTree = new WorldGenBOPSwampTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0, 6, 9, BOPCBlocks.colorizedLeaves2, 0);
+
     public BiomeGenWetland(int id)
     {
         super(id);
@@ -82,8 +85,8 @@ public class BiomeGenWetland extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(2) == 0 ? new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, -1) : 
-        new WorldGenBOPSwampTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0, 6, 9, BOPCBlocks.colorizedLeaves2, 0);
+        return random.nextInt(2) == 0 ? taiga2Tree : 
+        swampTree;
     }
 
 
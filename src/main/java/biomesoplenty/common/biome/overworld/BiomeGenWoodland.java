@@ -17,6 +17,8 @@ import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 public class BiomeGenWoodland extends BOPOverworldBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.2F);
+
+    private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 3);
     
 	public BiomeGenWoodland(int id)
 	{
@@ -55,7 +57,7 @@ public class BiomeGenWoodland extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(10) == 0 ? worldGeneratorBigTree : (random.nextInt(15) == 0 ? new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, 3) : worldGeneratorTrees);
+        return random.nextInt(10) == 0 ? worldGeneratorBigTree : (random.nextInt(15) == 0 ? originalTree : worldGeneratorTrees);
     }
 	
     @Override
@@ -14,6 +14,8 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPTaiga2;
 public class BiomeGenAlpsForest extends BOPSubBiome
 {
 	private static final Height biomeHeight = new Height(0.6F, 0.8F);
+
+	private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, 4);
 	
 	public BiomeGenAlpsForest(int id)
 	{
@@ -45,7 +47,7 @@ public class BiomeGenAlpsForest extends BOPSubBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 9, 9, 6, 4);
+        return taiga2Tree;
     }
 	
 	@Override
@@ -17,6 +17,9 @@ public class BiomeGenCanyonRavine extends BOPSubBiome
 {
 	private static final Height biomeHeight = new Height(-0.1F, 0.4F);
 
+	private final WorldGenAbstractTree pineTree = new WorldGenPineTree();
+	private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(Blocks.log2, Blocks.leaves2, 0, 0, 64, 256, BOPCBlocks.hardDirt);
+
 	public BiomeGenCanyonRavine(int id)
 	{
 		super(id);
@@ -49,7 +52,7 @@ public class BiomeGenCanyonRavine extends BOPSubBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(5) == 0 ? new WorldGenPineTree() : new WorldGenBOPShrub(Blocks.log2, Blocks.leaves2, 0, 0, 64, 256, BOPCBlocks.hardDirt);
+		return random.nextInt(5) == 0 ? pineTree : shrub;
 	}
 	
 	@Override
@@ -17,6 +17,9 @@ import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 public class BiomeGenLandOfLakesMarsh extends BOPSubBiome
 {
 	private static final Height biomeHeight = new Height(-0.1F, 0.05F);
+
+	private final WorldGenAbstractTree taiga2Tree = new WorldGenTaiga2(false);
+	private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 5, 3, false);
 	
 	public BiomeGenLandOfLakesMarsh(int id)
 	{
@@ -60,8 +63,8 @@ public class BiomeGenLandOfLakesMarsh extends BOPSubBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-		return random.nextInt(3) == 0 ? new WorldGenTaiga2(false) : 
-			new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 0, 0, false, 5, 3, false);
+		return random.nextInt(3) == 0 ? taiga2Tree : 
+			originalTree;
 	}
 
 	@Override
@@ -16,6 +16,9 @@ import biomesoplenty.common.world.features.trees.WorldGenMangrove;
 public class BiomeGenMangrove extends BOPSubBiome
 {
     private static final Height biomeHeight = new Height(0.0F, 0.2F);
+
+    private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(BOPCBlocks.logs2, BOPCBlocks.colorizedLeaves1, 2, 1, Blocks.sand);
+    private final WorldGenAbstractTree mangroveTree = new WorldGenMangrove();
 	
 	public BiomeGenMangrove(int biomeID) 
 	{
@@ -48,7 +51,7 @@ public class BiomeGenMangrove extends BOPSubBiome
 	@Override
 	public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(3) == 0 ? new WorldGenBOPShrub(BOPCBlocks.logs2, BOPCBlocks.colorizedLeaves1, 2, 1, Blocks.sand) : new WorldGenMangrove();
+		return random.nextInt(3) == 0 ? shrub : mangroveTree;
 	}
 
     @Override
@@ -16,6 +16,8 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPTaiga2;
 
 public class BiomeGenMeadowForest extends BOPSubBiome
 {
+	private final WorldGenAbstractTree taiga2Tree = new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 6, 4, 0, 4);
+
 	public BiomeGenMeadowForest(int id)
 	{
 		super(id);
@@ -57,7 +59,7 @@ public class BiomeGenMeadowForest extends BOPSubBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenBOPTaiga2(Blocks.log, Blocks.leaves, 1, 1, false, 6, 4, 0, 4);
+        return taiga2Tree;
     }
 	
     @Override
@@ -15,6 +15,8 @@ import biomesoplenty.common.world.features.trees.WorldGenPalmTree1;
 public class BiomeGenOasis extends BOPSubBiome
 {
 	private static final Height biomeHeight = new Height(-0.2F, 0.0F);
+
+	private final WorldGenAbstractTree palmTree1 = new WorldGenPalmTree1();
 	
 	public BiomeGenOasis(int biomeID)
 	{
@@ -51,7 +53,7 @@ public class BiomeGenOasis extends BOPSubBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenPalmTree1();
+        return palmTree1;
     }
 
 	@Override
@@ -16,6 +16,8 @@ import biomesoplenty.common.world.features.trees.WorldGenDeadTree;
 public class BiomeGenQuagmire extends BOPSubBiome
 {
     private static final Height biomeHeight = new Height(0.0F, 0.1F);
+
+    private final WorldGenAbstractTree deadTree = new WorldGenDeadTree();
     
     public BiomeGenQuagmire(int id)
     {
@@ -58,7 +60,7 @@ public class BiomeGenQuagmire extends BOPSubBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenDeadTree();
+        return deadTree;
     }
 
     @Override
@@ -17,6 +17,9 @@ import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 public class BiomeGenScrubland extends BOPSubBiome
 {
 	private static final Height biomeHeight = new Height(0.125F, 0.05F);
+
+	private final WorldGenAbstractTree shrub = new WorldGenShrub(3, 0);
+	private final WorldGenAbstractTree originalTree = new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 3, 2, false, 2, 1, false);
 	
 	public BiomeGenScrubland(int biomeID)
 	{
@@ -46,7 +49,7 @@ public class BiomeGenScrubland extends BOPSubBiome
 	@Override
     public WorldGenAbstractTree func_150567_a(Random random)
 	{
-		return random.nextInt(3) == 0 ? new WorldGenShrub(3, 0) : new WorldGenOriginalTree(Blocks.log, Blocks.leaves, 3, 2, false, 2, 1, false);
+		return random.nextInt(3) == 0 ? shrub : originalTree;
 	}
 	
 	@Override
@@ -21,6 +21,13 @@ public class BiomeGenSeasonalForestClearing extends BOPSubBiome implements IBiom
 {
     private static final Height biomeHeight = new Height(0.1F, 0.2F);
 
+    private final WorldGenAbstractTree originalTree1 = new WorldGenOriginalTree(Blocks.log2, BOPCBlocks.leaves2, 1, 3, false, 5, 3, false);
+    private final WorldGenAbstractTree originalTree2 = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves1, 2, 0, false, 5, 3, false);
+    private final WorldGenAbstractTree bigTree1 = new WorldGenBOPBigTree(Blocks.log2, BOPCBlocks.leaves2, 1, 3);
+    private final WorldGenAbstractTree bigTree2 = new WorldGenBOPBigTree(Blocks.log, BOPCBlocks.leaves3, 0, 2);
+    private final WorldGenAbstractTree originalTree3 = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 2, false, 5, 3, false);
+    private final WorldGenAbstractTree originalTree4 = new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, false, 5, 3, false);
+
     public BiomeGenSeasonalForestClearing(int id)
     {
         super(id);
@@ -57,12 +64,12 @@ public class BiomeGenSeasonalForestClearing extends BOPSubBiome implements IBiom
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(2) == 0 ?  new WorldGenOriginalTree(Blocks.log2, BOPCBlocks.leaves2, 1, 3, false, 5, 3, false)
-        : (random.nextInt(3) == 0 ? new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves1, 2, 0, false, 5, 3, false) 
-        : (random.nextInt(6) == 0 ? new WorldGenBOPBigTree(Blocks.log2, BOPCBlocks.leaves2, 1, 3)
-        : (random.nextInt(6) == 0 ? new WorldGenBOPBigTree(Blocks.log, BOPCBlocks.leaves3, 0, 2)
-        : (random.nextInt(3) == 0 ? new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves3, 0, 2, false, 5, 3, false)
-        : (random.nextInt(5) == 0 ? new WorldGenOriginalTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, false, 5, 3, false)
+        return random.nextInt(2) == 0 ?  originalTree1
+        : (random.nextInt(3) == 0 ? originalTree2 
+        : (random.nextInt(6) == 0 ? bigTree1
+        : (random.nextInt(6) == 0 ? bigTree2
+        : (random.nextInt(3) == 0 ? originalTree3
+        : (random.nextInt(5) == 0 ? originalTree4
         : (random.nextInt(6) == 0 ? worldGeneratorBigTree
                 : worldGeneratorTrees))))));
     }
@@ -19,6 +19,10 @@ public class BiomeGenSilkglades extends BOPSubBiome
 {
     private static final Height biomeHeight = new Height(0.1F, 0.2F);
 
+    private final WorldGenAbstractTree swampTree1 = new WorldGenBOPSwampTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, 6, 9, BOPCBlocks.leaves2, 0);
+    private final WorldGenAbstractTree deadTree = new WorldGenDeadTree();
+    private final WorldGenAbstractTree swampTree2 = new WorldGenBOPSwampTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0, 6, 9, BOPCBlocks.colorizedLeaves2, 0);
+
     public BiomeGenSilkglades(int id)
     {
         super(id);
@@ -64,9 +68,9 @@ public class BiomeGenSilkglades extends BOPSubBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(5) == 0 ? new WorldGenBOPSwampTree(Blocks.log, BOPCBlocks.leaves2, 0, 0, 6, 9, BOPCBlocks.leaves2, 0) : 
-            (random.nextInt(7) == 0 ? new WorldGenDeadTree() : 
-                new WorldGenBOPSwampTree(BOPCBlocks.logs3, BOPCBlocks.colorizedLeaves2, 1, 0, 6, 9, BOPCBlocks.colorizedLeaves2, 0));
+        return random.nextInt(5) == 0 ? swampTree1 : 
+            (random.nextInt(7) == 0 ? deadTree : 
+                swampTree2);
     }
 
     @Override
@@ -17,6 +17,8 @@ import biomesoplenty.common.world.features.trees.WorldGenBOPTaiga2;
 
 public class BiomeGenSpruceWoods extends BOPSubBiome
 {
+    private final WorldGenAbstractTree taiga2Tree = new WorldGenTaiga2(false);
+
     public BiomeGenSpruceWoods(int id)
     {
         super(id);
@@ -62,7 +64,7 @@ public class BiomeGenSpruceWoods extends BOPSubBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(3) == 0 ? worldGeneratorTrees : new WorldGenTaiga2(false);
+        return random.nextInt(3) == 0 ? worldGeneratorTrees : taiga2Tree;
     }
 
     @Override
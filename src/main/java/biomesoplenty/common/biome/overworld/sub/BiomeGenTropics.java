@@ -22,6 +22,10 @@ public class BiomeGenTropics extends BOPSubBiome
 {
     private static final Height biomeHeight = new Height(0.2F, 0.3F);
 
+    private final WorldGenAbstractTree palmTree1 = new WorldGenPalmTree1();
+    private final WorldGenAbstractTree tropicsShrub = new WorldGenTropicsShrub();
+    private final WorldGenAbstractTree shrub = new WorldGenShrub(0, 0);
+
     public BiomeGenTropics(int id)
     {
         super(id);
@@ -67,9 +71,9 @@ public class BiomeGenTropics extends BOPSubBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return random.nextInt(2) == 0 ? new WorldGenPalmTree1() : 
-        (random.nextInt(2) == 0 ? new WorldGenTropicsShrub() : 
-        new WorldGenShrub(0, 0));
+        return random.nextInt(2) == 0 ? palmTree1 : 
+        (random.nextInt(2) == 0 ? tropicsShrub : 
+        shrub);
     }
 
     @Override
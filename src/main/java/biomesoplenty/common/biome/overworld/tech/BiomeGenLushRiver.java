@@ -14,6 +14,8 @@ public class BiomeGenLushRiver extends BOPOverworldBiome
 {
 	private static final Height biomeHeight = new Height(-0.5F, 0.0F);
 
+	private final WorldGenAbstractTree shrub = new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass);
+
     public BiomeGenLushRiver(int par1)
     {
         super(par1);
@@ -45,6 +47,6 @@ public class BiomeGenLushRiver extends BOPOverworldBiome
     @Override
     public WorldGenAbstractTree func_150567_a(Random random)
     {
-        return new WorldGenBOPShrub(Blocks.log, Blocks.leaves, 0, 0, Blocks.grass);
+        return shrub;
     }
 }
\ No newline at end of file
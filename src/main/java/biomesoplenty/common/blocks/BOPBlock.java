@@ -7,8 +7,9 @@ import net.minecraft.block.material.Material;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.BiomesOPlenty;
+import biomesoplenty.common.blocks.templates.IPlacementPredicate;
 
-public abstract class BOPBlock extends Block
+public abstract class BOPBlock extends Block implements IPlacementPredicate
 {
 	protected BOPBlock(Material material)
 	{
@@ -33,10 +34,15 @@ public abstract class BOPBlock extends Block
     @Override
     public boolean canReplace(World world, int x, int y, int z, int side, ItemStack itemStack)
     {
-    	int metadata = itemStack != null ? itemStack.getItemDamage() : 0;
-    	return this.canBlockStay(world, x, y, z, metadata);
+    	return this.canPlaceWithMetadata(world, x, y, z, itemStack != null ? itemStack.getItemDamage() : 0);
     } 
     
+    @Override
+    public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata)
+    {
+    	return this.canBlockStay(world, x, y, z, metadata);
+    }
+    
     @Override
 	@Deprecated
     public boolean canBlockStay(World world, int x, int y, int z) 
@@ -20,6 +20,8 @@ import net.minecraftforge.common.IShearable;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.client.render.RenderUtils;
+import biomesoplenty.client.utils.BiomeColourCache;
+import biomesoplenty.common.helpers.LeafDecayManager;
 import cpw.mods.fml.common.Loader;
 
 public class BlockBOPColorizedLeaves extends BlockLeavesBase implements IShearable
@@ -43,7 +45,6 @@ public class BlockBOPColorizedLeaves extends BlockLeavesBase implements IShearab
     private static final String[] leaves = new String[] {"sacredoak", "mangrove", "palm", "redwood", "willow", "pine", "mahogany", "flowering"};
     private IIcon[][] textures;
     private final ColourizedLeafCategory category;
-    int[] adjacentTreeBlocks;
     public IIcon floweringIcon;
     
     public BlockBOPColorizedLeaves(ColourizedLeafCategory cat)
@@ -58,6 +59,8 @@ public class BlockBOPColorizedLeaves extends BlockLeavesBase implements IShearab
 		this.setLightOpacity(1);
         
 		this.setCreativeTab(BiomesOPlenty.tabBiomesOPlenty);
+
+        LeafDecayManager.registerLeaves(this);
     }
 
     @Override
@@ -119,22 +122,7 @@ public class BlockBOPColorizedLeaves extends BlockLeavesBase implements IShearab
     @Override
     public int colorMultiplier(IBlockAccess world, int x, int y, int z)
     {
-    	int var6 = 0;
-    	int var7 = 0;
-    	int var8 = 0;
-
-    	for (int var9 = -1; var9 <= 1; ++var9)
-    	{
-    		for (int var10 = -1; var10 <= 1; ++var10)
-    		{
-    			int var11 = world.getBiomeGenForCoords(x + var10, z + var9).getBiomeFoliageColor(x + var10, y, z + var9);
-    			var6 += (var11 & 16711680) >> 16;
-    		var7 += (var11 & 65280) >> 8;
-    		var8 += var11 & 255;
-    		}
-    	}
-
-    	return (var6 / 9 & 255) << 16 | (var7 / 9 & 255) << 8 | var8 / 9 & 255;
+    	return BiomeColourCache.getBlendedFoliageColour(world, x, y, z);
     }
 
     @Override
@@ -174,29 +162,9 @@ public class BlockBOPColorizedLeaves extends BlockLeavesBase implements IShearab
     }
 
     @Override
-	public void breakBlock(World world, int x, int y, int z, Block par5, int par6)
+    public void breakBlock(World world, int x, int y, int z, Block par5, int par6)
     {
-        byte radius = 1;
-        int bounds = radius + 1;
-
-        if (world.checkChunksExist(x - bounds, y - bounds, z - bounds, x + bounds, y + bounds, z + bounds)) 
-        {
-            for (int i = -radius; i <= radius; ++i) 
-            {
-                for (int j = -radius; j <= radius; ++j) 
-                {
-                    for (int k = -radius; k <= radius; ++k)
-                    {
-						Block block = world.getBlock(x + i, y + j, z + k);
-
-						if (block.isLeaves(world, x, y, z)) 
-						{
-							block.beginLeavesDecay(world, x + i, y + j, z + k);
-						}
-                    }
-                }
-            }
-        }
+        LeafDecayManager.scheduleCheck(world, x, y, z);
     }
 
     @Override
@@ -209,114 +177,10 @@ public class BlockBOPColorizedLeaves extends BlockLeavesBase implements IShearab
 
         if ((meta & 8) != 0 && (meta & 4) == 0)
         {
-            byte b0 = 4;
-            int i1 = b0 + 1;
-            byte b1 = 32;
-            int j1 = b1 * b1;
-            int k1 = b1 / 2;
-
-            if (adjacentTreeBlocks == null)
-            {
-                adjacentTreeBlocks = new int[b1 * b1 * b1];
-            }
-
-            int l1;
-
-            if (world.checkChunksExist(x - i1, y - i1, z - i1, x + i1, y + i1, z + i1))
-            {
-                int i2;
-                int j2;
-                int k2;
-
-                for (l1 = -b0; l1 <= b0; ++l1)
-                {
-                    for (i2 = -b0; i2 <= b0; ++i2)
-                    {
-                        for (j2 = -b0; j2 <= b0; ++j2)
-                        {
-                            Block block = world.getBlock(x + l1, y + i2, z + j2);
-
-                            if (block != null && block.canSustainLeaves(world, x + l1, y + i2, z + j2))
-                            {
-                                adjacentTreeBlocks[(l1 + k1) * j1 + (i2 + k1) * b1 + j2 + k1] = 0;
-                            }
-                            else if (block != null && block.isLeaves(world, x + l1, y + i2, z + j2))
-                            {
-                                adjacentTreeBlocks[(l1 + k1) * j1 + (i2 + k1) * b1 + j2 + k1] = -2;
-                            }
-                            else
-                            {
-                                adjacentTreeBlocks[(l1 + k1) * j1 + (i2 + k1) * b1 + j2 + k1] = -1;
-                            }
-                        }
-                    }
-                }
-
-                for (l1 = 1; l1 <= 4; ++l1)
-                {
-                    for (i2 = -b0; i2 <= b0; ++i2)
-                    {
-                        for (j2 = -b0; j2 <= b0; ++j2)
-                        {
-                            for (k2 = -b0; k2 <= b0; ++k2)
-                            {
-                                if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + k2 + k1] == l1 - 1)
-                                {
-                                    if (adjacentTreeBlocks[(i2 + k1 - 1) * j1 + (j2 + k1) * b1 + k2 + k1] == -2)
-                                    {
-                                        adjacentTreeBlocks[(i2 + k1 - 1) * j1 + (j2 + k1) * b1 + k2 + k1] = l1;
-                                    }
-
-                                    if (adjacentTreeBlocks[(i2 + k1 + 1) * j1 + (j2 + k1) * b1 + k2 + k1] == -2)
-                                    {
-                                        adjacentTreeBlocks[(i2 + k1 + 1) * j1 + (j2 + k1) * b1 + k2 + k1] = l1;
-                                    }
-
-                                    if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1 - 1) * b1 + k2 + k1] == -2)
-                                    {
-                                        adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1 - 1) * b1 + k2 + k1] = l1;
-                                    }
-
-                                    if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1 + 1) * b1 + k2 + k1] == -2)
-                                    {
-                                        adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1 + 1) * b1 + k2 + k1] = l1;
-                                    }
-
-                                    if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + (k2 + k1 - 1)] == -2)
-                                    {
-                                        adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + (k2 + k1 - 1)] = l1;
-                                    }
-
-                                    if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + k2 + k1 + 1] == -2)
-                                    {
-                                        adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + k2 + k1 + 1] = l1;
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-
-            l1 = adjacentTreeBlocks[k1 * j1 + k1 * b1 + k1];
-
-            if (l1 >= 0)
-            {
-                world.setBlockMetadataWithNotify(x, y, z, meta & -9, 4);
-            }
-            else
-            {
-                this.removeLeaves(world, x, y, z);
-            }
+            LeafDecayManager.checkLeaves(world, x, y, z);
         }
     }
 
-    private void removeLeaves(World world, int x, int y, int z)
-    {
-        this.dropBlockAsItem(world, x, y, z, world.getBlockMetadata(x, y, z), 0);
-        world.setBlockToAir(x, y, z);
-    }
-
     @Override
 	public Item getItemDropped(int metadata, Random random, int fortune)
 	{
@@ -17,6 +17,7 @@ import net.minecraft.world.gen.feature.WorldGenerator;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.blocks.templates.IPlacementPredicate;
 import biomesoplenty.common.world.features.trees.WorldGenBOPSwampTree;
 import biomesoplenty.common.world.features.trees.WorldGenMangrove;
 import biomesoplenty.common.world.features.trees.WorldGenMixedTree;
@@ -26,7 +27,7 @@ import biomesoplenty.common.world.features.trees.WorldGenRainforestTree1;
 import biomesoplenty.common.world.features.trees.WorldGenRedwoodTree2;
 import biomesoplenty.common.world.features.trees.WorldGenSacredOak;
 
-public class BlockBOPColorizedSapling extends BlockSapling
+public class BlockBOPColorizedSapling extends BlockSapling implements IPlacementPredicate
 {
 	private static final String[] saplings = new String[] {"sacredoak", "mangrove", "palm", "redwood", "willow", "pine", "mahogany", "flowering"};
 	private IIcon[] textures;
@@ -43,10 +44,15 @@ public class BlockBOPColorizedSapling extends BlockSapling
     @Override
     public boolean canReplace(World world, int x, int y, int z, int side, ItemStack itemStack)
     {
-    	int metadata = itemStack != null ? itemStack.getItemDamage() : 0;
-    	return this.canPlaceBlockAt(world, x, y, z) && this.isValidPosition(world, x, y, z, metadata);
+    	return this.canPlaceWithMetadata(world, x, y, z, itemStack != null ? itemStack.getItemDamage() : 0);
     } 
     
+    @Override
+    public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata)
+    {
+    	return this.canPlaceBlockAt(world, x, y, z) && this.isValidPosition(world, x, y, z, metadata);
+    }
+    
     /**
      * Checks to see if its valid to put this block at the specified coordinates. Args: world, x, y, z
      */
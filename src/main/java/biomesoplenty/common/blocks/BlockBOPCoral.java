@@ -74,9 +74,8 @@ public class BlockBOPCoral extends BOPBlock
     }
 	
     @Override
-	public boolean canReplace(World world, int x, int y, int z, int side, ItemStack itemStack)
+	public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata)
     {
-    	int metadata = itemStack != null ? itemStack.getItemDamage() : 0;
     	return world.getBlock(x, y + 1, z) == Blocks.water && this.canBlockStay(world, x, y, z, metadata);
     }
     
@@ -31,6 +31,7 @@ import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.content.BOPCItems;
 import biomesoplenty.client.render.RenderUtils;
+import biomesoplenty.client.utils.BiomeColourCache;
 import biomesoplenty.common.blocks.templates.BOPBlockWorldDecor;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -266,17 +267,19 @@ public class BlockBOPFoliage extends BOPBlockWorldDecor implements IShearable
 	@Override
     public int colorMultiplier(IBlockAccess world, int x, int y, int z)
 	{
-		if (world.getBlockMetadata(x, y, z) == 9 || world.getBlockMetadata(x, y, z) == 14)
+		int meta = world.getBlockMetadata(x, y, z);
+
+		if (meta == 9 || meta == 14)
 		{
-			return world.getBiomeGenForCoords(x, z).getBiomeFoliageColor(x, y, z);
+			return BiomeColourCache.getFoliageColour(world, x, y, z);
 		}
 		
-		if (world.getBlockMetadata(x, y, z) == 15)
+		if (meta == 15)
 		{
 			return 16777215;
 		}
 		
-		return world.getBiomeGenForCoords(x, z).getBiomeGrassColor(x, y, z);
+		return BiomeColourCache.getGrassColour(world, x, y, z);
 	}
 
 	@Override
@@ -101,10 +101,8 @@ public class BlockBOPFruit extends BOPBlockWorldDecor
 	}
 
 	@Override
-    public boolean canReplace(World world, int x, int y, int z, int side, ItemStack itemStack)
+    public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata)
 	{
-		int metadata = itemStack != null ? itemStack.getItemDamage() : 0;
-		
         return this.isValidPosition(world, x, y, z, metadata);
 	}
 	
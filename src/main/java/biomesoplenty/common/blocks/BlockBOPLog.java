@@ -14,6 +14,7 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.BiomesOPlenty;
+import biomesoplenty.common.helpers.LeafDecayManager;
 
 public class BlockBOPLog extends Block
 {
@@ -108,27 +109,7 @@ public class BlockBOPLog extends Block
 	@Override
 	public void breakBlock(World world, int x, int y, int z, Block par5, int par6)
 	{
-		byte radius = 4;
-		int bounds = radius + 1;
-
-		if (world.checkChunksExist(x - bounds, y - bounds, z - bounds, x + bounds, y + bounds, z + bounds)) 
-		{
-			for (int i = -radius; i <= radius; ++i) 
-			{
-				for (int j = -radius; j <= radius; ++j) 
-				{
-					for (int k = -radius; k <= radius; ++k)
-					{
-						Block block = world.getBlock(x + i, y + j, z + k);
-
-						if (block.isLeaves(world, x, y, z)) 
-						{
-							block.beginLeavesDecay(world, x + i, y + j, z + k);
-						}
-					}
-				}
-			}
-		}
+		LeafDecayManager.scheduleCheck(world, x, y, z);
 	}
 
 	@Override
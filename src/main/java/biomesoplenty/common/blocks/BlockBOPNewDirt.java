@@ -7,6 +7,7 @@ import java.util.List;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import biomesoplenty.BiomesOPlenty;
+import biomesoplenty.common.helpers.GrassSpreadFrontier;
 import biomesoplenty.common.utils.ISubLocalization;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockBush;
@@ -19,6 +20,7 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
 import net.minecraftforge.common.EnumPlantType;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.util.ForgeDirection;
@@ -43,6 +45,13 @@ public class BlockBOPNewDirt extends BlockDirt implements ISubLocalization
     {
         return meta;
     }
+
+    @Override
+	public void onBlockAdded(World world, int x, int y, int z)
+    {
+        //Grass nearby may now have somewhere to spread to
+        if (!world.isRemote) GrassSpreadFrontier.invalidate(world, x, y, z);
+    }
 	
 	@Override
 	public String getUnlocalizedName(String baseName, ItemStack itemStack) 
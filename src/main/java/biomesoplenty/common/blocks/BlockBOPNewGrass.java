@@ -10,6 +10,8 @@ import cpw.mods.fml.relauncher.SideOnly;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.client.render.RenderUtils;
+import biomesoplenty.common.configuration.BOPConfigurationMisc;
+import biomesoplenty.common.helpers.GrassSpreadFrontier;
 import biomesoplenty.common.utils.ISubLocalization;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockBush;
@@ -23,6 +25,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.EnumPlantType;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.util.ForgeDirection;
@@ -47,38 +50,70 @@ public class BlockBOPNewGrass extends BlockGrass implements ISubLocalization
     {
         if (!world.isRemote)
         {
-            if (world.getBlockLightValue(x, y + 1, z) < 4 && world.getBlockLightOpacity(x, y + 1, z) > 2)
+            Chunk chunk = world.getChunkFromBlockCoords(x, z);
+            Block blockAbove = y < 255 ? chunk.getBlock(x & 15, y + 1, z & 15) : Blocks.air;
+            int lightAbove = getLightValue(world, chunk, blockAbove, x, y + 1, z);
+
+            if (lightAbove < 4 && blockAbove.getLightOpacity(world, x, y + 1, z) > 2)
             {
                 world.setBlock(x, y, z, BOPCBlocks.newBopDirt, world.getBlockMetadata(x, y, z) * 2, 2);
             }
-            else if (world.getBlockLightValue(x, y + 1, z) >= 9)
+            else if (lightAbove >= 9)
             {
+                //Most grass has nothing left to spread to, so it can skip picking blocks to try
+                if (BOPConfigurationMisc.grassSpreadFrontier && !GrassSpreadFrontier.isOnFrontier(world, x, y, z)) return;
+
                 for (int l = 0; l < 4; ++l)
                 {
                     int randX = x + random.nextInt(3) - 1;
                     int randY = y + random.nextInt(5) - 3;
                     int randZ = z + random.nextInt(3) - 1;
-                    
-                    Block block = world.getBlock(randX, randY + 1, randZ);
 
-                    if (world.getBlockLightValue(randX, randY + 1, randZ) >= 4 && world.getBlockLightOpacity(randX, randY + 1, randZ) <= 2)
-                    {
-                    	if (world.getBlock(randX, randY, randZ) == Blocks.dirt && world.getBlockMetadata(randX, randY, randZ) == 0)
-                    	{
-                    		world.setBlock(randX, randY, randZ, Blocks.grass);
-                    	}
-                    	else if (world.getBlock(randX, randY, randZ) == BOPCBlocks.newBopDirt)
-                    	{
-                    		int dirtMeta = world.getBlockMetadata(randX, randY, randZ);
-                    		
-                    		world.setBlock(randX, randY, randZ, BOPCBlocks.newBopGrass, (dirtMeta - (dirtMeta & 1)) / 2, 2);
-                    	}
-                    }
+                    this.spreadTo(world, randX, randY, randZ);
                 }
             }
         }
     }
 
+    /**
+     * Converts the given block to grass if it is lit dirt. Both it and the block above it are read from the same chunk.
+     */
+    private void spreadTo(World world, int x, int y, int z)
+    {
+        if (y < 0 || y >= 255) return;
+
+        Chunk chunk = world.getChunkFromBlockCoords(x, z);
+        Block block = chunk.getBlock(x & 15, y, z & 15);
+        int meta = chunk.getBlockMetadata(x & 15, y, z & 15);
+
+        if (!GrassSpreadFrontier.isSpreadable(block, meta)) return;
+
+        Block blockAbove = chunk.getBlock(x & 15, y + 1, z & 15);
+
+        if (getLightValue(world, chunk, blockAbove, x, y + 1, z) >= 4 && blockAbove.getLightOpacity(world, x, y + 1, z) <= 2)
+        {
+            if (block == Blocks.dirt)
+            {
+                world.setBlock(x, y, z, Blocks.grass);
+            }
+            else
+            {
+                world.setBlock(x, y, z, BOPCBlocks.newBopGrass, (meta - (meta & 1)) / 2, 2);
+            }
+        }
+    }
+
+    /**
+     * The same as World.getBlockLightValue, without looking up the chunk again.
+     */
+    private static int getLightValue(World world, Chunk chunk, Block block, int x, int y, int z)
+    {
+        //Slabs, stairs and farmland take their light from their neighbours
+        if (y >= 256 || block.getUseNeighborBrightness()) return world.getBlockLightValue(x, y, z);
+
+        return chunk.getBlockLightValue(x & 15, y, z & 15, world.skylightSubtracted);
+    }
+
     @Override
 	public boolean canSustainPlant(IBlockAccess world, int x, int y, int z, ForgeDirection direction, IPlantable plantable)
     {
@@ -22,13 +22,13 @@ import net.minecraftforge.common.util.FakePlayer;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.common.helpers.LeafDecayManager;
 import cpw.mods.fml.common.Loader;
 
 public class BlockBOPPersimmonLeaves extends BlockLeavesBase implements IShearable
 {
 	private IIcon[][] textures;
 	private IIcon[] betterTextures;
-	int[] adjacentTreeBlocks;
 
 	public BlockBOPPersimmonLeaves()
 	{
@@ -40,6 +40,8 @@ public class BlockBOPPersimmonLeaves extends BlockLeavesBase implements IShearab
 		this.setLightOpacity(1);
 		
 		this.setCreativeTab(BiomesOPlenty.tabBiomesOPlenty);
+
+		LeafDecayManager.registerLeaves(this);
 	}
 
 	@Override
@@ -106,29 +108,13 @@ public class BlockBOPPersimmonLeaves extends BlockLeavesBase implements IShearab
 
     @Override
 	public void breakBlock(World world, int x, int y, int z, Block par5, int par6)
-    {
-        byte radius = 1;
-        int bounds = radius + 1;
-
-        if (world.checkChunksExist(x - bounds, y - bounds, z - bounds, x + bounds, y + bounds, z + bounds)) 
-        {
-            for (int i = -radius; i <= radius; ++i) 
-            {
-                for (int j = -radius; j <= radius; ++j) 
-                {
-                    for (int k = -radius; k <= radius; ++k)
-                    {
-						Block block = world.getBlock(x + i, y + j, z + k);
-
-						if (block.isLeaves(world, x, y, z)) 
-						{
-							block.beginLeavesDecay(world, x + i, y + j, z + k);
-						}
-                    }
-                }
-            }
-        }
-    }
+	{
+		//Growing sets the block again with new metadata, which can't affect the leaves around it
+		if (world.getBlock(x, y, z) != this)
+		{
+			LeafDecayManager.scheduleCheck(world, x, y, z);
+		}
+	}
 
 	@Override
 	public void updateTick(World world, int x, int y, int z, Random random)
@@ -146,114 +132,10 @@ public class BlockBOPPersimmonLeaves extends BlockLeavesBase implements IShearab
 
 		if ((meta & 8) != 0/* && (meta & 4) == 0*/)
 		{
-			byte b0 = 4;
-			int i1 = b0 + 1;
-			byte b1 = 32;
-			int j1 = b1 * b1;
-			int k1 = b1 / 2;
-
-			if (adjacentTreeBlocks == null)
-			{
-				adjacentTreeBlocks = new int[b1 * b1 * b1];
-			}
-
-			int l1;
-
-			if (world.checkChunksExist(x - i1, y - i1, z - i1, x + i1, y + i1, z + i1))
-			{
-				int i2;
-				int j2;
-				int k2;
-
-				for (l1 = -b0; l1 <= b0; ++l1)
-				{
-					for (i2 = -b0; i2 <= b0; ++i2)
-					{
-						for (j2 = -b0; j2 <= b0; ++j2)
-						{
-                            Block block = world.getBlock(x + l1, y + i2, z + j2);
-
-							if (block != null && block.canSustainLeaves(world, x + l1, y + i2, z + j2))
-							{
-								adjacentTreeBlocks[(l1 + k1) * j1 + (i2 + k1) * b1 + j2 + k1] = 0;
-							}
-							else if (block != null && block.isLeaves(world, x + l1, y + i2, z + j2))
-							{
-								adjacentTreeBlocks[(l1 + k1) * j1 + (i2 + k1) * b1 + j2 + k1] = -2;
-							}
-							else
-							{
-								adjacentTreeBlocks[(l1 + k1) * j1 + (i2 + k1) * b1 + j2 + k1] = -1;
-							}
-						}
-					}
-				}
-
-				for (l1 = 1; l1 <= 4; ++l1)
-				{
-					for (i2 = -b0; i2 <= b0; ++i2)
-					{
-						for (j2 = -b0; j2 <= b0; ++j2)
-						{
-							for (k2 = -b0; k2 <= b0; ++k2)
-							{
-								if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + k2 + k1] == l1 - 1)
-								{
-									if (adjacentTreeBlocks[(i2 + k1 - 1) * j1 + (j2 + k1) * b1 + k2 + k1] == -2)
-									{
-										adjacentTreeBlocks[(i2 + k1 - 1) * j1 + (j2 + k1) * b1 + k2 + k1] = l1;
-									}
-
-									if (adjacentTreeBlocks[(i2 + k1 + 1) * j1 + (j2 + k1) * b1 + k2 + k1] == -2)
-									{
-										adjacentTreeBlocks[(i2 + k1 + 1) * j1 + (j2 + k1) * b1 + k2 + k1] = l1;
-									}
-
-									if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1 - 1) * b1 + k2 + k1] == -2)
-									{
-										adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1 - 1) * b1 + k2 + k1] = l1;
-									}
-
-									if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1 + 1) * b1 + k2 + k1] == -2)
-									{
-										adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1 + 1) * b1 + k2 + k1] = l1;
-									}
-
-									if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + (k2 + k1 - 1)] == -2)
-									{
-										adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + (k2 + k1 - 1)] = l1;
-									}
-
-									if (adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + k2 + k1 + 1] == -2)
-									{
-										adjacentTreeBlocks[(i2 + k1) * j1 + (j2 + k1) * b1 + k2 + k1 + 1] = l1;
-									}
-								}
-							}
-						}
-					}
-				}
-			}
-
-			l1 = adjacentTreeBlocks[k1 * j1 + k1 * b1 + k1];
-
-			if (l1 >= 0)
-			{
-				world.setBlockMetadataWithNotify(x, y, z, meta & -9, 4);
-			}
-			else
-			{
-				this.removeLeaves(world, x, y, z);
-			}
+			LeafDecayManager.checkLeaves(world, x, y, z);
 		}
 	}
 
-    private void removeLeaves(World world, int x, int y, int z)
-    {
-        this.dropBlockAsItem(world, x, y, z, world.getBlockMetadata(x, y, z), 0);
-        world.setBlockToAir(x, y, z);
-    }
-
 	@Override
 	public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int side, float hitVecX, float hitVecY, float hitVecZ)
 	{
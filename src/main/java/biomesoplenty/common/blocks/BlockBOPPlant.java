@@ -181,10 +181,8 @@ public class BlockBOPPlant extends BOPBlockWorldDecor implements IShearable
 	}
 
 	@Override
-    public boolean canReplace(World world, int x, int y, int z, int side, ItemStack itemStack)
+    public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata)
 	{
-		int metadata = itemStack != null ? itemStack.getItemDamage() : 0;
-		
         if (metadata == 5 || metadata == 13 || metadata == 15)
         	return this.isValidPosition(world, x, y, z, metadata);
         else
@@ -206,7 +204,7 @@ public class BlockBOPPlant extends BOPBlockWorldDecor implements IShearable
 		}
 		else if (world.getBlockMetadata(x, y, z) == 8) 
 		{
-			if (!this.canReplace(world, x, y, z, 0, new ItemStack(BOPCBlocks.plants, 1, 8)))
+			if (!this.canPlaceWithMetadata(world, x, y, z, 8))
 			{
 				this.dropBlockAsItem(world, x, y, z, world.getBlockMetadata(x, y, z), 0);
 				world.setBlockToAir(x, y, z);
@@ -17,6 +17,7 @@ import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.BOPBlockHelper;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.blocks.templates.IPlacementPredicate;
 import biomesoplenty.common.world.features.trees.WorldGenBOPBigTree;
 import biomesoplenty.common.world.features.trees.WorldGenBOPSwampTree;
 import biomesoplenty.common.world.features.trees.WorldGenBOPTaiga2;
@@ -24,7 +25,7 @@ import biomesoplenty.common.world.features.trees.WorldGenBulbTree;
 import biomesoplenty.common.world.features.trees.WorldGenMiniShrub;
 import biomesoplenty.common.world.features.trees.WorldGenOriginalTree;
 
-public class BlockBOPSapling extends BlockSapling
+public class BlockBOPSapling extends BlockSapling implements IPlacementPredicate
 {
 	private static final String[] saplings = new String[] {"apple", "yellowautumn", "bamboo", "magic", "dark", "dead", "fir", "ethereal", "orangeautumn", "origin", "pinkcherry", "maple", "whitecherry", "hellbark", "jacaranda", "persimmon"};
 	private IIcon[] textures;
@@ -72,10 +73,15 @@ public class BlockBOPSapling extends BlockSapling
 	@Override
 	public boolean canReplace(World world, int x, int y, int z, int side, ItemStack itemStack)
 	{
-		int metadata = itemStack != null ? itemStack.getItemDamage() : 0;
-		return this.canPlaceBlockAt(world, x, y, z) && this.isValidPosition(world, x, y, z, metadata);
+		return this.canPlaceWithMetadata(world, x, y, z, itemStack != null ? itemStack.getItemDamage() : 0);
 	} 
 	
+	@Override
+	public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata)
+	{
+		return this.canPlaceBlockAt(world, x, y, z) && this.isValidPosition(world, x, y, z, metadata);
+	}
+	
 	/**
 	* Checks to see if its valid to put this block at the specified coordinates. Args: world, x, y, z
 	*/
@@ -106,9 +106,8 @@ public class BlockStoneFormations extends BOPBlockWorldDecor implements ISubLoca
 	}
 
 	@Override
-    public boolean canReplace(World world, int x, int y, int z, int side, ItemStack itemStack)
+    public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata)
 	{
-		int metadata = itemStack != null ? itemStack.getItemDamage() : 0;
 		return isValidPosition(world, x, y, z, metadata);
 	}
 	
@@ -9,7 +9,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 
-public abstract class BOPBlockWorldDecor extends BlockBush
+public abstract class BOPBlockWorldDecor extends BlockBush implements IPlacementPredicate
 {
 	public BOPBlockWorldDecor(Material material)
 	{
@@ -33,11 +33,17 @@ public abstract class BOPBlockWorldDecor extends BlockBush
 	
     @Override
     public boolean canReplace(World world, int x, int y, int z, int side, ItemStack itemStack)
+    {
+    	return this.canPlaceWithMetadata(world, x, y, z, itemStack != null ? itemStack.getItemDamage() : 0);
+    } 
+    
+    @Override
+    public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata)
     {
     	if (world.getBlock(x, y - 1, z) == Blocks.air) return false;
     	
-    	return isValidPosition(world, x, y, z, itemStack != null ? itemStack.getItemDamage() : 0);
-    } 
+    	return isValidPosition(world, x, y, z, metadata);
+    }
 	
     public void dropIfCantStay(World world, int x, int y, int z, ItemStack stack)
     {
@@ -0,0 +1,12 @@
+package biomesoplenty.common.blocks.templates;
+
+import net.minecraft.world.World;
+
+/**
+ * Implemented by our blocks whose placement depends on their metadata, so that world generation can check a
+ * position without creating an ItemStack for canReplace.
+ */
+public interface IPlacementPredicate
+{
+	public boolean canPlaceWithMetadata(World world, int x, int y, int z, int metadata);
+}
@@ -17,6 +17,7 @@ public class BOPConfigurationMisc
 	public static boolean titlePanorama;
 
     public static boolean hotSpringsRegeneration;
+    public static boolean grassSpreadFrontier;
 	
 	public static int spawnSearchRadius;
 	public static boolean onlySpawnOnBeaches;
@@ -33,6 +34,7 @@ public class BOPConfigurationMisc
 			dungeonLoot = config.get("Miscellanious Settings", "Add Custom Dungeon Loot", true).getBoolean(false);
 			hotSpringsRegeneration = config.get("Miscellanious Settings", "Enable Spring Water Regeneration Effect", true).getBoolean(true);
             hotSpringsRegeneration = config.get("Miscellanious Settings", "Behave Normally During Special Events", false).getBoolean(false);
+            grassSpreadFrontier = config.get("Miscellanious Settings", "Only Spread Grass Next To Dirt", false, "Skips the spreading checks of Biomes O\' Plenty grass with no dirt around it. Grass may take up to 30 seconds to notice dirt that wasn\'t placed by Biomes O\' Plenty").getBoolean(false);
             		titlePanorama = config.get("Miscellanious Settings", "Enable Biomes O\' Plenty Main Menu Panorama", true).getBoolean(false);
 
 			//Hard-Coded Colors
@@ -21,6 +21,13 @@ public class BOPConfigurationTerrainGen
 	public static boolean oceanFiller;
 	public static int landmassPercentage;
 	
+	public static boolean persistentBiomeCache;
+	
+	public static boolean interpolatedEndTerrain;
+	
+	public static boolean detectCascadingGeneration;
+	public static boolean preventCascadingGeneration;
+	
 	public static boolean genOreGeneral;
 	public static boolean genAmethystOre;
 	public static boolean genRubyOre;
@@ -47,6 +54,13 @@ public class BOPConfigurationTerrainGen
 			oceanFiller = config.get("Biomes O\' Plenty World Type Settings", "OceanFiller", true, "Fills the ocean with land biomes if there is an excessive amount. This must be disabled to use the landmass percentage").getBoolean();
 			landmassPercentage = config.get("Biomes O\' Plenty World Type Settings", "Landmass Percentage", 10, "Requires ocean filler to be disabled. In Vanilla it is set to 10. Takes values from 0 to 100.").getInt();
 			
+			persistentBiomeCache = config.get("Biomes O\' Plenty World Type Settings", "Persistent Biome Cache", false, "Stores generated biome maps in the world folder so they don't have to be recalculated after a restart. Discarded automatically if the seed or biome settings change.").getBoolean(false);
+			
+			interpolatedEndTerrain = config.get("Dimension Settings", "Interpolated Spectral Garden Terrain", false, "Generates the Spectral Garden from noise sampled every few blocks and interpolated in between. Much faster, but the terrain differs slightly from the default.").getBoolean(false);
+			
+			detectCascadingGeneration = config.get("Biomes O\' Plenty World Type Settings", "Log Cascading Decoration", false, "Logs the feature and biome responsible whenever decorating a chunk causes another chunk to be loaded or generated.").getBoolean(false);
+			preventCascadingGeneration = config.get("Biomes O\' Plenty World Type Settings", "Keep Decoration Within Loaded Chunks", false, "Leaves out the parts of features, and the large trees, that would otherwise cause more chunks to be loaded or generated while decorating. Speeds up exploration, but features are occasionally cut short at chunk borders.").getBoolean(false);
+			
 			
 			//Ores
 			genOreGeneral = config.get("Biomes O\' Plenty World Type Settings", "OreGeneration", true, "Disable or Enable all BoP ore generation.").getBoolean();
@@ -1,12 +1,12 @@
 package biomesoplenty.common.entities;
 
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.EnumSkyBlock;
 import net.minecraft.world.World;
 import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.common.entities.ai.FlyingNavigator;
 
 public class EntityPixie extends EntityFlyingCreature
 {
@@ -41,7 +41,7 @@ public class EntityPixie extends EntityFlyingCreature
             this.courseChangeCooldown += this.rand.nextInt(2) + 2;
             d3 = (double)MathHelper.sqrt_double(d3);
 
-            if (this.isCourseTraversable(this.waypointX, this.waypointY, this.waypointZ, d3))
+            if (FlyingNavigator.isCourseTraversable(this, this.waypointX, this.waypointY, this.waypointZ, d3))
             {
                 this.motionX += d0 / d3 * 0.1D;
                 this.motionY += d1 / d3 * 0.1D;
@@ -58,26 +58,6 @@ public class EntityPixie extends EntityFlyingCreature
         this.renderYawOffset = this.rotationYaw = -((float)Math.atan2(this.motionX, this.motionZ)) * 180.0F / (float)Math.PI;
     }
 
-    private boolean isCourseTraversable(double par1, double par3, double par5, double par7)
-    {
-        double d4 = (this.waypointX - this.posX) / par7;
-        double d5 = (this.waypointY - this.posY) / par7;
-        double d6 = (this.waypointZ - this.posZ) / par7;
-        AxisAlignedBB axisalignedbb = this.boundingBox.copy();
-
-        for (int i = 1; (double)i < par7; ++i)
-        {
-            axisalignedbb.offset(d4, d5, d6);
-            
-            if (!this.worldObj.getCollidingBoundingBoxes(this, axisalignedbb).isEmpty())
-            {
-                return false;
-            }
-        }
-
-        return true;
-    }
-    
 	@Override
 	protected void dropFewItems(boolean par1, int par2)
 	{
@@ -2,10 +2,10 @@ package biomesoplenty.common.entities;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.SharedMonsterAttributes;
-import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.World;
+import biomesoplenty.common.entities.ai.FlyingNavigator;
 
 public class EntityWasp extends EntityFlyingMob
 {
@@ -57,7 +57,7 @@ public class EntityWasp extends EntityFlyingMob
             this.courseChangeCooldown += this.rand.nextInt(2) + 2;
             d3 = (double)MathHelper.sqrt_double(d3);
 
-            if (this.isCourseTraversable(this.waypointX, this.waypointY, this.waypointZ, d3))
+            if (FlyingNavigator.isCourseTraversable(this, this.waypointX, this.waypointY, this.waypointZ, d3))
             {
                 this.motionX += d0 / d3 * 0.1D;
                 this.motionY += d1 / d3 * 0.1D;
@@ -76,14 +76,12 @@ public class EntityWasp extends EntityFlyingMob
             this.targetedEntity = null;
         }
 
-        if (this.targetedEntity == null || this.aggroCooldown-- <= 0)
+        if (this.aggroCooldown-- <= 0)
         {
             this.targetedEntity = this.worldObj.getClosestVulnerablePlayerToEntity(this, 100.0D);
 
-            if (this.targetedEntity != null)
-            {
-                this.aggroCooldown = 20;
-            }
+            //Wasps without a target look again sooner, at staggered times so a whole hive doesn't search on the same tick
+            this.aggroCooldown = this.targetedEntity != null ? 20 : 5 + this.rand.nextInt(10);
         }
 
         double d4 = 64.0D;
@@ -112,26 +110,6 @@ public class EntityWasp extends EntityFlyingMob
         }
     }
 
-    private boolean isCourseTraversable(double par1, double par3, double par5, double par7)
-    {
-        double d4 = (this.waypointX - this.posX) / par7;
-        double d5 = (this.waypointY - this.posY) / par7;
-        double d6 = (this.waypointZ - this.posZ) / par7;
-        AxisAlignedBB axisalignedbb = this.boundingBox.copy();
-
-        for (int i = 1; (double)i < par7; ++i)
-        {
-            axisalignedbb.offset(d4, d5, d6);
-
-            if (!this.worldObj.getCollidingBoundingBoxes(this, axisalignedbb).isEmpty())
-            {
-                return false;
-            }
-        }
-
-        return true;
-    }
-    
     @Override
     protected String getLivingSound()
     {
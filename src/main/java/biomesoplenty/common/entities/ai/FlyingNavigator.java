@@ -0,0 +1,308 @@
+package biomesoplenty.common.entities.ai;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/**
+ * Course checks shared by our flying mobs. Rather than asking the world for colliding bounding boxes at every
+ * step of a course, the blocks the entity's box passes through are looked up in a cache of each chunk section's
+ * collision boxes, and the entities it could collide with are found once for the whole course.
+ */
+public class FlyingNavigator
+{
+    /** How long the collision boxes of a section are trusted for, in ticks */
+    private static final int EXPIRY_TIME = 100;
+
+    /** The number of sections held per world before the least recently used one is forgotten */
+    private static final int MAX_SECTIONS = 1024;
+
+    private static final Map<World, LinkedHashMap<Long, SectionSolidity>> solidityCaches = Collections.synchronizedMap(new WeakHashMap<World, LinkedHashMap<Long, SectionSolidity>>());
+
+    /**
+     * Checks whether the entity's bounding box can be moved to the given position in steps of one block
+     * without colliding with a block or entity.
+     */
+    public static boolean isCourseTraversable(Entity entity, double x, double y, double z, double distance)
+    {
+        double stepX = (x - entity.posX) / distance;
+        double stepY = (y - entity.posY) / distance;
+        double stepZ = (z - entity.posZ) / distance;
+        AxisAlignedBB boundingBox = entity.boundingBox;
+        CourseMarch march = new CourseMarch(entity, boundingBox.addCoord(x - entity.posX, y - entity.posY, z - entity.posZ));
+
+        for (int i = 1; (double)i < distance; ++i)
+        {
+            if (march.isObstructed(boundingBox.minX + stepX * i, boundingBox.minY + stepY * i, boundingBox.minZ + stepZ * i, boundingBox.maxX + stepX * i, boundingBox.maxY + stepY * i, boundingBox.maxZ + stepZ * i))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static LinkedHashMap<Long, SectionSolidity> getSections(World world)
+    {
+        synchronized (solidityCaches)
+        {
+            LinkedHashMap<Long, SectionSolidity> sections = solidityCaches.get(world);
+
+            if (sections == null)
+            {
+                //Kept in access order, so the first entry is always the one used least recently
+                sections = new LinkedHashMap<Long, SectionSolidity>(16, 0.75F, true);
+                solidityCaches.put(world, sections);
+            }
+
+            return sections;
+        }
+    }
+
+    private static Long getSectionKey(int sectionX, int sectionY, int sectionZ)
+    {
+        return Long.valueOf(((long)sectionX & 4194303L) << 26 | ((long)sectionZ & 4194303L) << 4 | ((long)sectionY & 15L));
+    }
+
+    /**
+     * Whether two boxes overlap, the same way AxisAlignedBB.intersectsWith judges it.
+     */
+    private static boolean intersects(AxisAlignedBB box, double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+    {
+        return box.maxX > minX && box.minX < maxX && box.maxY > minY && box.minY < maxY && box.maxZ > minZ && box.minZ < maxZ;
+    }
+
+    /**
+     * Walks the blocks covered by each step of a course, remembering the last section it looked at.
+     */
+    private static class CourseMarch
+    {
+        private final World world;
+        private final LinkedHashMap<Long, SectionSolidity> sections;
+        private final long worldTime;
+
+        /** The boxes of entities anywhere along the course that the moving entity would collide with */
+        private final List<AxisAlignedBB> entityBoxes = new ArrayList<AxisAlignedBB>();
+
+        private int lastSectionX;
+        private int lastSectionY;
+        private int lastSectionZ;
+        private SectionSolidity lastSection;
+
+        public CourseMarch(Entity entity, AxisAlignedBB course)
+        {
+            this.world = entity.worldObj;
+            this.sections = getSections(world);
+            this.worldTime = world.getTotalWorldTime();
+
+            //The same entities the world would find at each step, such as boats and minecarts
+            List entities = world.getEntitiesWithinAABBExcludingEntity(entity, course.expand(0.25D, 0.25D, 0.25D));
+
+            for (int i = 0; i < entities.size(); i++)
+            {
+                Entity other = (Entity)entities.get(i);
+                AxisAlignedBB box = other.getBoundingBox();
+
+                if (box != null) entityBoxes.add(box);
+
+                box = entity.getCollisionBox(other);
+
+                if (box != null) entityBoxes.add(box);
+            }
+        }
+
+        public boolean isObstructed(double minX, double minY, double minZ, double maxX, double maxY, double maxZ)
+        {
+            //Boxes that only touch a block don't collide with it
+            int fromX = MathHelper.floor_double(minX);
+            int fromY = MathHelper.floor_double(minY);
+            int fromZ = MathHelper.floor_double(minZ);
+            int toX = MathHelper.floor_double(maxX - 1.0E-7D);
+            int toY = MathHelper.floor_double(maxY - 1.0E-7D);
+            int toZ = MathHelper.floor_double(maxZ - 1.0E-7D);
+
+            for (int x = fromX; x <= toX; x++)
+            {
+                for (int z = fromZ; z <= toZ; z++)
+                {
+                    //Fences and walls stick up into the block above them
+                    for (int y = fromY - 1; y <= toY; y++)
+                    {
+                        if (y < 0 || y >= 256) continue;
+
+                        SectionSolidity section = this.getSection(x >> 4, y >> 4, z >> 4);
+
+                        if (y >= fromY && section.isSolid(x & 15, y & 15, z & 15)) return true;
+
+                        AxisAlignedBB[] boxes = section.getPartialBoxes(x & 15, y & 15, z & 15);
+
+                        if (boxes == null) continue;
+
+                        for (AxisAlignedBB box : boxes)
+                        {
+                            if (intersects(box, minX, minY, minZ, maxX, maxY, maxZ)) return true;
+                        }
+                    }
+                }
+            }
+
+            for (AxisAlignedBB box : entityBoxes)
+            {
+                if (intersects(box, minX, minY, minZ, maxX, maxY, maxZ)) return true;
+            }
+
+            return false;
+        }
+
+        private SectionSolidity getSection(int sectionX, int sectionY, int sectionZ)
+        {
+            if (lastSection != null && lastSectionX == sectionX && lastSectionY == sectionY && lastSectionZ == sectionZ) return lastSection;
+
+            Long key = getSectionKey(sectionX, sectionY, sectionZ);
+            SectionSolidity section;
+
+            synchronized (sections)
+            {
+                section = sections.get(key);
+
+                if (section == null || worldTime - section.creationTime > EXPIRY_TIME)
+                {
+                    if (section == null && sections.size() >= MAX_SECTIONS) this.removeLeastRecentlyUsed();
+
+                    section = new SectionSolidity(world, sectionX, sectionY, sectionZ, worldTime);
+                    sections.put(key, section);
+                }
+            }
+
+            lastSectionX = sectionX;
+            lastSectionY = sectionY;
+            lastSectionZ = sectionZ;
+            lastSection = section;
+
+            return section;
+        }
+
+        private void removeLeastRecentlyUsed()
+        {
+            Iterator<SectionSolidity> iterator = sections.values().iterator();
+
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static class SectionSolidity
+    {
+        public final long creationTime;
+
+        /** One bit per full cube in the section, indexed by y << 8 | z << 4 | x, or null if there are none */
+        private long[] mask;
+
+        /** The collision boxes of blocks that aren't full cubes, such as slabs and fences, by the same index */
+        private HashMap<Integer, AxisAlignedBB[]> partialBoxes;
+
+        /** Set for sections in chunks that aren't loaded, which mobs shouldn't try to fly into */
+        private final boolean unloaded;
+
+        public SectionSolidity(World world, int sectionX, int sectionY, int sectionZ, long creationTime)
+        {
+            this.creationTime = creationTime;
+
+            if (!world.getChunkProvider().chunkExists(sectionX, sectionZ))
+            {
+                this.unloaded = true;
+
+                return;
+            }
+
+            Chunk chunk = world.getChunkFromChunkCoords(sectionX, sectionZ);
+            ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+
+            this.unloaded = false;
+
+            if (storage == null || storage.isEmpty()) return;
+
+            int baseX = sectionX << 4;
+            int baseY = sectionY << 4;
+            int baseZ = sectionZ << 4;
+            List<AxisAlignedBB> boxes = new ArrayList<AxisAlignedBB>();
+
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    for (int x = 0; x < 16; x++)
+                    {
+                        Block block = storage.getBlockByExtId(x, y, z);
+
+                        if (block.getMaterial() == Material.air) continue;
+
+                        int blockX = baseX + x;
+                        int blockY = baseY + y;
+                        int blockZ = baseZ + z;
+
+                        //Taller than a block so that fences and walls are included, and without an entity as the boxes are shared
+                        boxes.clear();
+                        block.addCollisionBoxesToList(world, blockX, blockY, blockZ, AxisAlignedBB.getBoundingBox(blockX, blockY, blockZ, blockX + 1, blockY + 2, blockZ + 1), boxes, null);
+
+                        if (boxes.isEmpty()) continue;
+
+                        int index = y << 8 | z << 4 | x;
+
+                        if (boxes.size() == 1 && isFullCube(boxes.get(0), blockX, blockY, blockZ))
+                        {
+                            if (mask == null) mask = new long[64];
+
+                            mask[index >> 6] |= 1L << (index & 63);
+                        }
+                        else
+                        {
+                            if (partialBoxes == null) partialBoxes = new HashMap<Integer, AxisAlignedBB[]>();
+
+                            partialBoxes.put(index, boxes.toArray(new AxisAlignedBB[boxes.size()]));
+                        }
+                    }
+                }
+            }
+        }
+
+        private static boolean isFullCube(AxisAlignedBB box, int x, int y, int z)
+        {
+            return box.minX == x && box.minY == y && box.minZ == z && box.maxX == x + 1 && box.maxY == y + 1 && box.maxZ == z + 1;
+        }
+
+        public boolean isSolid(int localX, int localY, int localZ)
+        {
+            if (unloaded) return true;
+            if (mask == null) return false;
+
+            int index = localY << 8 | localZ << 4 | localX;
+
+            return (mask[index >> 6] & 1L << (index & 63)) != 0L;
+        }
+
+        /**
+         * Gets the collision boxes of the block if it isn't a full cube, in world coordinates.
+         */
+        public AxisAlignedBB[] getPartialBoxes(int localX, int localY, int localZ)
+        {
+            if (partialBoxes == null) return null;
+
+            return partialBoxes.get(localY << 8 | localZ << 4 | localX);
+        }
+    }
+}
@@ -3,11 +3,12 @@ package biomesoplenty.common.eventhandler;
 import net.minecraftforge.common.MinecraftForge;
 import biomesoplenty.client.fog.FogHandler;
 import biomesoplenty.client.utils.ParticleRegistry;
+import biomesoplenty.common.eventhandler.client.BiomeColourEventHandler;
 import biomesoplenty.common.eventhandler.client.FlowerScatterEventHandler;
 import biomesoplenty.common.eventhandler.client.gui.MainMenuEventHandler;
 import biomesoplenty.common.eventhandler.client.gui.WorldTypeMessageEventHandler;
 import biomesoplenty.common.eventhandler.entity.DyeEventHandler;
-import biomesoplenty.common.eventhandler.entity.FlippersEventHandler;
+import biomesoplenty.common.eventhandler.entity.EntityEffectEventHandler;
 import biomesoplenty.common.eventhandler.entity.SlimeSpawnEventHandler;
 import biomesoplenty.common.eventhandler.entity.TemptEventHandler;
 import biomesoplenty.common.eventhandler.misc.BonemealEventHandler;
@@ -15,9 +16,14 @@ import biomesoplenty.common.eventhandler.misc.BucketEventHandler;
 import biomesoplenty.common.eventhandler.misc.CompatibilityWithVanillaAchievements;
 import biomesoplenty.common.eventhandler.misc.OreDictionaryEventHandler;
 import biomesoplenty.common.eventhandler.potions.PotionParalysisEventHandler;
-import biomesoplenty.common.eventhandler.potions.PotionPossessionEventHandler;
+import biomesoplenty.common.eventhandler.world.BiomeCacheEventHandler;
+import biomesoplenty.common.eventhandler.world.BiomeSearchEventHandler;
 import biomesoplenty.common.eventhandler.world.BiomeSizeEventHandler;
+import biomesoplenty.common.eventhandler.world.BlockChangeEventHandler;
+import biomesoplenty.common.eventhandler.world.CascadingGenerationEventHandler;
+import biomesoplenty.common.eventhandler.world.ChunkGenerationStatsEventHandler;
 import biomesoplenty.common.eventhandler.world.DecorationModificationEventHandler;
+import biomesoplenty.common.eventhandler.world.LeafDecayEventHandler;
 import biomesoplenty.common.eventhandler.world.MapGenEventHandler;
 import biomesoplenty.common.eventhandler.world.VillageMaterialEventHandler;
 import cpw.mods.fml.common.FMLCommonHandler;
@@ -41,24 +47,35 @@ public class BOPEventHandlers
 	
 	private static void registerWorldEventHandlers()
 	{
+		CascadingGenerationEventHandler cascadingGenerationEventHandler = new CascadingGenerationEventHandler();
+
 		MinecraftForge.TERRAIN_GEN_BUS.register(new DecorationModificationEventHandler());
 		MinecraftForge.TERRAIN_GEN_BUS.register(new BiomeSizeEventHandler());
 		MinecraftForge.TERRAIN_GEN_BUS.register(new VillageMaterialEventHandler());
 		MinecraftForge.TERRAIN_GEN_BUS.register(new MapGenEventHandler());
+		MinecraftForge.EVENT_BUS.register(new BiomeCacheEventHandler());
+		MinecraftForge.TERRAIN_GEN_BUS.register(cascadingGenerationEventHandler);
+		MinecraftForge.EVENT_BUS.register(cascadingGenerationEventHandler);
+		MinecraftForge.EVENT_BUS.register(new ChunkGenerationStatsEventHandler());
+		FMLCommonHandler.instance().bus().register(new BiomeSearchEventHandler());
+		FMLCommonHandler.instance().bus().register(new LeafDecayEventHandler());
+		FMLCommonHandler.instance().bus().register(new BlockChangeEventHandler());
 	}
 	
 	private static void registerEntityEventHandlers()
 	{
+		EntityEffectEventHandler entityEffectEventHandler = new EntityEffectEventHandler();
+
 		MinecraftForge.EVENT_BUS.register(new SlimeSpawnEventHandler());
 		MinecraftForge.EVENT_BUS.register(new DyeEventHandler());
-		MinecraftForge.EVENT_BUS.register(new FlippersEventHandler());
+		MinecraftForge.EVENT_BUS.register(entityEffectEventHandler);
+		FMLCommonHandler.instance().bus().register(entityEffectEventHandler);
 		MinecraftForge.EVENT_BUS.register(new TemptEventHandler());
 	}
 	
 	private static void registerPotionEventHandlers()
 	{
 		MinecraftForge.EVENT_BUS.register(new PotionParalysisEventHandler());
-		MinecraftForge.EVENT_BUS.register(new PotionPossessionEventHandler());
 	}
 	
 	private static void registerGUIEventHandlers()
@@ -80,5 +97,6 @@ public class BOPEventHandlers
 		MinecraftForge.EVENT_BUS.register(new FogHandler());
 		MinecraftForge.EVENT_BUS.register(new ParticleRegistry());
 		FMLCommonHandler.instance().bus().register(new FlowerScatterEventHandler());
+		MinecraftForge.EVENT_BUS.register(new BiomeColourEventHandler());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package biomesoplenty.common.eventhandler.client;
+
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import biomesoplenty.client.utils.BiomeColourCache;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+@SideOnly(Side.CLIENT)
+public class BiomeColourEventHandler
+{
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event)
+	{
+		if (event.world.isRemote)
+		{
+			BiomeColourCache.invalidate(event.getChunk().xPosition, event.getChunk().zPosition);
+		}
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event)
+	{
+		if (event.world.isRemote)
+		{
+			BiomeColourCache.invalidate(event.getChunk().xPosition, event.getChunk().zPosition);
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		if (event.world.isRemote)
+		{
+			BiomeColourCache.clear();
+		}
+	}
+}
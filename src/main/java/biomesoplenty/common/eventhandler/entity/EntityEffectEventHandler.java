@@ -0,0 +1,50 @@
+package biomesoplenty.common.eventhandler.entity;
+
+import net.minecraft.entity.EntityLiving;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import biomesoplenty.common.helpers.EntityEffectTracker;
+import biomesoplenty.common.utils.BOPLogger;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import cpw.mods.fml.relauncher.Side;
+
+public class EntityEffectEventHandler 
+{
+	@SubscribeEvent
+	public void onEntityJoinWorld(EntityJoinWorldEvent event)
+	{
+		//Mobs don't tick their armour, so those wearing flippers are picked up as they spawn or load
+		if (event.entity instanceof EntityLiving && EntityEffectTracker.isWearingFlippers((EntityLiving)event.entity))
+		{
+			EntityEffectTracker.track((EntityLiving)event.entity);
+		}
+	}
+
+	@SubscribeEvent
+	public void worldTick(TickEvent.WorldTickEvent event)
+	{
+		if (event.phase == Phase.START && event.side == Side.SERVER)
+		{
+			EntityEffectTracker.tick(event.world);
+		}
+	}
+
+	@SubscribeEvent
+	public void clientTick(TickEvent.ClientTickEvent event)
+	{
+		if (event.phase == Phase.START)
+		{
+			EntityEffectTracker.tickClient();
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		boolean remote = event.world.isRemote;
+
+		BOPLogger.fine("Tracking {} entities with flippers or potion effects on the {} side, at most {} at once", EntityEffectTracker.getTrackedCount(remote), remote ? "client" : "server", EntityEffectTracker.getPeakTrackedCount(remote));
+	}
+}
@@ -0,0 +1,26 @@
+package biomesoplenty.common.eventhandler.world;
+
+import net.minecraftforge.event.world.WorldEvent;
+import biomesoplenty.common.world.WorldChunkManagerBOP;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+public class BiomeCacheEventHandler 
+{
+	@SubscribeEvent
+	public void onWorldSave(WorldEvent.Save event)
+	{
+		if (event.world.provider.worldChunkMgr instanceof WorldChunkManagerBOP)
+		{
+			((WorldChunkManagerBOP)event.world.provider.worldChunkMgr).flushPersistentCache();
+		}
+	}
+	
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		if (event.world.provider.worldChunkMgr instanceof WorldChunkManagerBOP)
+		{
+			((WorldChunkManagerBOP)event.world.provider.worldChunkMgr).closePersistentCache();
+		}
+	}
+}
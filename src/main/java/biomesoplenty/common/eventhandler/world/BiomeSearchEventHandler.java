@@ -0,0 +1,18 @@
+package biomesoplenty.common.eventhandler.world;
+
+import biomesoplenty.common.helpers.BiomeSearchScheduler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+public class BiomeSearchEventHandler 
+{
+	@SubscribeEvent
+	public void serverTick(TickEvent.ServerTickEvent event)
+	{
+		if (event.phase == Phase.END)
+		{
+			BiomeSearchScheduler.tick();
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package biomesoplenty.common.eventhandler.world;
+
+import biomesoplenty.common.helpers.BlockChangeScheduler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+public class BlockChangeEventHandler 
+{
+	@SubscribeEvent
+	public void worldTick(TickEvent.WorldTickEvent event)
+	{
+		if (event.phase == Phase.END && !event.world.isRemote)
+		{
+			BlockChangeScheduler.tick(event.world);
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package biomesoplenty.common.eventhandler.world;
+
+import java.util.Map;
+
+import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import biomesoplenty.common.utils.BOPLogger;
+import biomesoplenty.common.world.generation.DecorationGuard;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+public class CascadingGenerationEventHandler
+{
+	@SubscribeEvent
+	public void onChunkLoad(ChunkEvent.Load event)
+	{
+		if (!event.world.isRemote)
+		{
+			DecorationGuard.onChunkLoad(event.world, event.getChunk());
+		}
+	}
+
+	@SubscribeEvent
+	public void onDecorate(Decorate event)
+	{
+		//Vanilla decoration fires this before each of its stages, such as the trees and big trees chosen by the biome
+		if (DecorationGuard.isDecorating(event.world))
+		{
+			DecorationGuard.setFeature("vanilla " + event.type.name().toLowerCase());
+		}
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		if (!event.world.isRemote)
+		{
+			for (Map.Entry<String, Integer> entry : DecorationGuard.getCascadeCounts().entrySet())
+			{
+				BOPLogger.info("{} has loaded {} chunks while decorating so far", entry.getKey(), entry.getValue());
+			}
+
+			for (Map.Entry<String, Long> entry : DecorationGuard.getSuppressedNotificationCounts().entrySet())
+			{
+				BOPLogger.info("{} has left out {} neighbour notifications while decorating so far", entry.getKey(), entry.getValue());
+			}
+		}
+	}
+}
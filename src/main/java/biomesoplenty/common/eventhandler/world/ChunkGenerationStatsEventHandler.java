@@ -0,0 +1,19 @@
+package biomesoplenty.common.eventhandler.world;
+
+import net.minecraftforge.event.world.WorldEvent;
+import biomesoplenty.common.utils.BOPLogger;
+import biomesoplenty.common.world.ChunkProviderBOPHell;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+public class ChunkGenerationStatsEventHandler
+{
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		//Our nether generator is only used in the nether, and records nothing when another mod's is used there instead
+		if (!event.world.isRemote && event.world.provider.dimensionId == -1 && ChunkProviderBOPHell.stats.getChunksProvided() > 0L)
+		{
+			BOPLogger.info("{}", ChunkProviderBOPHell.stats);
+		}
+	}
+}
@@ -7,6 +7,7 @@ import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.common.biome.decoration.BOPOverworldBiomeDecorator;
+import biomesoplenty.common.biome.decoration.OverworldBiomeFeatures;
 import cpw.mods.fml.common.eventhandler.Event.Result;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
@@ -38,7 +39,7 @@ public class DecorationModificationEventHandler
 	        {
 	        	if (event.type == Decorate.EventType.PUMPKIN)
 	        	{
-	        		if (!(Boolean)bopBiome.theBiomeDecorator.bopFeatures.getFeature("generatePumpkins"))
+	        		if (!((OverworldBiomeFeatures)bopBiome.theBiomeDecorator.bopFeatures).generatePumpkins)
 	        		{
 	        			event.setResult(Result.DENY);
 	        		}
@@ -4,38 +4,47 @@ import net.minecraft.world.biome.BiomeGenBase;
 
 public class BiomeCacheBlockHell
 {
-	/** An array of chunk temperatures saved by this cache. */
-	public float[] temperatureValues;
+	/** An array of chunk temperatures, generated the first time they are requested. */
+	private volatile float[] temperatureValues;
 
-	/** An array of chunk rainfall values saved by this cache. */
-	public float[] rainfallValues;
+	/** An array of chunk rainfall values, generated the first time they are requested. */
+	private volatile float[] rainfallValues;
 
-	/** The array of biome types stored in this BiomeCacheBlock. */
-	public BiomeGenBase[] biomes;
+	/** The ids of the biome types stored in this BiomeCacheBlock. */
+	private final byte[] biomeIds = new byte[256];
 
 	/** The x coordinate of the BiomeCacheBlock. */
-	public int xPosition;
+	public final int xPosition;
 
 	/** The z coordinate of the BiomeCacheBlock. */
-	public int zPosition;
+	public final int zPosition;
 
-	/** The last time this BiomeCacheBlock was accessed, in milliseconds. */
-	public long lastAccessTime;
+	/** The cache tick this BiomeCacheBlock was last accessed on. */
+	volatile int lastAccessTick;
+
+	/** Whether this BiomeCacheBlock has been accessed since the cache's clock hand last passed over it. */
+	volatile boolean referenced;
 
 	/** The BiomeCache object that contains this BiomeCacheBlock */
 	final BiomeCacheHell theBiomeCache;
 
-	public BiomeCacheBlockHell(BiomeCacheHell par1BiomeCache, int par2, int par3)
+	public BiomeCacheBlockHell(BiomeCacheHell par1BiomeCache, int par2, int par3, int[] par4ArrayOfInteger)
 	{
 		theBiomeCache = par1BiomeCache;
-		temperatureValues = new float[256];
-		rainfallValues = new float[256];
-		biomes = new BiomeGenBase[256];
 		xPosition = par2;
 		zPosition = par3;
-		BiomeCacheHell.getChunkManager(par1BiomeCache).getTemperatures(temperatureValues, par2 << 4, par3 << 4, 16, 16);
-		BiomeCacheHell.getChunkManager(par1BiomeCache).getRainfall(rainfallValues, par2 << 4, par3 << 4, 16, 16);
-		BiomeCacheHell.getChunkManager(par1BiomeCache).getBiomeGenAt(biomes, par2 << 4, par3 << 4, 16, 16, false);
+
+		for (int var5 = 0; var5 < 256; ++var5)
+		{
+			biomeIds[var5] = (byte)par4ArrayOfInteger[var5];
+		}
+	}
+
+	void markAccessed(int par1)
+	{
+		//Avoid writing to the volatile fields when nothing has changed
+		if (lastAccessTick != par1) lastAccessTick = par1;
+		if (!referenced) referenced = true;
 	}
 
 	/**
@@ -43,6 +52,51 @@ public class BiomeCacheBlockHell
 	 */
 	public BiomeGenBase getBiomeGenAt(int par1, int par2)
 	{
-		return biomes[par1 & 15 | (par2 & 15) << 4];
+		return BiomeGenBase.getBiomeGenArray()[biomeIds[par1 & 15 | (par2 & 15) << 4] & 255];
+	}
+
+	/**
+	 * Fills the given array with the biome types stored in this BiomeCacheBlock.
+	 */
+	public void getBiomes(BiomeGenBase[] par1ArrayOfBiomeGenBase)
+	{
+		BiomeGenBase[] var2 = BiomeGenBase.getBiomeGenArray();
+
+		for (int var3 = 0; var3 < 256; ++var3)
+		{
+			par1ArrayOfBiomeGenBase[var3] = var2[biomeIds[var3] & 255];
+		}
+	}
+
+	public float[] getTemperatureValues()
+	{
+		if (temperatureValues == null)
+		{
+			synchronized (theBiomeCache)
+			{
+				if (temperatureValues == null)
+				{
+					temperatureValues = BiomeCacheHell.getChunkManager(theBiomeCache).getTemperatures(null, xPosition << 4, zPosition << 4, 16, 16);
+				}
+			}
+		}
+
+		return temperatureValues;
+	}
+
+	public float[] getRainfallValues()
+	{
+		if (rainfallValues == null)
+		{
+			synchronized (theBiomeCache)
+			{
+				if (rainfallValues == null)
+				{
+					rainfallValues = BiomeCacheHell.getChunkManager(theBiomeCache).getRainfall(null, xPosition << 4, zPosition << 4, 16, 16);
+				}
+			}
+		}
+
+		return rainfallValues;
 	}
 }
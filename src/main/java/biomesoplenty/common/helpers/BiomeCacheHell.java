@@ -1,28 +1,46 @@
 package biomesoplenty.common.helpers;
 
 import biomesoplenty.common.world.WorldChunkManagerBOPHell;
-import net.minecraft.util.LongHashMap;
 import net.minecraft.world.biome.BiomeGenBase;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * A bounded cache of BiomeCacheBlocks. Lookups of blocks that are already cached never lock.
+ *
+ * A miss generates the block through the chunk manager's gen layers. Those share vanilla's IntCache with the
+ * layers of every other world and aren't locked anywhere else, so like every other WorldChunkManager call,
+ * anything that may miss must be made on the server thread.
+ */
 public class BiomeCacheHell
 {
+	/** The maximum number of BiomeCacheBlocks held at once. */
+	private static final int MAX_ENTRIES = 1024;
+
+	/** How often expired BiomeCacheBlocks are removed, in ticks. */
+	private static final int CLEANUP_INTERVAL = 150;
+
+	/** How long a BiomeCacheBlock may go unaccessed before it is removed, in ticks. */
+	private static final int EXPIRY_TIME = 600;
+
 	/** Reference to the WorldChunkManager */
 	private final WorldChunkManagerBOPHell chunkManager;
 
-	/** The last time this BiomeCache was cleaned, in milliseconds. */
-	private long lastCleanupTime = 0L;
-
 	/**
 	 * The map of keys to BiomeCacheBlocks. Keys are based on the chunk x, z coordinates as (x | z << 32).
 	 */
-	private LongHashMap cacheMap = new LongHashMap();
+	private final ConcurrentHashMap<Long, BiomeCacheBlockHell> cacheMap = new ConcurrentHashMap<Long, BiomeCacheBlockHell>(MAX_ENTRIES * 2);
+
+	/** The slots of the clock used to pick which BiomeCacheBlock to evict once the cache is full */
+	private final BiomeCacheBlockHell[] clock = new BiomeCacheBlockHell[MAX_ENTRIES];
+	private int clockHand = 0;
 
-	/** The list of cached BiomeCacheBlocks */
-	@SuppressWarnings("rawtypes")
-	private List cache = new ArrayList();
+	/** The number of times cleanupCache has been called, used in place of the system time. */
+	private volatile int currentTick = 0;
+	private int lastCleanupTick = 0;
+
+	/** The most recently accessed BiomeCacheBlock, as lookups tend to hit the same chunk repeatedly */
+	private volatile BiomeCacheBlockHell lastBlock;
 
 	public BiomeCacheHell(WorldChunkManagerBOPHell par1WorldChunkManager)
 	{
@@ -32,23 +50,66 @@ public class BiomeCacheHell
 	/**
 	 * Returns a biome cache block at location specified.
 	 */
-	@SuppressWarnings("unchecked")
 	public BiomeCacheBlockHell getBiomeCacheBlock(int par1, int par2)
 	{
 		par1 >>= 4;
 		par2 >>= 4;
-		long var3 = par1 & 4294967295L | (par2 & 4294967295L) << 32;
-		BiomeCacheBlockHell var5 = (BiomeCacheBlockHell)cacheMap.getValueByKey(var3);
+		BiomeCacheBlockHell var3 = lastBlock;
 
-		if (var5 == null)
+		if (var3 == null || var3.xPosition != par1 || var3.zPosition != par2)
 		{
-			var5 = new BiomeCacheBlockHell(this, par1, par2);
-			cacheMap.add(var3, var5);
-			cache.add(var5);
+			var3 = cacheMap.get(getKey(par1, par2));
+
+			if (var3 == null)
+			{
+				var3 = this.loadBiomeCacheBlock(par1, par2);
+			}
+
+			lastBlock = var3;
 		}
 
-		var5.lastAccessTime = System.currentTimeMillis();
-		return var5;
+		var3.markAccessed(currentTick);
+		return var3;
+	}
+
+	/**
+	 * Generates the BiomeCacheBlock for the given chunk, evicting another block if the cache is full. The lock
+	 * only guards the clock against cleanupCache, it doesn't make calling the gen layers safe off the server thread.
+	 */
+	private synchronized BiomeCacheBlockHell loadBiomeCacheBlock(int chunkX, int chunkZ)
+	{
+		Long var3 = getKey(chunkX, chunkZ);
+		BiomeCacheBlockHell var4 = cacheMap.get(var3);
+
+		//Checked again under the lock in case the block was generated while we were waiting for it
+		if (var4 != null) return var4;
+
+		var4 = new BiomeCacheBlockHell(this, chunkX, chunkZ, chunkManager.getBiomeIndices(chunkX << 4, chunkZ << 4, 16, 16));
+
+		//Advance the clock hand until we reach an empty slot or a block that hasn't been accessed since the hand last passed it
+		while (true)
+		{
+			BiomeCacheBlockHell var5 = clock[clockHand];
+
+			if (var5 == null) break;
+
+			if (var5.referenced)
+			{
+				var5.referenced = false;
+				clockHand = (clockHand + 1) % MAX_ENTRIES;
+			}
+			else
+			{
+				cacheMap.remove(getKey(var5.xPosition, var5.zPosition));
+				break;
+			}
+		}
+
+		clock[clockHand] = var4;
+		clockHand = (clockHand + 1) % MAX_ENTRIES;
+		cacheMap.put(var3, var4);
+
+		return var4;
 	}
 
 	/**
@@ -60,38 +121,39 @@ public class BiomeCacheHell
 	}
 
 	/**
-	 * Removes BiomeCacheBlocks from this cache that haven't been accessed in at least 30 seconds.
+	 * Advances the cache by one tick, removing BiomeCacheBlocks that haven't been accessed in at least 30 seconds
+	 * every 7.5 seconds.
 	 */
 	public void cleanupCache()
 	{
-		long var1 = System.currentTimeMillis();
-		long var3 = var1 - lastCleanupTime;
+		int var1 = ++currentTick;
 
-		if (var3 > 7500L || var3 < 0L)
+		if (var1 - lastCleanupTick >= CLEANUP_INTERVAL)
 		{
-			lastCleanupTime = var1;
+			lastCleanupTick = var1;
 
-			for (int var5 = 0; var5 < cache.size(); ++var5)
+			synchronized (this)
 			{
-				BiomeCacheBlockHell var6 = (BiomeCacheBlockHell)cache.get(var5);
-				long var7 = var1 - var6.lastAccessTime;
-
-				if (var7 > 30000L || var7 < 0L)
+				for (int var2 = 0; var2 < MAX_ENTRIES; ++var2)
 				{
-					cache.remove(var5--);
-					long var9 = var6.xPosition & 4294967295L | (var6.zPosition & 4294967295L) << 32;
-					cacheMap.remove(var9);
+					BiomeCacheBlockHell var3 = clock[var2];
+
+					if (var3 != null && var1 - var3.lastAccessTick > EXPIRY_TIME)
+					{
+						clock[var2] = null;
+						cacheMap.remove(getKey(var3.xPosition, var3.zPosition));
+					}
 				}
 			}
 		}
 	}
 
 	/**
-	 * Returns the array of cached biome types in the BiomeCacheBlock at the given location.
+	 * Copies the cached biome types in the BiomeCacheBlock at the given location into the given array.
 	 */
-	public BiomeGenBase[] getCachedBiomes(int par1, int par2)
+	public void getCachedBiomes(BiomeGenBase[] par1ArrayOfBiomeGenBase, int par2, int par3)
 	{
-		return this.getBiomeCacheBlock(par1, par2).biomes;
+		this.getBiomeCacheBlock(par2, par3).getBiomes(par1ArrayOfBiomeGenBase);
 	}
 
 	/**
@@ -101,4 +163,9 @@ public class BiomeCacheHell
 	{
 		return par0BiomeCache.chunkManager;
 	}
+
+	private static Long getKey(int chunkX, int chunkZ)
+	{
+		return Long.valueOf(chunkX & 4294967295L | (chunkZ & 4294967295L) << 32);
+	}
 }
@@ -0,0 +1,160 @@
+package biomesoplenty.common.helpers;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ChatComponentTranslation;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkPosition;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
+import biomesoplenty.common.network.BOPPacketHandler;
+import biomesoplenty.common.network.message.MessageBiomePosition;
+
+/**
+ * Searches for a biome in rings of cells around the player, nearest ring first, one cell per step.
+ * Finishes as soon as a ring containing the biome has been fully searched.
+ */
+public class BiomeSearchJob
+{
+    /** The size of each searched cell, and twice the radius passed to findBiomePosition */
+    private static final int CELL_SIZE = 512;
+    private static final int MAX_RING = 10;
+
+    private final EntityPlayerMP player;
+    private final ItemStack itemStack;
+    private final World world;
+    private final BiomeGenBase biomeToFind;
+    private final List biomesToFind;
+
+    private final int originX;
+    private final int originZ;
+
+    private int ring = 0;
+    private int ringIndex = 0;
+    private int cellsSearched = 0;
+
+    private ChunkPosition nearestPosition = null;
+    private long nearestDistanceSq = Long.MAX_VALUE;
+
+    private boolean finished = false;
+
+    public BiomeSearchJob(EntityPlayerMP player, ItemStack itemStack, BiomeGenBase biomeToFind)
+    {
+        this.player = player;
+        this.itemStack = itemStack;
+        this.world = player.worldObj;
+        this.biomeToFind = biomeToFind;
+        this.biomesToFind = Arrays.asList(biomeToFind);
+
+        this.originX = MathHelper.floor_double(player.posX);
+        this.originZ = MathHelper.floor_double(player.posZ);
+    }
+
+    /**
+     * Searches the next cell, returning true once the search has finished.
+     */
+    public boolean step()
+    {
+        if (finished) return true;
+
+        //Abandon the search if the player has left or changed dimension
+        if (player.isDead || player.worldObj != world)
+        {
+            finished = true;
+            return true;
+        }
+
+        int ringLength = ring == 0 ? 1 : ring * 8;
+        int cellX;
+        int cellZ;
+
+        //Walk the edge of the square ring, starting from its top left corner
+        if (ring == 0)
+        {
+            cellX = 0;
+            cellZ = 0;
+        }
+        else
+        {
+            int side = ringIndex / (ring * 2);
+            int offset = ringIndex % (ring * 2);
+
+            switch (side)
+            {
+                case 0: cellX = -ring + offset; cellZ = -ring; break;
+                case 1: cellX = ring; cellZ = -ring + offset; break;
+                case 2: cellX = ring - offset; cellZ = ring; break;
+                default: cellX = -ring; cellZ = ring - offset; break;
+            }
+        }
+
+        ChunkPosition foundPosition = world.getWorldChunkManager().findBiomePosition(originX + cellX * CELL_SIZE, originZ + cellZ * CELL_SIZE, CELL_SIZE / 2, biomesToFind, world.rand);
+
+        if (foundPosition != null && world.getBiomeGenForCoords(foundPosition.chunkPosX, foundPosition.chunkPosZ) == biomeToFind)
+        {
+            long dx = foundPosition.chunkPosX - originX;
+            long dz = foundPosition.chunkPosZ - originZ;
+            long distanceSq = dx * dx + dz * dz;
+
+            if (distanceSq < nearestDistanceSq)
+            {
+                nearestPosition = foundPosition;
+                nearestDistanceSq = distanceSq;
+            }
+        }
+
+        cellsSearched++;
+
+        if (++ringIndex >= ringLength)
+        {
+            ringIndex = 0;
+
+            if (nearestPosition != null || ++ring > MAX_RING)
+            {
+                this.finish();
+            }
+        }
+
+        return finished;
+    }
+
+    private void finish()
+    {
+        finished = true;
+
+        if (nearestPosition != null)
+        {
+            NBTTagCompound biomeCompound = new NBTTagCompound();
+
+            biomeCompound.setInteger("x", nearestPosition.chunkPosX);
+            biomeCompound.setInteger("z", nearestPosition.chunkPosZ);
+
+            if (!itemStack.hasTagCompound()) itemStack.setTagCompound(new NBTTagCompound());
+
+            itemStack.getTagCompound().setTag("biomePosition", biomeCompound);
+            itemStack.getTagCompound().setBoolean("foundBiome", true);
+
+            BOPPacketHandler.instance.sendTo(new MessageBiomePosition(nearestPosition.chunkPosX, nearestPosition.chunkPosZ, true), player);
+        }
+        else player.addChatMessage(new ChatComponentTranslation("biomeRadar.notFound"));
+    }
+
+    /**
+     * The percentage of the search area that has been covered so far.
+     */
+    public int getProgress()
+    {
+        int totalCells = (MAX_RING * 2 + 1) * (MAX_RING * 2 + 1);
+
+        return finished ? 100 : cellsSearched * 100 / totalCells;
+    }
+
+    public EntityPlayerMP getPlayer()
+    {
+        return player;
+    }
+}
@@ -0,0 +1,70 @@
+package biomesoplenty.common.helpers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.biome.BiomeGenBase;
+
+/**
+ * Runs biome searches a few cells at a time on the server thread, so that no single tick is held up by them.
+ * The gen layers share the IntCache, so the searches can't be moved onto another thread.
+ */
+public class BiomeSearchScheduler
+{
+    /** The time searches may take up each tick, in nanoseconds */
+    private static final long TICK_BUDGET = 5000000L;
+
+    private static final HashMap<UUID, BiomeSearchJob> activeSearches = new HashMap<UUID, BiomeSearchJob>();
+
+    /**
+     * Starts a search for the given player, unless they already have one running.
+     * Returns the player's running search in that case, or null if a new one was started.
+     */
+    public static BiomeSearchJob startSearch(EntityPlayerMP player, ItemStack itemStack, BiomeGenBase biomeToFind)
+    {
+        BiomeSearchJob activeSearch = activeSearches.get(player.getUniqueID());
+
+        if (activeSearch != null) return activeSearch;
+
+        activeSearches.put(player.getUniqueID(), new BiomeSearchJob(player, itemStack, biomeToFind));
+
+        return null;
+    }
+
+    public static void tick()
+    {
+        if (activeSearches.isEmpty()) return;
+
+        long deadline = System.nanoTime() + TICK_BUDGET;
+        List<BiomeSearchJob> searches = new ArrayList<BiomeSearchJob>(activeSearches.values());
+
+        //Step each search in turn so they share the budget, always making at least one step per tick
+        do
+        {
+            for (Iterator<BiomeSearchJob> iterator = searches.iterator(); iterator.hasNext();)
+            {
+                BiomeSearchJob search = iterator.next();
+
+                if (search.step())
+                {
+                    activeSearches.remove(search.getPlayer().getUniqueID());
+                    iterator.remove();
+                }
+            }
+        }
+        while (!searches.isEmpty() && System.nanoTime() < deadline);
+    }
+
+    /**
+     * Drops every running search, so that none of them hold on to their players or worlds once the server has stopped.
+     */
+    public static void clear()
+    {
+        activeSearches.clear();
+    }
+}
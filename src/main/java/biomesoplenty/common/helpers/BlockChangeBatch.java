@@ -0,0 +1,296 @@
+package biomesoplenty.common.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.ForgeEventFactory;
+
+/**
+ * A set of block changes that are applied a chunk section at a time. Identical drops within a section are
+ * merged into as few stacks as possible, each dropped where one of the blocks it came from stood, and the neighbours of the blocks that were removed are only notified once each, after
+ * the whole section has been changed.
+ */
+public class BlockChangeBatch
+{
+    private static final int[] NEIGHBOUR_X = new int[] {-1, 1, 0, 0, 0, 0};
+    private static final int[] NEIGHBOUR_Y = new int[] {0, 0, -1, 1, 0, 0};
+    private static final int[] NEIGHBOUR_Z = new int[] {0, 0, 0, 0, -1, 1};
+
+    private final World world;
+    private final ArrayList<BlockChange> changes = new ArrayList<BlockChange>();
+
+    /** The last change added at each position, so later reads see the batch as if it had already been applied */
+    private final HashMap<Long, BlockChange> latestChanges = new HashMap<Long, BlockChange>();
+
+    private Chunk lastChunk;
+
+    private boolean sorted = false;
+    private int nextChange = 0;
+
+    public BlockChangeBatch(World world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Replaces the given block with another, dropping the original as an item. The change is skipped
+     * if the block has been altered by the time it is applied.
+     */
+    public void addChange(int x, int y, int z, Block oldBlock, int oldMeta, Block newBlock, int newMeta)
+    {
+        BlockChange change = new BlockChange(x, y, z, oldBlock, oldMeta, newBlock, newMeta);
+
+        changes.add(change);
+        latestChanges.put(getKey(x, y, z), change);
+        sorted = false;
+    }
+
+    /**
+     * Gets the block at the given position as it will be once this batch has been applied.
+     */
+    public Block getBlock(int x, int y, int z)
+    {
+        if (y < 0 || y >= 256) return Blocks.air;
+
+        BlockChange change = latestChanges.isEmpty() ? null : latestChanges.get(getKey(x, y, z));
+
+        return change != null ? change.newBlock : this.getChunk(x, z).getBlock(x & 15, y, z & 15);
+    }
+
+    public int getBlockMetadata(int x, int y, int z)
+    {
+        if (y < 0 || y >= 256) return 0;
+
+        BlockChange change = latestChanges.isEmpty() ? null : latestChanges.get(getKey(x, y, z));
+
+        return change != null ? change.newMeta : this.getChunk(x, z).getBlockMetadata(x & 15, y, z & 15);
+    }
+
+    /**
+     * Reads tend to walk along a column, so the last chunk is kept rather than looking it up for every block.
+     */
+    private Chunk getChunk(int x, int z)
+    {
+        if (lastChunk == null || lastChunk.xPosition != x >> 4 || lastChunk.zPosition != z >> 4)
+        {
+            lastChunk = world.getChunkFromBlockCoords(x, z);
+        }
+
+        return lastChunk;
+    }
+
+    public World getWorld()
+    {
+        return this.world;
+    }
+
+    public boolean isFinished()
+    {
+        return nextChange >= changes.size();
+    }
+
+    /**
+     * Applies every change within the next chunk section, returning the number of changes that were looked at.
+     */
+    public int applyNextSection()
+    {
+        if (!sorted)
+        {
+            //The sort is stable, so changes within a section keep the order they were added in
+            Collections.sort(changes.subList(nextChange, changes.size()), BlockChange.SECTION_ORDER);
+            sorted = true;
+        }
+
+        int start = nextChange;
+        long sectionKey = changes.get(start).sectionKey;
+        int end = start;
+
+        while (end < changes.size() && changes.get(end).sectionKey == sectionKey) end++;
+
+        nextChange = end;
+        lastChunk = null;
+
+        HashSet<Long> removedBlocks = new HashSet<Long>();
+        ArrayList<SectionDrop> sectionDrops = new ArrayList<SectionDrop>();
+        boolean doTileDrops = world.getGameRules().getGameRuleBooleanValue("doTileDrops");
+
+        for (int i = start; i < end; i++)
+        {
+            BlockChange change = changes.get(i);
+
+            if (world.getBlock(change.x, change.y, change.z) != change.oldBlock || world.getBlockMetadata(change.x, change.y, change.z) != change.oldMeta)
+            {
+                change.applied = false;
+                continue;
+            }
+
+            ArrayList<ItemStack> drops = this.collectDrops(change);
+
+            //Neighbours are notified once the whole section has changed, rather than after every block
+            world.setBlock(change.x, change.y, change.z, change.newBlock, change.newMeta, 2);
+
+            if (change.newBlock == Blocks.air) removedBlocks.add(getKey(change.x, change.y, change.z));
+
+            if (doTileDrops)
+            {
+                for (ItemStack drop : drops) mergeDrop(sectionDrops, change, drop);
+            }
+
+            change.applied = true;
+        }
+
+        this.spawnDrops(sectionDrops);
+
+        if (!removedBlocks.isEmpty())
+        {
+            HashSet<Long> notifiedBlocks = new HashSet<Long>();
+
+            for (int i = start; i < end; i++)
+            {
+                BlockChange change = changes.get(i);
+
+                if (!change.applied || change.newBlock != Blocks.air) continue;
+
+                for (int side = 0; side < 6; side++)
+                {
+                    int neighbourX = change.x + NEIGHBOUR_X[side];
+                    int neighbourY = change.y + NEIGHBOUR_Y[side];
+                    int neighbourZ = change.z + NEIGHBOUR_Z[side];
+                    Long neighbourKey = getKey(neighbourX, neighbourY, neighbourZ);
+
+                    if (!removedBlocks.contains(neighbourKey) && notifiedBlocks.add(neighbourKey))
+                    {
+                        world.notifyBlockOfNeighborChange(neighbourX, neighbourY, neighbourZ, change.oldBlock);
+                    }
+                }
+            }
+        }
+
+        return end - start;
+    }
+
+    /**
+     * Gathers the drops of the block being changed in the same way as Block.dropBlockAsItem.
+     */
+    private ArrayList<ItemStack> collectDrops(BlockChange change)
+    {
+        ArrayList<ItemStack> blockDrops = change.oldBlock.getDrops(world, change.x, change.y, change.z, change.oldMeta, 0);
+        float chance = ForgeEventFactory.fireBlockHarvesting(blockDrops, world, change.oldBlock, change.x, change.y, change.z, change.oldMeta, 0, 1.0F, false, null);
+        ArrayList<ItemStack> drops = new ArrayList<ItemStack>();
+
+        for (ItemStack blockDrop : blockDrops)
+        {
+            if (blockDrop != null && world.rand.nextFloat() <= chance) drops.add(blockDrop);
+        }
+
+        return drops;
+    }
+
+    /**
+     * Adds a drop to the stacks dropped by the section, topping up any identical stacks that aren't full yet.
+     * Whatever is left over is dropped at the position of the block it came from.
+     */
+    private static void mergeDrop(ArrayList<SectionDrop> sectionDrops, BlockChange change, ItemStack drop)
+    {
+        for (SectionDrop sectionDrop : sectionDrops)
+        {
+            if (drop.stackSize <= 0) return;
+
+            ItemStack existingDrop = sectionDrop.stack;
+
+            if (existingDrop.stackSize < existingDrop.getMaxStackSize() && existingDrop.isItemEqual(drop) && ItemStack.areItemStackTagsEqual(existingDrop, drop))
+            {
+                int transferred = Math.min(drop.stackSize, existingDrop.getMaxStackSize() - existingDrop.stackSize);
+
+                existingDrop.stackSize += transferred;
+                drop.stackSize -= transferred;
+            }
+        }
+
+        if (drop.stackSize > 0) sectionDrops.add(new SectionDrop(change.x, change.y, change.z, drop));
+    }
+
+    /**
+     * Spawns each stack within the position of the block it was first dropped by, scattered as Block.dropBlockAsItem would.
+     */
+    private void spawnDrops(ArrayList<SectionDrop> sectionDrops)
+    {
+        for (SectionDrop sectionDrop : sectionDrops)
+        {
+            double offsetX = world.rand.nextFloat() * 0.7D + 0.15D;
+            double offsetY = world.rand.nextFloat() * 0.7D + 0.15D;
+            double offsetZ = world.rand.nextFloat() * 0.7D + 0.15D;
+            EntityItem entityItem = new EntityItem(world, sectionDrop.x + offsetX, sectionDrop.y + offsetY, sectionDrop.z + offsetZ, sectionDrop.stack);
+
+            entityItem.delayBeforeCanPickup = 10;
+            world.spawnEntityInWorld(entityItem);
+        }
+    }
+
+    private static Long getKey(int x, int y, int z)
+    {
+        return Long.valueOf(((long)x & 67108863L) << 38 | ((long)z & 67108863L) << 12 | ((long)y & 4095L));
+    }
+
+    private static class BlockChange
+    {
+        public static final Comparator<BlockChange> SECTION_ORDER = new Comparator<BlockChange>()
+        {
+            @Override
+            public int compare(BlockChange first, BlockChange second)
+            {
+                return first.sectionKey < second.sectionKey ? -1 : (first.sectionKey > second.sectionKey ? 1 : 0);
+            }
+        };
+
+        public final int x;
+        public final int y;
+        public final int z;
+        public final long sectionKey;
+
+        public final Block oldBlock;
+        public final int oldMeta;
+        public final Block newBlock;
+        public final int newMeta;
+
+        public boolean applied;
+
+        public BlockChange(int x, int y, int z, Block oldBlock, int oldMeta, Block newBlock, int newMeta)
+        {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.sectionKey = ((long)(x >> 4) & 4194303L) << 26 | ((long)(z >> 4) & 4194303L) << 4 | ((long)(y >> 4) & 15L);
+
+            this.oldBlock = oldBlock;
+            this.oldMeta = oldMeta;
+            this.newBlock = newBlock;
+            this.newMeta = newMeta;
+        }
+    }
+
+    private static class SectionDrop
+    {
+        public final int x;
+        public final int y;
+        public final int z;
+        public final ItemStack stack;
+
+        public SectionDrop(int x, int y, int z, ItemStack stack)
+        {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.stack = stack;
+        }
+    }
+}
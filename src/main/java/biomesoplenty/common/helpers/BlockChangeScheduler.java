@@ -0,0 +1,79 @@
+package biomesoplenty.common.helpers;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.World;
+
+/**
+ * Applies BlockChangeBatches at the end of each world tick, spreading large batches over several ticks.
+ */
+public class BlockChangeScheduler
+{
+    /** The number of block changes that may be looked at in each world per tick */
+    private static final int MAX_CHANGES_PER_TICK = 256;
+
+    /** The time block changes may take up in each world per tick, in nanoseconds */
+    private static final long TICK_BUDGET = 2000000L;
+
+    private static final Map<World, ArrayDeque<BlockChangeBatch>> pendingBatches = Collections.synchronizedMap(new WeakHashMap<World, ArrayDeque<BlockChangeBatch>>());
+
+    public static void submit(BlockChangeBatch batch)
+    {
+        if (batch.getWorld().isRemote || batch.isFinished()) return;
+
+        synchronized (pendingBatches)
+        {
+            ArrayDeque<BlockChangeBatch> batches = pendingBatches.get(batch.getWorld());
+
+            if (batches == null)
+            {
+                batches = new ArrayDeque<BlockChangeBatch>();
+                pendingBatches.put(batch.getWorld(), batches);
+            }
+
+            batches.add(batch);
+        }
+    }
+
+    public static void tick(World world)
+    {
+        ArrayDeque<BlockChangeBatch> batches;
+
+        synchronized (pendingBatches)
+        {
+            batches = pendingBatches.get(world);
+
+            if (batches == null || batches.isEmpty()) return;
+        }
+
+        long deadline = System.nanoTime() + TICK_BUDGET;
+        int changeCount = 0;
+
+        //Sections are always applied whole, and at least one is applied each tick
+        do
+        {
+            BlockChangeBatch batch;
+
+            synchronized (pendingBatches)
+            {
+                batch = batches.peek();
+            }
+
+            changeCount += batch.applyNextSection();
+
+            if (batch.isFinished())
+            {
+                synchronized (pendingBatches)
+                {
+                    batches.poll();
+
+                    if (batches.isEmpty()) return;
+                }
+            }
+        }
+        while (changeCount < MAX_CHANGES_PER_TICK && System.nanoTime() < deadline);
+    }
+}
@@ -0,0 +1,228 @@
+package biomesoplenty.common.helpers;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.EntityCreeper;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.api.content.BOPCPotions;
+
+/**
+ * Applies the per-tick effects of flippers and our potions. Entities are only visited once they have
+ * been seen wearing flippers or under one of the potions, and are dropped again once neither is true.
+ */
+public class EntityEffectTracker
+{
+    private static final Set<EntityLivingBase> serverEntities = Collections.newSetFromMap(new WeakHashMap<EntityLivingBase, Boolean>());
+    private static final Set<EntityLivingBase> clientEntities = Collections.newSetFromMap(new WeakHashMap<EntityLivingBase, Boolean>());
+
+    private static volatile int serverPeakTrackedCount = 0;
+    private static volatile int clientPeakTrackedCount = 0;
+
+    /** How often, in ticks, loaded mobs are checked for flippers they have picked up since they spawned */
+    private static final int MOB_RESCAN_INTERVAL = 20;
+
+    public static void track(EntityLivingBase entity)
+    {
+        boolean remote = entity.worldObj.isRemote;
+        Set<EntityLivingBase> entities = getEntities(remote);
+
+        synchronized (entities)
+        {
+            if (entities.add(entity))
+            {
+                if (remote && entities.size() > clientPeakTrackedCount) clientPeakTrackedCount = entities.size();
+                else if (!remote && entities.size() > serverPeakTrackedCount) serverPeakTrackedCount = entities.size();
+            }
+        }
+    }
+
+    /**
+     * Should be called at the start of each tick of the given server world, before its entities are updated.
+     */
+    public static void tick(World world)
+    {
+        if (world.getTotalWorldTime() % MOB_RESCAN_INTERVAL == 0L) trackEquippedMobs(world);
+
+        visit(serverEntities, world);
+    }
+
+    /**
+     * Mobs don't tick their armour and there is no event for them picking up or being given equipment, so
+     * those that have put on flippers since they spawned are found by occasionally checking every loaded mob.
+     * The client only needs to move its own player, which is tracked as its armour ticks.
+     */
+    private static void trackEquippedMobs(World world)
+    {
+        for (Object entity : world.loadedEntityList)
+        {
+            if (entity instanceof EntityLiving && isWearingFlippers((EntityLiving)entity))
+            {
+                track((EntityLiving)entity);
+            }
+        }
+    }
+
+    /**
+     * Should be called at the start of each client tick. The client only ever has one world loaded.
+     */
+    public static void tickClient()
+    {
+        visit(clientEntities, null);
+    }
+
+    private static void visit(Set<EntityLivingBase> entities, World world)
+    {
+        EntityLivingBase[] trackedEntities;
+
+        synchronized (entities)
+        {
+            if (entities.isEmpty()) return;
+
+            trackedEntities = entities.toArray(new EntityLivingBase[entities.size()]);
+        }
+
+        for (EntityLivingBase entity : trackedEntities)
+        {
+            if (world != null && entity.worldObj != world) continue;
+
+            if (entity.isDead || !applyEffects(entity))
+            {
+                synchronized (entities)
+                {
+                    entities.remove(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * The number of entities currently being visited each tick on the given side.
+     */
+    public static int getTrackedCount(boolean remote)
+    {
+        Set<EntityLivingBase> entities = getEntities(remote);
+
+        synchronized (entities)
+        {
+            return entities.size();
+        }
+    }
+
+    /**
+     * The most entities that have been tracked at once on the given side.
+     */
+    public static int getPeakTrackedCount(boolean remote)
+    {
+        return remote ? clientPeakTrackedCount : serverPeakTrackedCount;
+    }
+
+    public static boolean isWearingFlippers(EntityLivingBase entity)
+    {
+        ItemStack boots;
+
+        if (entity instanceof EntityPlayer) boots = ((EntityPlayer)entity).inventory.armorInventory[0];
+        else if (entity instanceof EntityLiving) boots = entity.getEquipmentInSlot(1);
+        else return false;
+
+        return boots != null && boots.getItem() == BOPCItems.flippers;
+    }
+
+    /**
+     * Applies any effects the entity is under, returning false if it no longer has any.
+     */
+    private static boolean applyEffects(EntityLivingBase entity)
+    {
+        boolean hasEffects = false;
+
+        if (isWearingFlippers(entity))
+        {
+            hasEffects = true;
+
+            if (entity.isInWater() && !(entity instanceof EntityPlayer && ((EntityPlayer)entity).capabilities.isFlying))
+            {
+                entity.motionX *= 1.125D;
+                entity.motionY *= 1.1D;
+                entity.motionZ *= 1.125D;
+            }
+        }
+
+        if (entity.isPotionActive(BOPCPotions.paralysis))
+        {
+            hasEffects = true;
+
+            applyParalysis(entity);
+        }
+
+        if (entity.isPotionActive(BOPCPotions.possession))
+        {
+            hasEffects = true;
+
+            applyPossession(entity);
+        }
+
+        return hasEffects;
+    }
+
+    private static void applyParalysis(EntityLivingBase entity)
+    {
+        entity.motionX = 0.0;
+
+        if (!entity.isAirBorne) 
+        {
+            entity.motionY = 0.0;
+        }
+
+        entity.motionZ = 0.0;
+
+        if (entity instanceof EntityCreeper) 
+        {
+            ((EntityCreeper)entity).setCreeperState(-1);
+        }
+
+        if (entity.getActivePotionEffect(BOPCPotions.paralysis).getDuration() == 0)
+        {
+            entity.removePotionEffect(BOPCPotions.paralysis.id);
+        }
+    }
+
+    private static void applyPossession(EntityLivingBase entity)
+    {
+        Random rand = entity.worldObj.rand;
+
+        double posX = entity.posX;
+        double posY = entity.posY;
+        double posZ = entity.posZ;
+
+        double randX = 1.0 - (rand.nextDouble() * 2.0);
+        double randY = (double) rand.nextInt(3);
+        double randZ = 1.0 - (rand.nextDouble() * 2.0);
+
+        entity.motionX = 0.0;        
+        entity.motionY = 0.0;
+        entity.motionZ = 0.0;
+
+        if (rand.nextInt(5) == 0)
+        {
+            if (!entity.worldObj.checkBlockCollision(entity.boundingBox.offset(randX, randY, randZ)))
+                entity.setPosition(posX + randX, posY + randY, posZ + randZ);
+        }
+
+        if (entity.getActivePotionEffect(BOPCPotions.possession).getDuration() == 0)
+        {
+            entity.removePotionEffect(BOPCPotions.possession.id);
+        }
+    }
+
+    private static Set<EntityLivingBase> getEntities(boolean remote)
+    {
+        return remote ? clientEntities : serverEntities;
+    }
+}
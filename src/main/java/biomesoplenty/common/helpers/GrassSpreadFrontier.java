@@ -0,0 +1,198 @@
+package biomesoplenty.common.helpers;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import biomesoplenty.api.content.BOPCBlocks;
+
+/**
+ * Tracks which of our grass blocks have dirt they could spread to, one chunk section at a time. Grass that
+ * isn't on the frontier can skip looking for dirt altogether when it is randomly ticked.
+ *
+ * Frontiers are rebuilt once they expire, or when our dirt is placed near them. Whether the dirt is lit
+ * enough changes with the time of day, so that is left for the grass to check when it spreads.
+ */
+public class GrassSpreadFrontier
+{
+    /** How long a frontier is trusted for, in ticks, as not every change to the blocks around it is seen */
+    private static final int EXPIRY_TIME = 600;
+
+    /** The number of frontiers held per world before the least recently used one is forgotten */
+    private static final int MAX_SECTIONS = 2048;
+
+    private static final Map<World, LinkedHashMap<Long, SectionFrontier>> frontiers = Collections.synchronizedMap(new WeakHashMap<World, LinkedHashMap<Long, SectionFrontier>>());
+
+    public static boolean isOnFrontier(World world, int x, int y, int z)
+    {
+        LinkedHashMap<Long, SectionFrontier> sections = getSections(world);
+        Long key = getSectionKey(x >> 4, y >> 4, z >> 4);
+        long worldTime = world.getTotalWorldTime();
+        SectionFrontier frontier;
+
+        synchronized (sections)
+        {
+            frontier = sections.get(key);
+
+            if (frontier == null || worldTime - frontier.creationTime > EXPIRY_TIME)
+            {
+                if (frontier == null && sections.size() >= MAX_SECTIONS) removeLeastRecentlyUsed(sections);
+
+                frontier = new SectionFrontier(world, x >> 4, y >> 4, z >> 4, worldTime);
+                sections.put(key, frontier);
+            }
+        }
+
+        return frontier.contains(x & 15, y & 15, z & 15);
+    }
+
+    /**
+     * Forgets the frontiers of every section containing grass that could spread to the given position.
+     */
+    public static void invalidate(World world, int x, int y, int z)
+    {
+        LinkedHashMap<Long, SectionFrontier> sections = frontiers.get(world);
+
+        if (sections == null) return;
+
+        synchronized (sections)
+        {
+            if (sections.isEmpty()) return;
+
+            for (int sectionX = (x - 1) >> 4; sectionX <= (x + 1) >> 4; sectionX++)
+            {
+                for (int sectionY = (y - 1) >> 4; sectionY <= (y + 3) >> 4; sectionY++)
+                {
+                    for (int sectionZ = (z - 1) >> 4; sectionZ <= (z + 1) >> 4; sectionZ++)
+                    {
+                        sections.remove(getSectionKey(sectionX, sectionY, sectionZ));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether grass could spread to the given block, ignoring the light level above it.
+     */
+    public static boolean isSpreadable(Block block, int meta)
+    {
+        return (block == Blocks.dirt && meta == 0) || block == BOPCBlocks.newBopDirt;
+    }
+
+    private static LinkedHashMap<Long, SectionFrontier> getSections(World world)
+    {
+        synchronized (frontiers)
+        {
+            LinkedHashMap<Long, SectionFrontier> sections = frontiers.get(world);
+
+            if (sections == null)
+            {
+                //Kept in access order, so the first entry is always the one used least recently
+                sections = new LinkedHashMap<Long, SectionFrontier>(16, 0.75F, true);
+                frontiers.put(world, sections);
+            }
+
+            return sections;
+        }
+    }
+
+    private static void removeLeastRecentlyUsed(LinkedHashMap<Long, SectionFrontier> sections)
+    {
+        Iterator<SectionFrontier> iterator = sections.values().iterator();
+
+        iterator.next();
+        iterator.remove();
+    }
+
+    private static Long getSectionKey(int sectionX, int sectionY, int sectionZ)
+    {
+        return Long.valueOf(((long)sectionX & 4194303L) << 26 | ((long)sectionZ & 4194303L) << 4 | ((long)sectionY & 15L));
+    }
+
+    private static class SectionFrontier
+    {
+        public final long creationTime;
+
+        /** One bit per block in the section, indexed by y << 8 | z << 4 | x */
+        private final long[] mask = new long[64];
+
+        public SectionFrontier(World world, int sectionX, int sectionY, int sectionZ, long creationTime)
+        {
+            this.creationTime = creationTime;
+
+            int baseX = sectionX << 4;
+            int baseY = sectionY << 4;
+            int baseZ = sectionZ << 4;
+
+            //Grass spreads to dirt up to one block above and three below it
+            int minY = Math.max(baseY - 3, 0);
+            int maxY = Math.min(baseY + 16, 254);
+
+            Chunk[] chunks = new Chunk[9];
+
+            for (int chunkX = -1; chunkX <= 1; chunkX++)
+            {
+                for (int chunkZ = -1; chunkZ <= 1; chunkZ++)
+                {
+                    //Dirt in chunks that aren't loaded is left for when the frontier is next rebuilt
+                    if (world.getChunkProvider().chunkExists(sectionX + chunkX, sectionZ + chunkZ))
+                    {
+                        chunks[(chunkX + 1) * 3 + chunkZ + 1] = world.getChunkFromChunkCoords(sectionX + chunkX, sectionZ + chunkZ);
+                    }
+                }
+            }
+
+            for (int dirtX = baseX - 1; dirtX <= baseX + 16; dirtX++)
+            {
+                for (int dirtZ = baseZ - 1; dirtZ <= baseZ + 16; dirtZ++)
+                {
+                    Chunk chunk = chunks[((dirtX >> 4) - sectionX + 1) * 3 + (dirtZ >> 4) - sectionZ + 1];
+
+                    if (chunk == null) continue;
+
+                    for (int dirtY = minY; dirtY <= maxY; dirtY++)
+                    {
+                        if (!isSpreadable(chunk.getBlock(dirtX & 15, dirtY, dirtZ & 15), chunk.getBlockMetadata(dirtX & 15, dirtY, dirtZ & 15))) continue;
+                        if (chunk.getBlock(dirtX & 15, dirtY + 1, dirtZ & 15).getLightOpacity(world, dirtX, dirtY + 1, dirtZ) > 2) continue;
+
+                        //Only grass within this section is marked, which always lies in the middle chunk
+                        this.markGrassAround(chunks[4], baseX, baseY, baseZ, dirtX, dirtY, dirtZ);
+                    }
+                }
+            }
+        }
+
+        private void markGrassAround(Chunk chunk, int baseX, int baseY, int baseZ, int dirtX, int dirtY, int dirtZ)
+        {
+            for (int grassX = Math.max(dirtX - 1, baseX); grassX <= Math.min(dirtX + 1, baseX + 15); grassX++)
+            {
+                for (int grassZ = Math.max(dirtZ - 1, baseZ); grassZ <= Math.min(dirtZ + 1, baseZ + 15); grassZ++)
+                {
+                    for (int grassY = Math.max(dirtY - 1, baseY); grassY <= Math.min(dirtY + 3, baseY + 15); grassY++)
+                    {
+                        if (chunk.getBlock(grassX & 15, grassY, grassZ & 15) == BOPCBlocks.newBopGrass)
+                        {
+                            int index = (grassY & 15) << 8 | (grassZ & 15) << 4 | (grassX & 15);
+
+                            mask[index >> 6] |= 1L << (index & 63);
+                        }
+                    }
+                }
+            }
+        }
+
+        public boolean contains(int localX, int localY, int localZ)
+        {
+            int index = localY << 8 | localZ << 4 | localX;
+
+            return (mask[index >> 6] & 1L << (index & 63)) != 0L;
+        }
+    }
+}
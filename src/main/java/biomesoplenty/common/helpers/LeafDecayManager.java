@@ -0,0 +1,408 @@
+package biomesoplenty.common.helpers;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.world.World;
+
+/**
+ * Decides which leaves have lost their connection to a log, shared by all of our leaf blocks.
+ *
+ * Rather than every decaying leaf scanning the 9x9x9 area around itself each random tick, a single flood
+ * fill is run from the block that was removed. It settles every leaf within decay range of it at once,
+ * clearing the decay flag of those that are still supported and queueing the rest to be removed a batch
+ * at a time over the following ticks.
+ */
+public class LeafDecayManager
+{
+    /** How many steps through leaves a leaf may be from a log before it decays */
+    private static final int DECAY_DISTANCE = 4;
+
+    /** Leaves further than this from the origin of a check can't be on the support path of an affected leaf */
+    private static final int SEARCH_DISTANCE = DECAY_DISTANCE * 2;
+
+    //Room for the logs next to the furthest leaves, and for the neighbours of those logs
+    private static final int SEARCH_RADIUS = SEARCH_DISTANCE + 2;
+    private static final int SEARCH_SIZE = SEARCH_RADIUS * 2 + 1;
+
+    private static final int MAX_CHECKS_PER_TICK = 16;
+    private static final int MAX_REMOVALS_PER_TICK = 64;
+
+    private static final byte UNKNOWN = 0;
+    private static final byte LEAVES = 1;
+    private static final byte SUSTAINING = 2;
+    private static final byte OTHER = 3;
+
+    private static final int[] NEIGHBOUR_X = new int[] {-1, 1, 0, 0, 0, 0};
+    private static final int[] NEIGHBOUR_Y = new int[] {0, 0, -1, 1, 0, 0};
+    private static final int[] NEIGHBOUR_Z = new int[] {0, 0, 0, 0, -1, 1};
+
+    /** The leaf blocks whose decay is handled entirely by this manager */
+    private static final Set<Block> managedLeaves = new HashSet<Block>();
+
+    private static final Map<World, DecayQueue> decayQueues = Collections.synchronizedMap(new WeakHashMap<World, DecayQueue>());
+
+    private static final ThreadLocal<DecaySearch> searches = new ThreadLocal<DecaySearch>()
+    {
+        @Override
+        protected DecaySearch initialValue()
+        {
+            return new DecaySearch();
+        }
+    };
+
+    /** The world queued leaves are being removed from on this thread, as their neighbours have already been settled */
+    private static final ThreadLocal<World> removingLeavesFrom = new ThreadLocal<World>();
+
+    public static void registerLeaves(Block block)
+    {
+        managedLeaves.add(block);
+    }
+
+    /**
+     * Queues a check of the leaves around a block that has just been removed, or whose support may have changed.
+     */
+    public static void scheduleCheck(World world, int x, int y, int z)
+    {
+        if (world.isRemote || removingLeavesFrom.get() == world) return;
+
+        getDecayQueue(world).addCheck(getKey(x, y, z));
+    }
+
+    /**
+     * Called by leaves flagged for decay when they are randomly ticked. Leaves that are already waiting to be
+     * removed are skipped, everything else is settled by the next check run in this world.
+     */
+    public static void checkLeaves(World world, int x, int y, int z)
+    {
+        if (world.isRemote) return;
+
+        DecayQueue decayQueue = getDecayQueue(world);
+        long key = getKey(x, y, z);
+
+        if (!decayQueue.isQueuedForRemoval(key)) decayQueue.addCheck(key);
+    }
+
+    public static void tick(World world)
+    {
+        DecayQueue decayQueue = decayQueues.get(world);
+
+        if (decayQueue == null) return;
+
+        long[] checks = decayQueue.pollChecks(MAX_CHECKS_PER_TICK);
+
+        for (long key : checks)
+        {
+            int x = getX(key);
+            int y = getY(key);
+            int z = getZ(key);
+            Block block = world.getBlock(x, y, z);
+
+            //Leaves that were settled by an earlier check no longer need one of their own
+            if (managedLeaves.contains(block) && (world.getBlockMetadata(x, y, z) & 8) == 0) continue;
+
+            searches.get().run(world, x, y, z, decayQueue);
+        }
+
+        long[] removals = decayQueue.pollRemovals(MAX_REMOVALS_PER_TICK);
+
+        removingLeavesFrom.set(world);
+
+        try
+        {
+            for (long key : removals)
+            {
+                removeLeaves(world, getX(key), getY(key), getZ(key));
+            }
+        }
+        finally
+        {
+            removingLeavesFrom.remove();
+        }
+    }
+
+    private static void removeLeaves(World world, int x, int y, int z)
+    {
+        Block block = world.getBlock(x, y, z);
+        int meta = world.getBlockMetadata(x, y, z);
+
+        //The leaves may have been broken or replaced since they were queued
+        if (!managedLeaves.contains(block) || (meta & 4) != 0) return;
+
+        block.dropBlockAsItem(world, x, y, z, meta, 0);
+        world.setBlockToAir(x, y, z);
+    }
+
+    private static DecayQueue getDecayQueue(World world)
+    {
+        synchronized (decayQueues)
+        {
+            DecayQueue decayQueue = decayQueues.get(world);
+
+            if (decayQueue == null)
+            {
+                decayQueue = new DecayQueue();
+                decayQueues.put(world, decayQueue);
+            }
+
+            return decayQueue;
+        }
+    }
+
+    private static long getKey(int x, int y, int z)
+    {
+        return ((long)x & 67108863L) << 38 | ((long)z & 67108863L) << 12 | ((long)y & 4095L);
+    }
+
+    private static int getX(long key)
+    {
+        return (int)(key >> 38);
+    }
+
+    private static int getY(long key)
+    {
+        return (int)(key & 4095L);
+    }
+
+    private static int getZ(long key)
+    {
+        return (int)(key << 26 >> 38);
+    }
+
+    /**
+     * The checks and removals waiting to be run in a single world.
+     */
+    private static class DecayQueue
+    {
+        private final LinkedHashSet<Long> pendingChecks = new LinkedHashSet<Long>();
+        private final LinkedHashSet<Long> pendingRemovals = new LinkedHashSet<Long>();
+
+        public synchronized void addCheck(long key)
+        {
+            pendingChecks.add(key);
+        }
+
+        public synchronized void addRemoval(long key)
+        {
+            pendingRemovals.add(key);
+        }
+
+        public synchronized boolean isQueuedForRemoval(long key)
+        {
+            return pendingRemovals.contains(key);
+        }
+
+        public synchronized long[] pollChecks(int limit)
+        {
+            return poll(pendingChecks, limit);
+        }
+
+        public synchronized long[] pollRemovals(int limit)
+        {
+            return poll(pendingRemovals, limit);
+        }
+
+        private static long[] poll(LinkedHashSet<Long> keys, int limit)
+        {
+            long[] polled = new long[Math.min(keys.size(), limit)];
+            Iterator<Long> iterator = keys.iterator();
+
+            for (int i = 0; i < polled.length; i++)
+            {
+                polled[i] = iterator.next();
+                iterator.remove();
+            }
+
+            return polled;
+        }
+    }
+
+    /**
+     * The working state of a single check, reused by each check run on the same thread.
+     */
+    private static class DecaySearch
+    {
+        private final byte[] blockTypes = new byte[SEARCH_SIZE * SEARCH_SIZE * SEARCH_SIZE];
+        private final byte[] originDistances = new byte[SEARCH_SIZE * SEARCH_SIZE * SEARCH_SIZE];
+        private final byte[] supportDistances = new byte[SEARCH_SIZE * SEARCH_SIZE * SEARCH_SIZE];
+
+        private final int[] leafQueue = new int[SEARCH_SIZE * SEARCH_SIZE * SEARCH_SIZE];
+        private final int[] supportQueue = new int[SEARCH_SIZE * SEARCH_SIZE * SEARCH_SIZE];
+
+        private World world;
+        private int originX;
+        private int originY;
+        private int originZ;
+
+        public void run(World world, int x, int y, int z, DecayQueue decayQueue)
+        {
+            if (!world.checkChunksExist(x - SEARCH_RADIUS, y - SEARCH_RADIUS, z - SEARCH_RADIUS, x + SEARCH_RADIUS, y + SEARCH_RADIUS, z + SEARCH_RADIUS)) return;
+
+            this.world = world;
+            this.originX = x;
+            this.originY = y;
+            this.originZ = z;
+
+            Arrays.fill(blockTypes, UNKNOWN);
+            Arrays.fill(originDistances, (byte)-1);
+            Arrays.fill(supportDistances, (byte)-1);
+
+            int leafCount = 0;
+            int supportCount = 0;
+            int origin = getIndex(SEARCH_RADIUS, SEARCH_RADIUS, SEARCH_RADIUS);
+
+            //Find every leaf close enough to the origin to be affected by it, along with any leaf or log that could support them
+            if (this.getBlockType(origin) == LEAVES)
+            {
+                originDistances[origin] = 0;
+                leafQueue[leafCount++] = origin;
+            }
+            else
+            {
+                for (int side = 0; side < 6; side++)
+                {
+                    int neighbour = getNeighbour(origin, side);
+
+                    if (this.getBlockType(neighbour) == LEAVES)
+                    {
+                        originDistances[neighbour] = 1;
+                        leafQueue[leafCount++] = neighbour;
+                    }
+                }
+            }
+
+            for (int head = 0; head < leafCount; head++)
+            {
+                int index = leafQueue[head];
+                int distance = originDistances[index];
+
+                for (int side = 0; side < 6; side++)
+                {
+                    int neighbour = getNeighbour(index, side);
+                    byte blockType = this.getBlockType(neighbour);
+
+                    if (blockType == SUSTAINING && supportDistances[neighbour] != 0)
+                    {
+                        supportDistances[neighbour] = 0;
+                        supportQueue[supportCount++] = neighbour;
+                    }
+                    else if (blockType == LEAVES && originDistances[neighbour] < 0 && distance < SEARCH_DISTANCE)
+                    {
+                        originDistances[neighbour] = (byte)(distance + 1);
+                        leafQueue[leafCount++] = neighbour;
+                    }
+                }
+            }
+
+            //Spread outwards from the logs that were found, through the leaves that were
+            for (int head = 0; head < supportCount; head++)
+            {
+                int index = supportQueue[head];
+                int distance = supportDistances[index];
+
+                if (distance >= DECAY_DISTANCE) continue;
+
+                for (int side = 0; side < 6; side++)
+                {
+                    int neighbour = getNeighbour(index, side);
+
+                    if (originDistances[neighbour] >= 0 && supportDistances[neighbour] < 0)
+                    {
+                        supportDistances[neighbour] = (byte)(distance + 1);
+                        supportQueue[supportCount++] = neighbour;
+                    }
+                }
+            }
+
+            for (int i = 0; i < leafCount; i++)
+            {
+                int index = leafQueue[i];
+
+                if (originDistances[index] > DECAY_DISTANCE) break;
+
+                this.settleLeaves(index, supportDistances[index] >= 0, decayQueue);
+            }
+
+            this.world = null;
+        }
+
+        private void settleLeaves(int index, boolean supported, DecayQueue decayQueue)
+        {
+            int x = getWorldX(index);
+            int y = getWorldY(index);
+            int z = getWorldZ(index);
+            Block block = world.getBlock(x, y, z);
+            int meta = world.getBlockMetadata(x, y, z);
+
+            if (!managedLeaves.contains(block))
+            {
+                //Leave other leaves to decide for themselves
+                if (!supported) block.beginLeavesDecay(world, x, y, z);
+            }
+            else if (supported)
+            {
+                if ((meta & 8) != 0) world.setBlockMetadataWithNotify(x, y, z, meta & -9, 4);
+            }
+            else if ((meta & 4) == 0)
+            {
+                decayQueue.addRemoval(getKey(x, y, z));
+            }
+        }
+
+        private byte getBlockType(int index)
+        {
+            byte blockType = blockTypes[index];
+
+            if (blockType == UNKNOWN)
+            {
+                int x = getWorldX(index);
+                int y = getWorldY(index);
+                int z = getWorldZ(index);
+                Block block = world.getBlock(x, y, z);
+
+                if (block.canSustainLeaves(world, x, y, z)) blockType = SUSTAINING;
+                else if (block.isLeaves(world, x, y, z)) blockType = LEAVES;
+                else blockType = OTHER;
+
+                blockTypes[index] = blockType;
+            }
+
+            return blockType;
+        }
+
+        private int getWorldX(int index)
+        {
+            return originX + index / (SEARCH_SIZE * SEARCH_SIZE) - SEARCH_RADIUS;
+        }
+
+        private int getWorldY(int index)
+        {
+            return originY + (index / SEARCH_SIZE) % SEARCH_SIZE - SEARCH_RADIUS;
+        }
+
+        private int getWorldZ(int index)
+        {
+            return originZ + index % SEARCH_SIZE - SEARCH_RADIUS;
+        }
+
+        private static int getIndex(int x, int y, int z)
+        {
+            return (x * SEARCH_SIZE + y) * SEARCH_SIZE + z;
+        }
+
+        /**
+         * Only leaves and the logs beside them are ever visited, so their neighbours always lie within the search area.
+         */
+        private static int getNeighbour(int index, int side)
+        {
+            return index + (NEIGHBOUR_X[side] * SEARCH_SIZE + NEIGHBOUR_Y[side]) * SEARCH_SIZE + NEIGHBOUR_Z[side];
+        }
+    }
+}
@@ -13,6 +13,8 @@ import biomesoplenty.BiomesOPlenty;
 import biomesoplenty.api.BOPItemHelper;
 import biomesoplenty.api.content.BOPCBlocks;
 import biomesoplenty.api.content.BOPCItems;
+import biomesoplenty.common.helpers.BlockChangeBatch;
+import biomesoplenty.common.helpers.BlockChangeScheduler;
 
 public class ItemBOPScythe extends Item
 {
@@ -77,13 +79,16 @@ public class ItemBOPScythe extends Item
     	
     	if (block != null)
     	{
+    		BlockChangeBatch batch = new BlockChangeBatch(world);
+    		boolean trimmed = false;
+
     		if (block.isLeaves(world, x, y, z))
     		{
         		if (height > 0)
         		{
-        			trimLeaves(itemstack, entity, world, x, y, z, height, radius);
+        			trimLeaves(itemstack, entity, world, batch, x, y, z, height, radius);
 
-        			return true;
+        			trimmed = true;
         		}
         		else
         		{
@@ -92,21 +97,26 @@ public class ItemBOPScythe extends Item
     		}
     		else
     		{
-    			trimCutCorner(itemstack, entity, world, x, y, z, height, radius);
+    			trimCutCorner(itemstack, entity, world, batch, x, y, z, height, radius);
 
     			if (world.rand.nextInt(3) == 0)
     			{
-    				trim(itemstack, entity, world, x, y, z, height, radius - 1);
+    				trim(itemstack, entity, world, batch, x, y, z, height, radius - 1);
 
-    				return true;
+    				trimmed = true;
     			}
     		}
+
+    		//The cut is applied at the end of the tick, and spread over the following ones if it is large
+    		BlockChangeScheduler.submit(batch);
+
+    		return trimmed;
     	}
     	
         return false;
     }
     
-    public void trim(ItemStack stack, EntityLivingBase entity, World world, int x, int y, int z, int height, int radius)
+    public void trim(ItemStack stack, EntityLivingBase entity, World world, BlockChangeBatch batch, int x, int y, int z, int height, int radius)
     {
     	for (int aX = -radius; aX <= radius; aX++)
     	{
@@ -114,46 +124,19 @@ public class ItemBOPScythe extends Item
     		{
     			for (int aZ = -radius; aZ <= radius; aZ++)
     			{
-    				Block block = world.getBlock(x + aX, y + aY, z + aZ);
-    				int meta = world.getBlockMetadata(x + aX, y + aY, z + aZ);
+    				Block block = batch.getBlock(x + aX, y + aY, z + aZ);
+    				int meta = batch.getBlockMetadata(x + aX, y + aY, z + aZ);
 
-    				if (block != null && block != Blocks.air)
+    				if (block != Blocks.air)
     				{
-    					if (block == BOPCBlocks.foliage && (meta == 1 || meta == 2 || meta == 6))
-    					{
-    						if (meta == 1)
-    						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlockToAir(x + aX, y + aY, z + aZ);
-    						}
-    						else if (meta == 2)
-    						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlock(x + aX, y + aY, z + aZ, BOPCBlocks.foliage, 1, 2);
-    						}
-    						else if (meta == 6)
-    						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlockToAir(x + aX, y + aY, z + aZ);
-    						}
-    					}
-    					else if (block == Blocks.tallgrass)
-    					{
-    						block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    						world.setBlock(x + aX, y + aY, z + aZ, BOPCBlocks.foliage, 2, 2);
-    					}
-    					else if (block != Blocks.waterlily && block instanceof BlockFlower)
-    					{
-    						block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    						world.setBlockToAir(x + aX, y + aY, z + aZ);
-    					}
+    					cutPlant(batch, x + aX, y + aY, z + aZ, block, meta);
     				}
     			}
     		}
     	}
     }
     
-    public void trimLeaves(ItemStack stack, EntityLivingBase entity, World world, int x, int y, int z, int height, int radius)
+    public void trimLeaves(ItemStack stack, EntityLivingBase entity, World world, BlockChangeBatch batch, int x, int y, int z, int height, int radius)
     {
     	for (int aX = -radius; aX <= radius; aX++)
     	{
@@ -161,53 +144,49 @@ public class ItemBOPScythe extends Item
     		{
     			for (int aZ = -radius; aZ <= radius; aZ++)
     			{
-    				Block block = world.getBlock(x + aX, y + aY, z + aZ);
-    				int meta = world.getBlockMetadata(x + aX, y + aY, z + aZ);
+    				Block block = batch.getBlock(x + aX, y + aY, z + aZ);
+    				int meta = batch.getBlockMetadata(x + aX, y + aY, z + aZ);
 
-    				if (block != null)
-    				{    					
-    					if (block.isLeaves(world, x + aX, y + aY, z + aZ))
-    					{
-        					if (toolMaterial == ToolMaterial.IRON || toolMaterial == ToolMaterial.GOLD)
+    				if (block.isLeaves(world, x + aX, y + aY, z + aZ))
+    				{
+        				if (toolMaterial == ToolMaterial.IRON || toolMaterial == ToolMaterial.GOLD)
+        				{
+        					if (world.rand.nextInt(26) == 0)
         					{
-        						if (world.rand.nextInt(26) == 0)
-        						{
-        							stack.damageItem(1, entity);
-        						}
+        						stack.damageItem(1, entity);
         					}
-        			        else if (toolMaterial == ToolMaterial.EMERALD)
-        			        {
-        						if (world.rand.nextInt(27) == 0)
-        						{
-        							stack.damageItem(1, entity);
-        						}
-        			        }
-        			        else if (toolMaterial == BOPItemHelper.toolMaterialAmethyst)
-        			        {
-        						if (world.rand.nextInt(28) == 0)
-        						{
-        							stack.damageItem(1, entity);
-        						}
-        			        }
-        			        else if (world.rand.nextInt(24) == 0)
-    						{
-    							stack.damageItem(1, entity);
-    						}
-        			        else
-        			        {
-        			        	return;
-        			        }
-
-    						block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    						world.setBlockToAir(x + aX, y + aY, z + aZ);
+        				}
+        		        else if (toolMaterial == ToolMaterial.EMERALD)
+        		        {
+        					if (world.rand.nextInt(27) == 0)
+        					{
+        						stack.damageItem(1, entity);
+        					}
+        		        }
+        		        else if (toolMaterial == BOPItemHelper.toolMaterialAmethyst)
+        		        {
+        					if (world.rand.nextInt(28) == 0)
+        					{
+        						stack.damageItem(1, entity);
+        					}
+        		        }
+        		        else if (world.rand.nextInt(24) == 0)
+    					{
+    						stack.damageItem(1, entity);
     					}
+        		        else
+        		        {
+        		        	return;
+        		        }
+
+    					batch.addChange(x + aX, y + aY, z + aZ, block, meta, Blocks.air, 0);
     				}
     			}
     		}
     	}
     }
     
-    public void trimCutCorner(ItemStack stack, EntityLivingBase entity, World world, int x, int y, int z, int height, int radius)
+    public void trimCutCorner(ItemStack stack, EntityLivingBase entity, World world, BlockChangeBatch batch, int x, int y, int z, int height, int radius)
     {
     	for (int aX = -radius; aX <= radius; aX++)
     	{
@@ -217,10 +196,10 @@ public class ItemBOPScythe extends Item
     			{
     				if ((aX + aZ < radius * 2) && (-aX + aZ < radius * 2) && (aX + -aZ < radius * 2) && (-aX + -aZ < radius * 2))
     				{
-        				Block block = world.getBlock(x + aX, y + aY, z + aZ);
-    					int meta = world.getBlockMetadata(x + aX, y + aY, z + aZ);
+        				Block block = batch.getBlock(x + aX, y + aY, z + aZ);
+    					int meta = batch.getBlockMetadata(x + aX, y + aY, z + aZ);
 
-    					if (block != null && block != Blocks.air)
+    					if (block != Blocks.air)
     					{
         					if (toolMaterial == ToolMaterial.IRON || toolMaterial == ToolMaterial.GOLD)
         					{
@@ -248,40 +227,33 @@ public class ItemBOPScythe extends Item
     							stack.damageItem(1, entity);
     						}
     						
-    						if (block == BOPCBlocks.foliage && (meta == 1 || meta == 2 || meta == 6))
-    						{
-    							if (meta == 1)
-    							{
-    								block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    								world.setBlockToAir(x + aX, y + aY, z + aZ);
-    							}
-    							else if (meta == 2)
-    							{
-    								block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    								world.setBlock(x + aX, y + aY, z + aZ, BOPCBlocks.foliage, 1, 2);
-    							}
-    							else if (meta == 6)
-    							{
-    								block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    								world.setBlockToAir(x + aX, y + aY, z + aZ);
-    							}
-    						}
-    						else if (block == Blocks.tallgrass)
-    						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlock(x + aX, y + aY, z + aZ, BOPCBlocks.foliage, 2, 2);
-    						}
-    						else if (block != Blocks.waterlily && block instanceof BlockFlower)
-    						{
-    							block.dropBlockAsItem(world, x + aX, y + aY, z + aZ, meta, 0);
-    							world.setBlockToAir(x + aX, y + aY, z + aZ);
-    						}
+    						cutPlant(batch, x + aX, y + aY, z + aZ, block, meta);
     					}
     				}
     			}
     		}
     	}
     }
+
+    private void cutPlant(BlockChangeBatch batch, int x, int y, int z, Block block, int meta)
+    {
+    	if (block == BOPCBlocks.foliage && (meta == 1 || meta == 6))
+    	{
+    		batch.addChange(x, y, z, block, meta, Blocks.air, 0);
+    	}
+    	else if (block == BOPCBlocks.foliage && meta == 2)
+    	{
+    		batch.addChange(x, y, z, block, meta, BOPCBlocks.foliage, 1);
+    	}
+    	else if (block == Blocks.tallgrass)
+    	{
+    		batch.addChange(x, y, z, block, meta, BOPCBlocks.foliage, 2);
+    	}
+    	else if (block != Blocks.waterlily && block instanceof BlockFlower)
+    	{
+    		batch.addChange(x, y, z, block, meta, Blocks.air, 0);
+    	}
+    }
     
 	@Override
 	public float func_150893_a(ItemStack item, Block block)
@@ -1,6 +1,5 @@
 package biomesoplenty.common.items;
 
-import java.util.Arrays;
 import java.util.List;
 
 import net.minecraft.client.Minecraft;
@@ -10,17 +9,15 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.ChatComponentTranslation;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.util.IIcon;
-import net.minecraft.util.MathHelper;
 import net.minecraft.util.StatCollector;
-import net.minecraft.world.ChunkPosition;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.BiomeGenBase;
-import net.minecraft.world.biome.WorldChunkManager;
 import biomesoplenty.BiomesOPlenty;
-import biomesoplenty.common.network.BOPPacketHandler;
-import biomesoplenty.common.network.message.MessageBiomePosition;
+import biomesoplenty.common.helpers.BiomeSearchJob;
+import biomesoplenty.common.helpers.BiomeSearchScheduler;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -52,87 +49,10 @@ public class ItemBiomeFinder extends Item
 
             if (biomeToFind != null)
             {
-                int radius = 256;
+                //Searching can take several seconds, so it is spread across ticks rather than done here
+                BiomeSearchJob activeSearch = BiomeSearchScheduler.startSearch((EntityPlayerMP)player, itemStack, biomeToFind);
 
-                WorldChunkManager chunkManager = world.getWorldChunkManager();
-
-                ChunkPosition finalFoundPosition1 = null;
-
-                int playerX = MathHelper.floor_double(player.posX);
-                int playerZ = MathHelper.floor_double(player.posZ);
-
-                for (int x = 10; x >= -10; x--)
-                {
-                    for (int z = -10; z <= 10; z++)
-                    {
-                        ChunkPosition foundPosition = chunkManager.findBiomePosition(playerX + (x * 512), playerZ + (z * 512), radius, Arrays.asList(biomeToFind), world.rand);
-
-                        if (foundPosition != null && world.getBiomeGenForCoords(foundPosition.chunkPosX, foundPosition.chunkPosZ) == biomeToFind) 
-                        {
-                            finalFoundPosition1 = foundPosition;
-                            break;
-                        }
-                    }
-                    if (finalFoundPosition1 != null) break;
-                }
-
-                ChunkPosition finalFoundPosition2 = null;
-
-                for (int x = -10; x <= 10; x++)
-                {
-                    for (int z = 10; z >= -10; z--)
-                    {
-                        ChunkPosition foundPosition = chunkManager.findBiomePosition(playerX + (x * 512), playerZ + (z * 512), radius, Arrays.asList(biomeToFind), world.rand);
-
-                        if (foundPosition != null && world.getBiomeGenForCoords(foundPosition.chunkPosX, foundPosition.chunkPosZ) == biomeToFind) 
-                        {
-                            finalFoundPosition2 = foundPosition;
-                            break;
-                        }
-                    }
-                    if (finalFoundPosition2 != null) break;
-                }
-
-                ChunkPosition biomePosition = null;
-
-                //System.out.println((finalFoundPosition1 == null) + " " + (finalFoundPosition2 == null));
-
-                if (finalFoundPosition1 != null && finalFoundPosition2 != null)
-                {
-                    int f1X = finalFoundPosition1.chunkPosX;
-                    int f1Z = finalFoundPosition1.chunkPosZ;
-
-                    int f2X = finalFoundPosition2.chunkPosX;
-                    int f2Z = finalFoundPosition2.chunkPosZ;
-
-                    //System.out.println(f1X + " " + f1Z);
-                    //System.out.println(f2X + " " + f2Z);
-
-                    if (Math.sqrt((f1X * f1X) + (f1Z * f1Z)) > Math.sqrt((f2X * f2X) + (f2Z * f2Z))) biomePosition = finalFoundPosition2;
-                    else biomePosition = finalFoundPosition1;
-                }
-                else
-                {
-                    if (finalFoundPosition1 == null) biomePosition = finalFoundPosition2;
-                    else if (finalFoundPosition2 == null) biomePosition = finalFoundPosition1;
-                }
-
-                if (biomePosition != null)
-                {
-                    //System.out.println(biomePosition.chunkPosX + " " + biomePosition.chunkPosZ);
-
-                    NBTTagCompound biomeCompound = new NBTTagCompound();
-
-                    biomeCompound.setInteger("x", biomePosition.chunkPosX);
-                    biomeCompound.setInteger("z", biomePosition.chunkPosZ);
-
-                    itemStack.getTagCompound().setTag("biomePosition", biomeCompound);
-                    itemStack.getTagCompound().setBoolean("foundBiome", true);
-
-                    BOPPacketHandler.instance.sendTo(new MessageBiomePosition(biomePosition.chunkPosX, biomePosition.chunkPosZ, true), (EntityPlayerMP)player);
-                }
-
-                //System.out.println("Done looking");
+                if (activeSearch != null) player.addChatMessage(new ChatComponentTranslation("biomeRadar.searching", activeSearch.getProgress()));
             }
         }
 
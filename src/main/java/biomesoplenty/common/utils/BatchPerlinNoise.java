@@ -0,0 +1,290 @@
+package biomesoplenty.common.utils;
+
+/**
+ * The original Perlin noise functions of PerlinNoise, with the gradients stored in flat arrays and
+ * methods to fill whole regions at once. Every value is bit for bit the same as the equivalent
+ * PerlinNoise call made with the same seed.
+ * <p>
+ * Regions are sampled at (origin + index * step) / scale along each axis, with the last axis varying
+ * fastest in the output array. Work that only depends on the outer axes is done once per row.
+ */
+public class BatchPerlinNoise
+{
+    private static final int BM = 0xff;
+    private static final int N = 0x1000;
+
+    private final int[] p;
+    private final float[] g2;
+    private final float[] g3;
+
+    public BatchPerlinNoise(long seed)
+    {
+        this(new PerlinNoise(seed));
+    }
+
+    /**
+     * Copies the permutation and gradient tables of an existing noise generator.
+     */
+    public BatchPerlinNoise(PerlinNoise source)
+    {
+        this.p = source.p.clone();
+        this.g2 = new float[source.g2.length * 2];
+        this.g3 = new float[source.g3.length * 3];
+
+        for (int i = 0; i < source.g2.length; i++)
+        {
+            g2[i * 2] = source.g2[i][0];
+            g2[i * 2 + 1] = source.g2[i][1];
+        }
+
+        for (int i = 0; i < source.g3.length; i++)
+        {
+            g3[i * 3] = source.g3[i][0];
+            g3[i * 3 + 1] = source.g3[i][1];
+            g3[i * 3 + 2] = source.g3[i][2];
+        }
+    }
+
+    public float noise2(float x, float y)
+    {
+        float t = x + N;
+        int bx0 = ((int)t) & BM;
+        float rx0 = t - (int)t;
+
+        t = y + N;
+        int by0 = ((int)t) & BM;
+        float ry0 = t - (int)t;
+
+        return this.noise2(p[bx0], p[(bx0 + 1) & BM], rx0, sCurve(rx0), by0, ry0);
+    }
+
+    public float noise3(float x, float y, float z)
+    {
+        float t = x + (float)N;
+        int bx0 = ((int)t) & BM;
+        float rx0 = (float)(t - (int)t);
+
+        t = y + (float)N;
+        int by0 = ((int)t) & BM;
+        float ry0 = (float)(t - (int)t);
+
+        t = z + (float)N;
+        int bz0 = ((int)t) & BM;
+        float rz0 = (float)(t - (int)t);
+
+        int i = p[bx0];
+        int j = p[(bx0 + 1) & BM];
+        int by1 = (by0 + 1) & BM;
+
+        return this.noise3(p[i + by0], p[j + by0], p[i + by1], p[j + by1], rx0, sCurve(rx0), ry0, sCurve(ry0), bz0, rz0);
+    }
+
+    /**
+     * Fills output with sizeX * sizeY values of noise2. Returns output, or a new array if it was null or too small.
+     */
+    public float[] fillNoise2(float[] output, int x, int y, int sizeX, int sizeY, int stepX, int stepY, float scaleX, float scaleY)
+    {
+        if (output == null || output.length < sizeX * sizeY) output = new float[sizeX * sizeY];
+
+        this.fillNoise2(output, x, y, sizeX, sizeY, stepX, stepY, scaleX, scaleY, 1F, false);
+
+        return output;
+    }
+
+    /**
+     * Fills output with sizeX * sizeY * sizeZ values of noise3. Returns output, or a new array if it was null or too small.
+     */
+    public float[] fillNoise3(float[] output, int x, int y, int z, int sizeX, int sizeY, int sizeZ, int stepX, int stepY, int stepZ, float scaleX, float scaleY, float scaleZ)
+    {
+        if (output == null || output.length < sizeX * sizeY * sizeZ) output = new float[sizeX * sizeY * sizeZ];
+
+        this.fillNoise3(output, x, y, z, sizeX, sizeY, sizeZ, stepX, stepY, stepZ, scaleX, scaleY, scaleZ, 1F, false);
+
+        return output;
+    }
+
+    /**
+     * Fills output with the same values as PerlinNoise.turbulence2 over a region, adding each octave straight into output.
+     */
+    public float[] fillTurbulence2(float[] output, int x, int y, int sizeX, int sizeY, int stepX, int stepY, float scaleX, float scaleY, float freq)
+    {
+        if (output == null || output.length < sizeX * sizeY) output = new float[sizeX * sizeY];
+
+        for (int i = 0; i < sizeX * sizeY; i++) output[i] = 0;
+
+        do
+        {
+            this.fillNoise2(output, x, y, sizeX, sizeY, stepX, stepY, scaleX, scaleY, freq, true);
+            freq *= 0.5f;
+        }
+        while (freq >= 1);
+
+        return output;
+    }
+
+    /**
+     * Fills output with the same values as PerlinNoise.turbulence3 over a region, adding each octave straight into output.
+     */
+    public float[] fillTurbulence3(float[] output, int x, int y, int z, int sizeX, int sizeY, int sizeZ, int stepX, int stepY, int stepZ, float scaleX, float scaleY, float scaleZ, float freq)
+    {
+        if (output == null || output.length < sizeX * sizeY * sizeZ) output = new float[sizeX * sizeY * sizeZ];
+
+        for (int i = 0; i < sizeX * sizeY * sizeZ; i++) output[i] = 0;
+
+        do
+        {
+            this.fillNoise3(output, x, y, z, sizeX, sizeY, sizeZ, stepX, stepY, stepZ, scaleX, scaleY, scaleZ, freq, true);
+            freq *= 0.5f;
+        }
+        while (freq >= 1);
+
+        return output;
+    }
+
+    /**
+     * Writes noise2 at freq times each point into output, or adds it divided by freq when accumulating.
+     */
+    private void fillNoise2(float[] output, int x, int y, int sizeX, int sizeY, int stepX, int stepY, float scaleX, float scaleY, float freq, boolean accumulate)
+    {
+        int index = 0;
+
+        for (int xi = 0; xi < sizeX; xi++)
+        {
+            float t = (accumulate ? freq * ((x + xi * stepX) / scaleX) : (x + xi * stepX) / scaleX) + N;
+            int bx0 = ((int)t) & BM;
+            float rx0 = t - (int)t;
+            float sx = sCurve(rx0);
+            int i = p[bx0];
+            int j = p[(bx0 + 1) & BM];
+
+            for (int yi = 0; yi < sizeY; yi++, index++)
+            {
+                t = (accumulate ? freq * ((y + yi * stepY) / scaleY) : (y + yi * stepY) / scaleY) + N;
+                int by0 = ((int)t) & BM;
+                float ry0 = t - (int)t;
+
+                float value = this.noise2(i, j, rx0, sx, by0, ry0);
+
+                if (accumulate) output[index] += value / freq;
+                else output[index] = value;
+            }
+        }
+    }
+
+    /**
+     * Writes noise3 at freq times each point into output, or adds it divided by freq when accumulating.
+     */
+    private void fillNoise3(float[] output, int x, int y, int z, int sizeX, int sizeY, int sizeZ, int stepX, int stepY, int stepZ, float scaleX, float scaleY, float scaleZ, float freq, boolean accumulate)
+    {
+        int index = 0;
+
+        for (int xi = 0; xi < sizeX; xi++)
+        {
+            float t = (accumulate ? freq * ((x + xi * stepX) / scaleX) : (x + xi * stepX) / scaleX) + (float)N;
+            int bx0 = ((int)t) & BM;
+            float rx0 = (float)(t - (int)t);
+            float sx = sCurve(rx0);
+            int i = p[bx0];
+            int j = p[(bx0 + 1) & BM];
+
+            for (int yi = 0; yi < sizeY; yi++)
+            {
+                t = (accumulate ? freq * ((y + yi * stepY) / scaleY) : (y + yi * stepY) / scaleY) + (float)N;
+                int by0 = ((int)t) & BM;
+                int by1 = (by0 + 1) & BM;
+                float ry0 = (float)(t - (int)t);
+                float sy = sCurve(ry0);
+
+                int b00 = p[i + by0];
+                int b10 = p[j + by0];
+                int b01 = p[i + by1];
+                int b11 = p[j + by1];
+
+                for (int zi = 0; zi < sizeZ; zi++, index++)
+                {
+                    t = (accumulate ? freq * ((z + zi * stepZ) / scaleZ) : (z + zi * stepZ) / scaleZ) + (float)N;
+                    int bz0 = ((int)t) & BM;
+                    float rz0 = (float)(t - (int)t);
+
+                    float value = this.noise3(b00, b10, b01, b11, rx0, sx, ry0, sy, bz0, rz0);
+
+                    if (accumulate) output[index] += value / freq;
+                    else output[index] = value;
+                }
+            }
+        }
+    }
+
+    private float noise2(int i, int j, float rx0, float sx, int by0, float ry0)
+    {
+        float rx1 = rx0 - 1;
+        int by1 = (by0 + 1) & BM;
+        float ry1 = ry0 - 1;
+
+        int b00 = p[i + by0] * 2;
+        int b10 = p[j + by0] * 2;
+        int b01 = p[i + by1] * 2;
+        int b11 = p[j + by1] * 2;
+
+        float sy = sCurve(ry0);
+
+        float u = rx0 * g2[b00] + ry0 * g2[b00 + 1];
+        float v = rx1 * g2[b10] + ry0 * g2[b10 + 1];
+        float a = lerp(sx, u, v);
+
+        u = rx0 * g2[b01] + ry1 * g2[b01 + 1];
+        v = rx1 * g2[b11] + ry1 * g2[b11 + 1];
+        float b = lerp(sx, u, v);
+
+        return lerp(sy, a, b);
+    }
+
+    private float noise3(int b00, int b10, int b01, int b11, float rx0, float sx, float ry0, float sy, int bz0, float rz0)
+    {
+        float rx1 = rx0 - 1;
+        float ry1 = ry0 - 1;
+        int bz1 = (bz0 + 1) & BM;
+        float rz1 = rz0 - 1;
+        float sz = sCurve(rz0);
+
+        int q = (b00 + bz0) * 3;
+        float u = (rx0 * g3[q] + ry0 * g3[q + 1] + rz0 * g3[q + 2]);
+        q = (b10 + bz0) * 3;
+        float v = (rx1 * g3[q] + ry0 * g3[q + 1] + rz0 * g3[q + 2]);
+        float a = lerp(sx, u, v);
+
+        q = (b01 + bz0) * 3;
+        u = (rx0 * g3[q] + ry1 * g3[q + 1] + rz0 * g3[q + 2]);
+        q = (b11 + bz0) * 3;
+        v = (rx1 * g3[q] + ry1 * g3[q + 1] + rz0 * g3[q + 2]);
+        float b = lerp(sx, u, v);
+
+        float c = lerp(sy, a, b);
+
+        q = (b00 + bz1) * 3;
+        u = (rx0 * g3[q] + ry0 * g3[q + 1] + rz1 * g3[q + 2]);
+        q = (b10 + bz1) * 3;
+        v = (rx1 * g3[q] + ry0 * g3[q + 1] + rz1 * g3[q + 2]);
+        a = lerp(sx, u, v);
+
+        q = (b01 + bz1) * 3;
+        u = (rx0 * g3[q] + ry1 * g3[q + 1] + rz1 * g3[q + 2]);
+        q = (b11 + bz1) * 3;
+        v = (rx1 * g3[q] + ry1 * g3[q + 1] + rz1 * g3[q + 2]);
+        b = lerp(sx, u, v);
+
+        float d = lerp(sy, a, b);
+
+        return lerp(sz, c, d);
+    }
+
+    private static float lerp(float t, float a, float b)
+    {
+        return a + t * (b - a);
+    }
+
+    private static float sCurve(float t)
+    {
+        return (t * t * (3 - 2 * t));
+    }
+}
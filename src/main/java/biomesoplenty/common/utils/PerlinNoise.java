@@ -49,10 +49,10 @@ public class PerlinNoise
     /** Permutation array for the improved noise function */
     private int[] p_imp;
 
-    /** P array for perline 1 noise */
-    private int[] p;
-    private float[][] g3;
-    private float[][] g2;
+    /** P array for perline 1 noise, also read by BatchPerlinNoise */
+    int[] p;
+    float[][] g3;
+    float[][] g2;
     private float[] g1;
 
 
@@ -0,0 +1,199 @@
+package biomesoplenty.common.world;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the chunks a chunk provider has generated and populated, how long that took and, where the JVM
+ * supports measuring it, how much memory the generating threads allocated while doing so.
+ */
+public class ChunkGenerationStats
+{
+    /** Reads the current thread's allocation counter, or null where the JVM doesn't provide one */
+    private static final AllocationCounter allocationCounter = findAllocationCounter();
+
+    private static final boolean allocationSupported = allocationCounter != null;
+
+    private final String name;
+
+    private final AtomicLong chunksProvided = new AtomicLong();
+    private final AtomicLong provideNanos = new AtomicLong();
+    private final AtomicLong provideAllocatedBytes = new AtomicLong();
+
+    private final AtomicLong chunksPopulated = new AtomicLong();
+    private final AtomicLong populateNanos = new AtomicLong();
+    private final AtomicLong populateAllocatedBytes = new AtomicLong();
+
+    private final AtomicLong buffersAllocated = new AtomicLong();
+
+    public ChunkGenerationStats(String name)
+    {
+        this.name = name;
+    }
+
+    /**
+     * Checks for the allocation counter by name before touching it, as it is specific to HotSpot and resolving it
+     * on other JVMs would stop this class from loading. Only timings are recorded where it is missing.
+     */
+    private static AllocationCounter findAllocationCounter()
+    {
+        try
+        {
+            Class.forName("com.sun.management.ThreadMXBean");
+
+            return AllocationCounter.create();
+        }
+        catch (Throwable t)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * The bytes allocated so far by the current thread, or -1 if that can't be measured.
+     */
+    public static long getAllocatedBytes()
+    {
+        return allocationSupported ? allocationCounter.getAllocatedBytes() : -1L;
+    }
+
+    public void recordProvide(long startNanos, long startAllocatedBytes)
+    {
+        chunksProvided.incrementAndGet();
+        provideNanos.addAndGet(System.nanoTime() - startNanos);
+
+        long allocatedBytes = startAllocatedBytes >= 0L ? getAllocatedBytes() : -1L;
+
+        if (allocatedBytes >= 0L) provideAllocatedBytes.addAndGet(allocatedBytes - startAllocatedBytes - allocationCounter.overheadBytes);
+    }
+
+    public void recordPopulate(long startNanos, long startAllocatedBytes)
+    {
+        chunksPopulated.incrementAndGet();
+        populateNanos.addAndGet(System.nanoTime() - startNanos);
+
+        long allocatedBytes = startAllocatedBytes >= 0L ? getAllocatedBytes() : -1L;
+
+        if (allocatedBytes >= 0L) populateAllocatedBytes.addAndGet(allocatedBytes - startAllocatedBytes - allocationCounter.overheadBytes);
+    }
+
+    /**
+     * Called whenever a generating thread has to create its chunk buffers.
+     */
+    public void recordBufferAllocation()
+    {
+        buffersAllocated.incrementAndGet();
+    }
+
+    public long getChunksProvided()
+    {
+        return chunksProvided.get();
+    }
+
+    public long getChunksPopulated()
+    {
+        return chunksPopulated.get();
+    }
+
+    public long getBuffersAllocated()
+    {
+        return buffersAllocated.get();
+    }
+
+    public double getAverageProvideMillis()
+    {
+        long chunks = chunksProvided.get();
+
+        return chunks == 0L ? 0D : provideNanos.get() / 1000000D / chunks;
+    }
+
+    public double getAveragePopulateMillis()
+    {
+        long chunks = chunksPopulated.get();
+
+        return chunks == 0L ? 0D : populateNanos.get() / 1000000D / chunks;
+    }
+
+    /**
+     * The average bytes allocated while providing a chunk, or -1 if that can't be measured.
+     */
+    public long getAverageProvideAllocatedBytes()
+    {
+        long chunks = chunksProvided.get();
+
+        return !allocationSupported ? -1L : chunks == 0L ? 0L : provideAllocatedBytes.get() / chunks;
+    }
+
+    /**
+     * The average bytes allocated while populating a chunk, or -1 if that can't be measured.
+     */
+    public long getAveragePopulateAllocatedBytes()
+    {
+        long chunks = chunksPopulated.get();
+
+        return !allocationSupported ? -1L : chunks == 0L ? 0L : populateAllocatedBytes.get() / chunks;
+    }
+
+    public void reset()
+    {
+        chunksProvided.set(0L);
+        provideNanos.set(0L);
+        provideAllocatedBytes.set(0L);
+        chunksPopulated.set(0L);
+        populateNanos.set(0L);
+        populateAllocatedBytes.set(0L);
+        buffersAllocated.set(0L);
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s: %d chunks provided (%.3fms, %d bytes allocated each), %d populated (%.3fms, %d bytes allocated each), %d buffer sets allocated",
+                name, this.getChunksProvided(), this.getAverageProvideMillis(), this.getAverageProvideAllocatedBytes(),
+                this.getChunksPopulated(), this.getAveragePopulateMillis(), this.getAveragePopulateAllocatedBytes(), this.getBuffersAllocated());
+    }
+
+    /**
+     * Calls the HotSpot bean directly rather than through reflection, which would box the thread id and the result
+     * on every reading. Only loaded once the bean is known to exist.
+     */
+    private static class AllocationCounter
+    {
+        private final com.sun.management.ThreadMXBean threadBean;
+
+        /** What a reading allocates itself, which is taken off every measurement */
+        private final long overheadBytes;
+
+        private AllocationCounter(com.sun.management.ThreadMXBean threadBean)
+        {
+            this.threadBean = threadBean;
+
+            //The first readings may include one-off setup, so the smallest of a few is kept
+            long smallestOverhead = Long.MAX_VALUE;
+
+            for (int i = 0; i < 8; i++)
+            {
+                long firstReading = this.getAllocatedBytes();
+
+                smallestOverhead = Math.min(smallestOverhead, this.getAllocatedBytes() - firstReading);
+            }
+
+            this.overheadBytes = Math.max(smallestOverhead, 0L);
+        }
+
+        private static AllocationCounter create()
+        {
+            ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+            if (!(threadBean instanceof com.sun.management.ThreadMXBean) || !((com.sun.management.ThreadMXBean)threadBean).isThreadAllocatedMemorySupported()) return null;
+
+            return new AllocationCounter((com.sun.management.ThreadMXBean)threadBean);
+        }
+
+        private long getAllocatedBytes()
+        {
+            return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+}
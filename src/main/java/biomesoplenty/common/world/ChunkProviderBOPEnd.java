@@ -1,9 +1,11 @@
 package biomesoplenty.common.world;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
-import biomesoplenty.common.utils.PerlinNoise;
+import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
+import biomesoplenty.common.utils.BatchPerlinNoise;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.entity.EnumCreatureType;
@@ -18,54 +20,98 @@ import net.minecraft.world.chunk.IChunkProvider;
 
 public class ChunkProviderBOPEnd implements IChunkProvider
 {
+    //The lattice the 3D noise is sampled on when interpolating, one point every 4 blocks horizontally and 8 vertically
+    private static final int LATTICE_WIDTH = 5;
+    private static final int LATTICE_HEIGHT = 11;
+    
+    //Each thread generating chunks through provideChunk reuses the same context, as the Chunk copies the blocks into its own storage
+    private static final ThreadLocal<TerrainContext> terrainContexts = new ThreadLocal<TerrainContext>()
+    {
+        @Override
+        protected TerrainContext initialValue()
+        {
+            return new TerrainContext();
+        }
+    };
+    
     private Random rand;
     private World worldObj;
-    private PerlinNoise perlin;
-    private BiomeGenBase[] biomesForGeneration;
+    private BatchPerlinNoise perlin;
     
     public ChunkProviderBOPEnd(World world, long l)
     {
         worldObj = world;
         rand = new Random(l);
-        perlin = new PerlinNoise(l);
+        perlin = new BatchPerlinNoise(l);
     }
 
     public Chunk provideChunk(int cx, int cy)
     {
-    	BiomeGenBase biome = BiomeGenBase.sky;
-    	
-    	rand.setSeed((long)cx * 0x4f9939f508L + (long)cy * 0x1ef1565bd5L);
-        Block[] blocks = new Block[65536];
-        byte[] metadata = new byte[65536];
-        biomesForGeneration = worldObj.getWorldChunkManager().loadBlockGeneratorData(this.biomesForGeneration, cx * 16, cy * 16, 16, 16);
+        TerrainContext context = terrainContexts.get();
+        context.biomes = worldObj.getWorldChunkManager().loadBlockGeneratorData(context.biomes, cx * 16, cy * 16, 16, 16);
+        
+        generateRawTerrain(cx, cy, context.biomes, context);
+        
+        return finishChunk(cx, cy, context.biomes, context);
+    }
+    
+    /**
+     * Generates the terrain of a chunk into the context's blocks and metadata, returning the blocks.
+     * This only touches the given context, so it may be called from several threads at once as long as each has its own.
+     */
+    public Block[] generateRawTerrain(int cx, int cy, BiomeGenBase[] biomes, TerrainContext context)
+    {
+    	context.rand.setSeed((long)cx * 0x4f9939f508L + (long)cy * 0x1ef1565bd5L);
+        Arrays.fill(context.metadata, (byte)0);
     	
-        generateTerrain(cx, cy, blocks, metadata, biomesForGeneration);
-        replaceBlocksForBiome(cx, cy, blocks, metadata, biomesForGeneration);
-
-        Chunk chunk = new Chunk(this.worldObj, blocks, metadata, cx, cy);
+        if (BOPConfigurationTerrainGen.interpolatedEndTerrain)
+        {
+            generateInterpolatedTerrain(cx, cy, context);
+        }
+        else
+        {
+            generateTerrain(cx, cy, context);
+        }
+        
+        replaceBlocksForBiome(cx, cy, biomes, context);
+        
+        return context.blocks;
+    }
+    
+    /**
+     * Builds the Chunk from terrain generated by generateRawTerrain. This must be called on the world's thread,
+     * and the context may be reused once it returns.
+     */
+    public Chunk finishChunk(int cx, int cy, BiomeGenBase[] biomes, TerrainContext context)
+    {
+        Chunk chunk = new Chunk(this.worldObj, context.blocks, context.metadata, cx, cy);
         byte[] abyte1 = chunk.getBiomeArray();
         for (int k = 0; k < abyte1.length; ++k)
         {
-            abyte1[k] = (byte)biomesForGeneration[k].biomeID;
+            abyte1[k] = (byte)biomes[k].biomeID;
         }
         chunk.generateSkylightMap();
         return chunk;
     }
     
-    public void generateTerrain(int cx, int cy, Block[] blocks, byte[] metadata, BiomeGenBase[] biome)
+    public void generateTerrain(int cx, int cy, TerrainContext context)
     {	
+    	Block[] blocks = context.blocks;
+    	fillColumnNoise(cx, cy, context);
+    	
     	int p;
-    	float noiseA, noiseB, noiseC, noise3, spawnDis;
+    	float noiseA, noiseB, noiseC, noiseD, noise3, spawnDis;
     	for(int i = 0; i < 16; i++)
     	{
     		for(int j = 0; j < 16; j++)
     		{
     			spawnDis = (20000 - ((cx * 16 + j) * (cx * 16 + j) + (cy * 16 + i) * (cy * 16 + i))) / 13000f;
-    			noiseC = perlin.noise2((cx * 16 + j) / 80f, (cy * 16 + i) / 80f) * 6 - 1.2f;
+    			noiseC = context.noise80[j * 16 + i] * 6 - 1.2f;
     			noiseC = spawnDis > noiseC ? spawnDis : noiseC;
     			
-    			noiseA = 64f + (perlin.noise2((cx * 16 + j) / 40f, (cy * 16 + i) / 40f) * 6) + (perlin.noise2((cx * 16 + j) / 12f, (cy * 16 + i) / 12f) * 3) + noiseC * 3;
-    			noiseB = 12f + (perlin.noise2((1000f + cx * 16 + j) / 40f, (cy * 16 + i) / 40f) * 6) + (perlin.noise2((cx * 16 + j) / 12f, (cy * 16 + i) / 12f) * 3) - noiseC * 3;
+    			noiseD = context.noise12[j * 16 + i] * 3;
+    			noiseA = 64f + (context.noise40[j * 16 + i] * 6) + noiseD + noiseC * 3;
+    			noiseB = 12f + (perlin.noise2((1000f + cx * 16 + j) / 40f, (cy * 16 + i) / 40f) * 6) + noiseD - noiseC * 3;
     			
     			for(int k = 0; k < 256; k++)
     			{
@@ -135,8 +181,93 @@ public class ChunkProviderBOPEnd implements IChunkProvider
     	}
     }
 
-    public void replaceBlocksForBiome(int cx, int cy, Block[] blocks, byte[] metadata, BiomeGenBase[] biomes)
+    /**
+     * Generates the same terrain as generateTerrain, but samples the 3D noise on a coarse lattice and
+     * interpolates between the points rather than sampling it for every block.
+     */
+    public void generateInterpolatedTerrain(int cx, int cy, TerrainContext context)
     {
+    	Block[] blocks = context.blocks;
+    	float[] noiseLattice = context.noiseLattice;
+    	
+    	fillColumnNoise(cx, cy, context);
+    	perlin.fillNoise3(noiseLattice, cx * 16, cy * 16, 0, LATTICE_WIDTH, LATTICE_WIDTH, LATTICE_HEIGHT, 4, 4, 8, 30f, 30f, 20f);
+    	
+    	int p;
+    	float noiseA, noiseB, noiseC, noiseD, noise3, spawnDis;
+    	float[] columnNoise = context.columnNoise;
+    	
+    	for(int i = 0; i < 16; i++)
+    	{
+    		for(int j = 0; j < 16; j++)
+    		{
+    			spawnDis = (20000 - ((cx * 16 + j) * (cx * 16 + j) + (cy * 16 + i) * (cy * 16 + i))) / 13000f;
+    			noiseC = context.noise80[j * 16 + i] * 6 - 1.2f;
+    			noiseC = spawnDis > noiseC ? spawnDis : noiseC;
+    			
+    			noiseD = context.noise12[j * 16 + i] * 3;
+    			noiseA = 64f + (context.noise40[j * 16 + i] * 6) + noiseD + noiseC * 3;
+    			noiseB = 12f + (perlin.noise2((1000f + cx * 16 + j) / 40f, (cy * 16 + i) / 40f) * 6) + noiseD - noiseC * 3;
+    			
+    			//Interpolate horizontally between the four lattice columns around this one
+    			int lx = j >> 2;
+    			int lz = i >> 2;
+    			float fx = (j & 3) / 4f;
+    			float fz = (i & 3) / 4f;
+    			
+    			for(int ly = 0; ly < LATTICE_HEIGHT; ly++)
+    			{
+    				float n00 = noiseLattice[(lx * LATTICE_WIDTH + lz) * LATTICE_HEIGHT + ly];
+    				float n10 = noiseLattice[((lx + 1) * LATTICE_WIDTH + lz) * LATTICE_HEIGHT + ly];
+    				float n01 = noiseLattice[(lx * LATTICE_WIDTH + lz + 1) * LATTICE_HEIGHT + ly];
+    				float n11 = noiseLattice[((lx + 1) * LATTICE_WIDTH + lz + 1) * LATTICE_HEIGHT + ly];
+    				
+    				float n0 = n00 + (n10 - n00) * fx;
+    				float n1 = n01 + (n11 - n01) * fx;
+    				
+    				columnNoise[ly] = n0 + (n1 - n0) * fz;
+    			}
+    			
+    			for(int k = 0; k < 256; k++)
+    			{
+    				p = (j * 16 + i) * 256 + k;
+    				if(k <= 72 && k < noiseA && k > noiseB)
+    				{
+    					float fy = (k & 7) / 8f;
+    					
+    					noise3 = columnNoise[k >> 3] + (columnNoise[(k >> 3) + 1] - columnNoise[k >> 3]) * fy + noiseC;
+    					if(noise3 > 0.2f)
+    					{
+    						blocks[p] = Blocks.end_stone;
+    					}
+    					else
+    					{
+    						blocks[p] = Blocks.air;
+    					}
+    				}
+    				else
+    				{
+    					blocks[p] = Blocks.air;
+    				}
+    			}
+    		}
+    	}
+    }
+    
+    /**
+     * Fills the buffers with the 2D noise used for each column of the chunk, indexed by x * 16 + z.
+     * The noise offset by 1000 blocks is still sampled per column, as its float coordinates are rounded differently.
+     */
+    private void fillColumnNoise(int cx, int cy, TerrainContext context)
+    {
+    	perlin.fillNoise2(context.noise80, cx * 16, cy * 16, 16, 16, 1, 1, 80f, 80f);
+    	perlin.fillNoise2(context.noise40, cx * 16, cy * 16, 16, 16, 1, 1, 40f, 40f);
+    	perlin.fillNoise2(context.noise12, cx * 16, cy * 16, 16, 16, 1, 1, 12f, 12f);
+    }
+    
+    public void replaceBlocksForBiome(int cx, int cy, BiomeGenBase[] biomes, TerrainContext context)
+    {
+    	Block[] blocks = context.blocks;
     	int depth = -1;
     	for(int i = 0; i < 16; i++)
     	{
@@ -246,4 +377,21 @@ public class ChunkProviderBOPEnd implements IChunkProvider
     public void recreateStructures(int par1, int par2)
     {
 	}
+    
+    /**
+     * Everything generateRawTerrain writes to. Give each generating thread its own.
+     */
+    public static class TerrainContext
+    {
+        public final Random rand = new Random();
+        public final Block[] blocks = new Block[65536];
+        public final byte[] metadata = new byte[65536];
+        public BiomeGenBase[] biomes;
+
+        final float[] noiseLattice = new float[LATTICE_WIDTH * LATTICE_WIDTH * LATTICE_HEIGHT];
+        final float[] noise80 = new float[256];
+        final float[] noise40 = new float[256];
+        final float[] noise12 = new float[256];
+        final float[] columnNoise = new float[LATTICE_HEIGHT];
+    }
 }
\ No newline at end of file
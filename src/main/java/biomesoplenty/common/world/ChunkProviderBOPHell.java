@@ -40,6 +40,18 @@ import net.minecraftforge.event.terraingen.TerrainGen;
 
 public class ChunkProviderBOPHell implements IChunkProvider
 {
+	public static final ChunkGenerationStats stats = new ChunkGenerationStats("BOP Nether");
+
+	//Each thread generating chunks through provideChunk reuses the same context, as the Chunk copies the blocks into its own storage
+	private static final ThreadLocal<TerrainContext> terrainContexts = new ThreadLocal<TerrainContext>()
+	{
+		@Override
+		protected TerrainContext initialValue()
+		{
+			return new TerrainContext();
+		}
+	};
+
 	private Random hellRNG;
 	private NoiseGeneratorOctaves netherNoiseGen1;
 	private NoiseGeneratorOctaves netherNoiseGen2;
@@ -49,18 +61,20 @@ public class ChunkProviderBOPHell implements IChunkProvider
 	public NoiseGeneratorOctaves netherNoiseGen6;
 	public NoiseGeneratorOctaves netherNoiseGen7;
 	private World worldObj;
-	private double[] noiseField;
 	public MapGenNetherBridge genNetherBridge = new MapGenNetherBridge();
-	private double[] slowsandNoise = new double[256];
-	private double[] gravelNoise = new double[256];
-	private BiomeGenBase[] biomesForGeneration;
-	private double[] netherrackExclusivityNoise = new double[256];
 	private MapGenBase netherCaveGenerator = new MapGenCavesHell();
-	double[] noiseData1;
-	double[] noiseData2;
-	double[] noiseData3;
-	double[] noiseData4;
-	double[] noiseData5;
+
+	/** The noise offset for each y level of the noise field, which only depends on its height */
+	private final double[] noiseHeightOffsets = createNoiseHeightOffsets(17);
+
+	private final WorldGenHellLava lavaGen = new WorldGenHellLava(Blocks.flowing_lava, false);
+	private final WorldGenHellLava enclosedLavaGen = new WorldGenHellLava(Blocks.flowing_lava, true);
+	private final WorldGenFire fireGen = new WorldGenFire();
+	private final WorldGenGlowStone1 glowStoneGen1 = new WorldGenGlowStone1();
+	private final WorldGenGlowStone2 glowStoneGen2 = new WorldGenGlowStone2();
+	private final WorldGenFlowers brownMushroomGen = new WorldGenFlowers(Blocks.brown_mushroom);
+	private final WorldGenFlowers redMushroomGen = new WorldGenFlowers(Blocks.red_mushroom);
+	private final WorldGenMinable quartzGen = new WorldGenMinable(Blocks.quartz_ore, 13, Blocks.netherrack);
 
 	{
 		genNetherBridge = (MapGenNetherBridge) TerrainGen.getModdedMapGen(genNetherBridge, NETHER_BRIDGE);
@@ -90,17 +104,54 @@ public class ChunkProviderBOPHell implements IChunkProvider
 		netherNoiseGen7 = noiseGens[6];*/
 	}
 
+	/**
+	 * Generates the shape of the terrain and the biome blocks for a chunk into the context's blocks, which are returned.
+	 * This only touches the given context, so it may be called from several threads at once as long as each has its own.
+	 * Caves and nether fortresses are left to finishChunk, which must be called on the world's thread.
+	 */
+	public Block[] generateRawTerrain(int par1, int par2, BiomeGenBase[] par3ArrayOfBiomeGenBase, TerrainContext context)
+	{
+		context.rand.setSeed(par1 * 341873128712L + par2 * 132897987541L);
+		this.generateNetherTerrain(par1, par2, context);
+		this.replaceBlocksForBiome(par1, par2, par3ArrayOfBiomeGenBase, context);
+
+		return context.blocks;
+	}
+
+	/**
+	 * Carves caves and nether fortresses into terrain from generateRawTerrain and builds the Chunk from it.
+	 * The context may be reused once this returns.
+	 */
+	public Chunk finishChunk(int par1, int par2, BiomeGenBase[] par3ArrayOfBiomeGenBase, TerrainContext context)
+	{
+		Block[] blocks = context.blocks;
+
+		netherCaveGenerator.func_151539_a(this, worldObj, par1, par2, blocks);
+		genNetherBridge.func_151539_a(this, worldObj, par1, par2, blocks);
+		Chunk chunk = new Chunk(worldObj, blocks, par1, par2);
+		byte[] abyte1 = chunk.getBiomeArray();
+
+		for (int k = 0; k < abyte1.length; ++k)
+		{
+			abyte1[k] = (byte)par3ArrayOfBiomeGenBase[k].biomeID;
+		}
+
+		chunk.resetRelightChecks();
+		return chunk;
+	}
+
 	/**
 	 * Generates the shape of the terrain in the nether.
 	 */
-	 public void generateNetherTerrain(int par1, int par2, Block[] blocks)
+	 public void generateNetherTerrain(int par1, int par2, TerrainContext context)
 	{
+		Block[] blocks = context.blocks;
 		byte b0 = 4;
 		byte b1 = 32;
 		int k = b0 + 1;
 		byte b2 = 17;
 		int l = b0 + 1;
-		noiseField = this.initializeNoiseField(noiseField, par1 * b0, 0, par2 * b0, k, b2, l);
+		double[] noiseField = context.noiseField = this.initializeNoiseField(context, context.noiseField, par1 * b0, 0, par2 * b0, k, b2, l);
 
 		for (int i1 = 0; i1 < b0; ++i1)
 		{
@@ -170,17 +221,20 @@ public class ChunkProviderBOPHell implements IChunkProvider
 	 /**
 	  * name based on ChunkProviderGenerate
 	  */
-	 public void replaceBlocksForBiome(int par1, int par2, Block[] blocks, BiomeGenBase[] par4ArrayOfBiomeGenBase)
+	 public void replaceBlocksForBiome(int par1, int par2, BiomeGenBase[] par4ArrayOfBiomeGenBase, TerrainContext context)
 	 {
+		 Block[] blocks = context.blocks;
+		 Random hellRNG = context.rand;
+
 		 //ChunkProviderEvent.ReplaceBiomeBlocks event = new ChunkProviderEvent.ReplaceBiomeBlocks(this, par1, par2, par3ArrayOfByte, par4ArrayOfBiomeGenBase);
 		 //MinecraftForge.EVENT_BUS.post(event);
 		 //if (event.getResult() == Result.DENY) return;
 
 		 byte b0 = 32;
 		 double d0 = 0.03125D;
-		 slowsandNoise = slowsandGravelNoiseGen.generateNoiseOctaves(slowsandNoise, par1 * 16, par2 * 16, 0, 16, 16, 1, d0, d0, 1.0D);
-		 gravelNoise = slowsandGravelNoiseGen.generateNoiseOctaves(gravelNoise, par1 * 16, 109, par2 * 16, 16, 1, 16, d0, 1.0D, d0);
-		 netherrackExclusivityNoise = netherrackExculsivityNoiseGen.generateNoiseOctaves(netherrackExclusivityNoise, par1 * 16, par2 * 16, 0, 16, 16, 1, d0 * 2.0D, d0 * 2.0D, d0 * 2.0D);
+		 double[] slowsandNoise = context.slowsandNoise = slowsandGravelNoiseGen.generateNoiseOctaves(context.slowsandNoise, par1 * 16, par2 * 16, 0, 16, 16, 1, d0, d0, 1.0D);
+		 double[] gravelNoise = context.gravelNoise = slowsandGravelNoiseGen.generateNoiseOctaves(context.gravelNoise, par1 * 16, 109, par2 * 16, 16, 1, 16, d0, 1.0D, d0);
+		 double[] netherrackExclusivityNoise = context.netherrackExclusivityNoise = netherrackExculsivityNoiseGen.generateNoiseOctaves(context.netherrackExclusivityNoise, par1 * 16, par2 * 16, 0, 16, 16, 1, d0 * 2.0D, d0 * 2.0D, d0 * 2.0D);
 
 		 for (int k = 0; k < 16; ++k)
 		 {
@@ -290,24 +344,16 @@ public class ChunkProviderBOPHell implements IChunkProvider
 	 @Override
 	 public Chunk provideChunk(int par1, int par2)
 	 {
-		 hellRNG.setSeed(par1 * 341873128712L + par2 * 132897987541L);
-		 byte[] abyte = new byte[32768];
-		 Block[] blocks = new Block[32768];
-		 this.generateNetherTerrain(par1, par2, blocks);
-		 biomesForGeneration = worldObj.getWorldChunkManager().loadBlockGeneratorData(biomesForGeneration, par1 * 16, par2 * 16, 16, 16);
-		 this.replaceBlocksForBiome(par1, par2, blocks, biomesForGeneration);
-		 netherCaveGenerator.func_151539_a(this, worldObj, par1, par2, blocks);
-		 genNetherBridge.func_151539_a(this, worldObj, par1, par2, blocks);
-		 Chunk chunk = new Chunk(worldObj, blocks, par1, par2);
-		 BiomeGenBase[] abiomegenbase = worldObj.getWorldChunkManager().loadBlockGeneratorData((BiomeGenBase[])null, par1 * 16, par2 * 16, 16, 16);
-		 byte[] abyte1 = chunk.getBiomeArray();
-
-		 for (int k = 0; k < abyte1.length; ++k)
-		 {
-			 abyte1[k] = (byte)abiomegenbase[k].biomeID;
-		 }
+		 long startNanos = System.nanoTime();
+		 long startAllocatedBytes = ChunkGenerationStats.getAllocatedBytes();
 
-		 chunk.resetRelightChecks();
+		 TerrainContext context = terrainContexts.get();
+		 context.biomes = worldObj.getWorldChunkManager().loadBlockGeneratorData(context.biomes, par1 * 16, par2 * 16, 16, 16);
+		 this.generateRawTerrain(par1, par2, context.biomes, context);
+
+		 //The biomes used for generation are the same as the chunk's, so there is no need to look them up again
+		 Chunk chunk = this.finishChunk(par1, par2, context.biomes, context);
+		 stats.recordProvide(startNanos, startAllocatedBytes);
 		 return chunk;
 	 }
 
@@ -315,7 +361,7 @@ public class ChunkProviderBOPHell implements IChunkProvider
 	  * generates a subset of the level's terrain data. Takes 7 arguments: the [empty] noise array, the position, and the
 	  * size.
 	  */
-	 private double[] initializeNoiseField(double[] par1ArrayOfDouble, int par2, int par3, int par4, int par5, int par6, int par7)
+	 private double[] initializeNoiseField(TerrainContext context, double[] par1ArrayOfDouble, int par2, int par3, int par4, int par5, int par6, int par7)
 	 {
 		 //ChunkProviderEvent.InitNoiseField event = new ChunkProviderEvent.InitNoiseField(this, par1ArrayOfDouble, par2, par3, par4, par5, par6, par7);
 		 //MinecraftForge.EVENT_BUS.post(event);
@@ -328,33 +374,16 @@ public class ChunkProviderBOPHell implements IChunkProvider
 
 		 double d0 = 684.412D;
 		 double d1 = 2053.236D;
-		 noiseData4 = netherNoiseGen6.generateNoiseOctaves(noiseData4, par2, par3, par4, par5, 1, par7, 1.0D, 0.0D, 1.0D);
-		 noiseData5 = netherNoiseGen7.generateNoiseOctaves(noiseData5, par2, par3, par4, par5, 1, par7, 100.0D, 0.0D, 100.0D);
-		 noiseData1 = netherNoiseGen3.generateNoiseOctaves(noiseData1, par2, par3, par4, par5, par6, par7, d0 / 80.0D, d1 / 60.0D, d0 / 80.0D);
-		 noiseData2 = netherNoiseGen1.generateNoiseOctaves(noiseData2, par2, par3, par4, par5, par6, par7, d0, d1, d0);
-		 noiseData3 = netherNoiseGen2.generateNoiseOctaves(noiseData3, par2, par3, par4, par5, par6, par7, d0, d1, d0);
+		 double[] noiseData4 = context.noiseData4 = netherNoiseGen6.generateNoiseOctaves(context.noiseData4, par2, par3, par4, par5, 1, par7, 1.0D, 0.0D, 1.0D);
+		 double[] noiseData5 = context.noiseData5 = netherNoiseGen7.generateNoiseOctaves(context.noiseData5, par2, par3, par4, par5, 1, par7, 100.0D, 0.0D, 100.0D);
+		 double[] noiseData1 = context.noiseData1 = netherNoiseGen3.generateNoiseOctaves(context.noiseData1, par2, par3, par4, par5, par6, par7, d0 / 80.0D, d1 / 60.0D, d0 / 80.0D);
+		 double[] noiseData2 = context.noiseData2 = netherNoiseGen1.generateNoiseOctaves(context.noiseData2, par2, par3, par4, par5, par6, par7, d0, d1, d0);
+		 double[] noiseData3 = context.noiseData3 = netherNoiseGen2.generateNoiseOctaves(context.noiseData3, par2, par3, par4, par5, par6, par7, d0, d1, d0);
 		 int k1 = 0;
 		 int l1 = 0;
-		 double[] adouble1 = new double[par6];
+		 double[] adouble1 = noiseHeightOffsets.length == par6 ? noiseHeightOffsets : createNoiseHeightOffsets(par6);
 		 int i2;
 
-		 for (i2 = 0; i2 < par6; ++i2)
-		 {
-			 adouble1[i2] = Math.cos(i2 * Math.PI * 6.0D / par6) * 2.0D;
-			 double d2 = i2;
-
-			 if (i2 > par6 / 2)
-			 {
-				 d2 = par6 - 1 - i2;
-			 }
-
-			 if (d2 < 4.0D)
-			 {
-				 d2 = 4.0D - d2;
-				 adouble1[i2] -= d2 * d2 * d2 * 10.0D;
-			 }
-		 }
-
 		 for (i2 = 0; i2 < par5; ++i2)
 		 {
 			 for (int j2 = 0; j2 < par7; ++j2)
@@ -459,6 +488,30 @@ public class ChunkProviderBOPHell implements IChunkProvider
 		 return par1ArrayOfDouble;
 	 }
 
+	 private static double[] createNoiseHeightOffsets(int height)
+	 {
+		 double[] offsets = new double[height];
+
+		 for (int i = 0; i < height; ++i)
+		 {
+			 offsets[i] = Math.cos(i * Math.PI * 6.0D / height) * 2.0D;
+			 double d2 = i;
+
+			 if (i > height / 2)
+			 {
+				 d2 = height - 1 - i;
+			 }
+
+			 if (d2 < 4.0D)
+			 {
+				 d2 = 4.0D - d2;
+				 offsets[i] -= d2 * d2 * d2 * 10.0D;
+			 }
+		 }
+
+		 return offsets;
+	 }
+
 	 /**
 	  * Checks to see if a chunk exists at x, y
 	  */
@@ -474,6 +527,9 @@ public class ChunkProviderBOPHell implements IChunkProvider
 	 @Override
 	 public void populate(IChunkProvider par1IChunkProvider, int par2, int par3)
 	 {
+		 long startNanos = System.nanoTime();
+		 long startAllocatedBytes = ChunkGenerationStats.getAllocatedBytes();
+
 		 BlockFalling.fallInstantly = true;
 
 		 MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Pre(par1IChunkProvider, worldObj, hellRNG, par2, par3, false));
@@ -498,7 +554,7 @@ public class ChunkProviderBOPHell implements IChunkProvider
 			 j1 = k + hellRNG.nextInt(16) + 8;
 			 k1 = hellRNG.nextInt(120) + 4;
 			 l1 = l + hellRNG.nextInt(16) + 8;
-			 (new WorldGenHellLava(Blocks.flowing_lava, false)).generate(worldObj, hellRNG, j1, k1, l1);
+			 lavaGen.generate(worldObj, hellRNG, j1, k1, l1);
 		 }
 
 		 i1 = hellRNG.nextInt(hellRNG.nextInt(10) + 1) + 1;
@@ -510,7 +566,7 @@ public class ChunkProviderBOPHell implements IChunkProvider
 			 k1 = k + hellRNG.nextInt(16) + 8;
 			 l1 = hellRNG.nextInt(120) + 4;
 			 i2 = l + hellRNG.nextInt(16) + 8;
-			 (new WorldGenFire()).generate(worldObj, hellRNG, k1, l1, i2);
+			 fireGen.generate(worldObj, hellRNG, k1, l1, i2);
 		 }
 
 		 i1 = hellRNG.nextInt(hellRNG.nextInt(10) + 1);
@@ -521,7 +577,7 @@ public class ChunkProviderBOPHell implements IChunkProvider
 			 k1 = k + hellRNG.nextInt(16) + 8;
 			 l1 = hellRNG.nextInt(120) + 4;
 			 i2 = l + hellRNG.nextInt(16) + 8;
-			 (new WorldGenGlowStone1()).generate(worldObj, hellRNG, k1, l1, i2);
+			 glowStoneGen1.generate(worldObj, hellRNG, k1, l1, i2);
 		 }
 
 		 for (j1 = 0; doGen && j1 < 10; ++j1)
@@ -529,7 +585,7 @@ public class ChunkProviderBOPHell implements IChunkProvider
 			 k1 = k + hellRNG.nextInt(16) + 8;
 			 l1 = hellRNG.nextInt(128);
 			 i2 = l + hellRNG.nextInt(16) + 8;
-			 (new WorldGenGlowStone2()).generate(worldObj, hellRNG, k1, l1, i2);
+			 glowStoneGen2.generate(worldObj, hellRNG, k1, l1, i2);
 		 }
 
 		 MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Pre(worldObj, hellRNG, k, l));
@@ -540,7 +596,7 @@ public class ChunkProviderBOPHell implements IChunkProvider
 			 j1 = k + hellRNG.nextInt(16) + 8;
 			 k1 = hellRNG.nextInt(128);
 			 l1 = l + hellRNG.nextInt(16) + 8;
-			 (new WorldGenFlowers(Blocks.brown_mushroom)).generate(worldObj, hellRNG, j1, k1, l1);
+			 brownMushroomGen.generate(worldObj, hellRNG, j1, k1, l1);
 		 }
 
 		 if (doGen && hellRNG.nextInt(1) == 0)
@@ -548,10 +604,9 @@ public class ChunkProviderBOPHell implements IChunkProvider
 			 j1 = k + hellRNG.nextInt(16) + 8;
 			 k1 = hellRNG.nextInt(128);
 			 l1 = l + hellRNG.nextInt(16) + 8;
-			 (new WorldGenFlowers(Blocks.red_mushroom)).generate(worldObj, hellRNG, j1, k1, l1);
+			 redMushroomGen.generate(worldObj, hellRNG, j1, k1, l1);
 		 }
 
-		 WorldGenMinable worldgenminable = new WorldGenMinable(Blocks.quartz_ore, 13, Blocks.netherrack);
 		 int j2;
 
 		 for (k1 = 0; k1 < 16; ++k1)
@@ -559,7 +614,7 @@ public class ChunkProviderBOPHell implements IChunkProvider
 			 l1 = k + hellRNG.nextInt(16);
 			 i2 = hellRNG.nextInt(108) + 10;
 			 j2 = l + hellRNG.nextInt(16);
-			 worldgenminable.generate(worldObj, hellRNG, l1, i2, j2);
+			 quartzGen.generate(worldObj, hellRNG, l1, i2, j2);
 		 }
 
 		 for (k1 = 0; k1 < 16; ++k1)
@@ -567,7 +622,7 @@ public class ChunkProviderBOPHell implements IChunkProvider
 			 l1 = k + hellRNG.nextInt(16);
 			 i2 = hellRNG.nextInt(108) + 10;
 			 j2 = l + hellRNG.nextInt(16);
-			 (new WorldGenHellLava(Blocks.flowing_lava, true)).generate(worldObj, hellRNG, l1, i2, j2);
+			 enclosedLavaGen.generate(worldObj, hellRNG, l1, i2, j2);
 		 }
 
 		 var6.decorate(worldObj, hellRNG, k, l);
@@ -576,6 +631,8 @@ public class ChunkProviderBOPHell implements IChunkProvider
 		 MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Post(par1IChunkProvider, worldObj, hellRNG, par2, par3, false));
 
 		 BlockFalling.fallInstantly = false;
+
+		 stats.recordPopulate(startNanos, startAllocatedBytes);
 	 }
 
 	 /**
@@ -660,4 +717,30 @@ public class ChunkProviderBOPHell implements IChunkProvider
 	public ChunkPosition func_147416_a(World par1World, String par2Str, int par3, int par4, int par5) {
 		return null;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The buffers and random used to generate the terrain of a chunk, so that terrain can be generated on
+	 * several threads at once by giving each its own context.
+	 */
+	public static class TerrainContext
+	{
+		public final Random rand = new Random();
+		public final Block[] blocks = new Block[32768];
+		public BiomeGenBase[] biomes;
+
+		double[] noiseField;
+		double[] noiseData1;
+		double[] noiseData2;
+		double[] noiseData3;
+		double[] noiseData4;
+		double[] noiseData5;
+		double[] slowsandNoise = new double[256];
+		double[] gravelNoise = new double[256];
+		double[] netherrackExclusivityNoise = new double[256];
+
+		public TerrainContext()
+		{
+			stats.recordBufferAllocation();
+		}
+	}
+}
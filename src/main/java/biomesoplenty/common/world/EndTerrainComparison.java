@@ -0,0 +1,103 @@
+package biomesoplenty.common.world;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import biomesoplenty.common.utils.BOPLogger;
+
+/**
+ * Compares the interpolated Spectral Garden terrain against the exact terrain for a fixed seed.
+ * Run with the arguments: seed, radius in chunks, tolerance (the largest acceptable fraction of differing terrain blocks).
+ */
+public class EndTerrainComparison
+{
+    public static void main(String[] args)
+    {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : 0L;
+        int radius = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        float tolerance = args.length > 2 ? Float.parseFloat(args[2]) : 0.02F;
+
+        //Registers the vanilla blocks so they aren't null
+        Bootstrap.func_151354_b();
+
+        Difference difference = getDifference(seed, radius);
+
+        BOPLogger.info("Interpolated Spectral Garden terrain differs from the exact terrain in {}% of its blocks (tolerance {}%), surfaces differ by up to {} blocks", difference.fraction * 100F, tolerance * 100F, difference.maxSurfaceDifference);
+
+        if (difference.fraction > tolerance) System.exit(1);
+    }
+
+    /**
+     * Compares the two modes over the chunks within radius of the origin. Only blocks that aren't air in at least
+     * one of them are counted, so the empty space above the terrain doesn't hide differences in it.
+     */
+    public static Difference getDifference(long seed, int radius)
+    {
+        ChunkProviderBOPEnd chunkProvider = new ChunkProviderBOPEnd(null, seed);
+        ChunkProviderBOPEnd.TerrainContext exactContext = new ChunkProviderBOPEnd.TerrainContext();
+        ChunkProviderBOPEnd.TerrainContext interpolatedContext = new ChunkProviderBOPEnd.TerrainContext();
+        Block[] exactBlocks = exactContext.blocks;
+        Block[] interpolatedBlocks = interpolatedContext.blocks;
+
+        long differingBlocks = 0L;
+        long terrainBlocks = 0L;
+        int maxSurfaceDifference = 0;
+
+        for (int cx = -radius; cx <= radius; cx++)
+        {
+            for (int cz = -radius; cz <= radius; cz++)
+            {
+                chunkProvider.generateTerrain(cx, cz, exactContext);
+                chunkProvider.generateInterpolatedTerrain(cx, cz, interpolatedContext);
+
+                for (int column = 0; column < 256; column++)
+                {
+                    int exactSurface = -1;
+                    int interpolatedSurface = -1;
+
+                    for (int y = 0; y <= 72; y++)
+                    {
+                        Block exactBlock = exactBlocks[column * 256 + y];
+                        Block interpolatedBlock = interpolatedBlocks[column * 256 + y];
+                        boolean exactTerrain = isTerrain(exactBlock);
+                        boolean interpolatedTerrain = isTerrain(interpolatedBlock);
+
+                        if (exactTerrain) exactSurface = y;
+                        if (interpolatedTerrain) interpolatedSurface = y;
+
+                        if (exactTerrain || interpolatedTerrain)
+                        {
+                            terrainBlocks++;
+
+                            if (exactBlock != interpolatedBlock) differingBlocks++;
+                        }
+                    }
+
+                    maxSurfaceDifference = Math.max(maxSurfaceDifference, Math.abs(exactSurface - interpolatedSurface));
+                }
+            }
+        }
+
+        return new Difference(terrainBlocks == 0L ? 0F : (float)differingBlocks / terrainBlocks, maxSurfaceDifference);
+    }
+
+    private static boolean isTerrain(Block block)
+    {
+        return block != null && block != Blocks.air;
+    }
+
+    public static class Difference
+    {
+        /** The fraction of blocks that aren't air in either mode which differ between them */
+        public final float fraction;
+
+        /** The largest difference in the height of the highest block in any one column */
+        public final int maxSurfaceDifference;
+
+        public Difference(float fraction, int maxSurfaceDifference)
+        {
+            this.fraction = fraction;
+            this.maxSurfaceDifference = maxSurfaceDifference;
+        }
+    }
+}
@@ -1,11 +1,20 @@
 package biomesoplenty.common.world;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.Random;
+import java.util.zip.CRC32;
+
+import com.google.common.io.Files;
 
 import cpw.mods.fml.common.ObfuscationReflectionHelper;
+import biomesoplenty.common.configuration.BOPConfiguration;
 import biomesoplenty.common.configuration.BOPConfigurationMisc;
+import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
 import biomesoplenty.common.world.layer.GenLayerBOP;
+import biomesoplenty.common.utils.BOPLogger;
+import biomesoplenty.common.world.layer.GenLayerPersistentCache;
 import net.minecraft.world.ChunkPosition;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldType;
@@ -28,19 +37,141 @@ import net.minecraft.world.gen.layer.GenLayerShore;
 import net.minecraft.world.gen.layer.GenLayerSmooth;
 import net.minecraft.world.gen.layer.GenLayerVoronoiZoom;
 import net.minecraft.world.gen.layer.GenLayerZoom;
+import net.minecraftforge.common.BiomeManager.BiomeEntry;
 
 public class WorldChunkManagerBOP extends WorldChunkManager
 {
+	private GenLayerPersistentCache[] persistentCaches;
+	
 	public WorldChunkManagerBOP(World world)
 	{
 		super();
 		
         GenLayer[] agenlayer = GenLayerBOP.initializeAllBiomeGenerators(world.getSeed(), world.getWorldInfo().getTerrainType());
         agenlayer = getModdedBiomeGenerators(world.getWorldInfo().getTerrainType(), world.getSeed(), agenlayer);
+        
+        File cacheDirectory = getCacheDirectory(world);
+        
+        if (cacheDirectory != null)
+        {
+        	int configHash = getConfigHash(world);
+        	
+        	persistentCaches = new GenLayerPersistentCache[] 
+        	{
+        		new GenLayerPersistentCache(agenlayer[0], cacheDirectory, "biomes", world.getSeed(), configHash),
+        		new GenLayerPersistentCache(agenlayer[1], cacheDirectory, "biomeindex", world.getSeed(), configHash)
+        	};
+        	
+        	agenlayer = new GenLayer[] { persistentCaches[0], persistentCaches[1] };
+        }
+        
         ObfuscationReflectionHelper.setPrivateValue(WorldChunkManager.class, this, agenlayer[0], "genBiomes", "field_76944_d");
         ObfuscationReflectionHelper.setPrivateValue(WorldChunkManager.class, this, agenlayer[1], "biomeIndexLayer", "field_76945_e");
 	}
 	
+	/**
+	 * Gets the folder the biome maps of the given world are stored in, or null if they shouldn't be stored,
+	 * which includes worlds on the client as they have no save folder.
+	 */
+	private static File getCacheDirectory(World world)
+	{
+		if (!BOPConfigurationTerrainGen.persistentBiomeCache) return null;
+		
+		File worldDirectory = world.getSaveHandler().getWorldDirectory();
+		
+		if (worldDirectory == null) return null;
+		
+		String saveFolder = world.provider.getSaveFolder();
+		
+		if (saveFolder != null) worldDirectory = new File(worldDirectory, saveFolder);
+		
+		return new File(worldDirectory, "bopbiomecache");
+	}
+	
+	/**
+	 * Hashes everything that decides which biome goes where, so that stored biome maps are thrown away when any of it changes.
+	 */
+	private static int getConfigHash(World world)
+	{
+		CRC32 crc = new CRC32();
+		
+		for (File configFile : new File[] { BOPConfiguration.biomeGenConfigFile, BOPConfiguration.biomeWeightsConfigFile, BOPConfiguration.terrainGenConfigFile, BOPConfiguration.idConfigFile })
+		{
+			try
+			{
+				if (configFile != null && configFile.exists()) crc.update(Files.toByteArray(configFile));
+			}
+			catch (IOException e)
+			{
+				BOPLogger.warning("Unable to read {} for the biome cache: {}", configFile, e);
+			}
+		}
+		
+		StringBuilder biomeSettings = new StringBuilder();
+		
+		biomeSettings.append(world.getWorldInfo().getTerrainType().getWorldTypeName()).append(';');
+		biomeSettings.append(world.getWorldInfo().getGeneratorOptions()).append(';');
+		
+		for (List<BiomeEntry> biomeList : BOPBiomeManager.overworldBiomes)
+		{
+			appendBiomeEntries(biomeSettings, biomeList);
+		}
+		
+		for (List<BiomeEntry> biomeList : BOPBiomeManager.overworldSubBiomes)
+		{
+			appendBiomeEntries(biomeSettings, biomeList);
+		}
+		
+		for (int i = 0; i < BOPBiomeManager.overworldRiverBiomes.length; i++)
+		{
+			if (BOPBiomeManager.overworldRiverBiomes[i] != null) biomeSettings.append(i).append('>').append(BOPBiomeManager.overworldRiverBiomes[i].biomeID).append(',');
+		}
+		
+		biomeSettings.append(BOPBiomeManager.overworldOceanBiomes);
+		
+		crc.update(biomeSettings.toString().getBytes());
+		
+		return (int)crc.getValue();
+	}
+	
+	private static void appendBiomeEntries(StringBuilder builder, List<BiomeEntry> biomeList)
+	{
+		if (biomeList != null)
+		{
+			for (BiomeEntry entry : biomeList)
+			{
+				builder.append(entry.biome.biomeID).append(':').append(entry.itemWeight).append(',');
+			}
+		}
+		
+		builder.append(';');
+	}
+	
+	/**
+	 * Writes any biome maps generated since the last save to disk.
+	 */
+	public void flushPersistentCache()
+	{
+		if (persistentCaches != null)
+		{
+			for (GenLayerPersistentCache cache : persistentCaches)
+			{
+				cache.flush();
+			}
+		}
+	}
+	
+	public void closePersistentCache()
+	{
+		if (persistentCaches != null)
+		{
+			for (GenLayerPersistentCache cache : persistentCaches)
+			{
+				cache.close();
+			}
+		}
+	}
+	
     @Override
 	public ChunkPosition findBiomePosition(int x, int z, int radius, List biomesToSpawnIn, Random random)
     {
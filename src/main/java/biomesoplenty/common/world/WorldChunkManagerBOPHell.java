@@ -182,8 +182,7 @@ public class WorldChunkManagerBOPHell extends WorldChunkManager
 
 		if (par6 && par4 == 16 && par5 == 16 && (par2 & 15) == 0 && (par3 & 15) == 0)
 		{
-			BiomeGenBase[] var9 = biomeCache.getCachedBiomes(par2, par3);
-			System.arraycopy(var9, 0, par1ArrayOfBiomeGenBase, 0, par4 * par5);
+			biomeCache.getCachedBiomes(par1ArrayOfBiomeGenBase, par2, par3);
 			return par1ArrayOfBiomeGenBase;
 		}
 		else
@@ -199,6 +198,15 @@ public class WorldChunkManagerBOPHell extends WorldChunkManager
 		}
 	}
 
+	/**
+	 * Returns the biome ids for the specified blocks, without checking the biomeCache. Args: x, z, width, length
+	 */
+	public int[] getBiomeIndices(int par1, int par2, int par3, int par4)
+	{
+		IntCache.resetIntCache();
+		return biomeIndexLayer.getInts(par1, par2, par3, par4);
+	}
+
 	/**
 	 * checks given Chunk's Biomes against List of allowed ones
 	 */
@@ -1,18 +1,17 @@
 package biomesoplenty.common.world.features;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.BlockSet;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPBigMushroom extends WorldGeneratorBOP
 {
-    private List soilBlocks;
+    private BlockSet soilBlocks;
 	
     /** The mushroom type. 0 for brown, 1 for red. */
     private int mushroomType = -1;
@@ -21,7 +20,7 @@ public class WorldGenBOPBigMushroom extends WorldGeneratorBOP
     {
         super(false);
         
-        this.soilBlocks = Arrays.asList(soilBlocks);
+        this.soilBlocks = new BlockSet(soilBlocks);
     }
 
     @Override
@@ -215,9 +214,9 @@ public class WorldGenBOPBigMushroom extends WorldGeneratorBOP
     }
 
 	@Override
-	public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z) 
+	public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z) 
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
@@ -4,9 +4,9 @@ import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.PlacementCheck;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPCoral extends WorldGeneratorBOP
@@ -16,6 +16,8 @@ public class WorldGenBOPCoral extends WorldGeneratorBOP
     private boolean randomMeta;
     private int groupCount = 64;
 
+    private final PlacementCheck placementCheck = new PlacementCheck();
+
     public WorldGenBOPCoral() {}
     
     public WorldGenBOPCoral(Block flora, int floraMeta)
@@ -45,7 +47,7 @@ public class WorldGenBOPCoral extends WorldGeneratorBOP
             if (randomMeta) floraMeta = 12 + random.nextInt(4);
             
             if (world.getBlock(i1, j1, k1) == Blocks.water && world.getBlock(i1, j1 + 1, k1) == Blocks.water && (!world.provider.hasNoSky || j1 < 255) && 
-            this.flora.canReplace(world, i1, j1, k1, 0, new ItemStack(flora, 1, floraMeta)))
+            this.placementCheck.canPlace(world, flora, floraMeta, i1, j1, k1))
             {
                 world.setBlock(i1, j1, k1, this.flora, this.floraMeta, 2);
             }
@@ -55,9 +57,9 @@ public class WorldGenBOPCoral extends WorldGeneratorBOP
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
@@ -4,7 +4,6 @@ import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 
@@ -70,7 +69,7 @@ public class WorldGenBOPDoubleFlora extends WorldGenBOPFlora
                 }
                 else
                 {
-                    if (bottomFlora != null && this.bottomFlora.canReplace(world, i1, j1, k1, 0, new ItemStack(bottomFlora, 1, bottomFloraMeta)))
+                    if (bottomFlora != null && this.placementCheck.canPlace(world, bottomFlora, bottomFloraMeta, i1, j1, k1))
                     {
                         world.setBlock(i1, j1, k1, this.bottomFlora, this.bottomFloraMeta, 2);
                         world.setBlock(i1, j1 + 1, k1, this.topFlora, this.topFloraMeta, 2);
@@ -83,9 +82,9 @@ public class WorldGenBOPDoubleFlora extends WorldGenBOPFlora
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
@@ -4,10 +4,11 @@ import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationGuard;
+import biomesoplenty.common.world.generation.PlacementCheck;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPFlora extends WorldGeneratorBOP
@@ -16,6 +17,8 @@ public class WorldGenBOPFlora extends WorldGeneratorBOP
     public int floraMeta;
     private int groupCount = 64;
 
+    protected final PlacementCheck placementCheck = new PlacementCheck();
+
     public WorldGenBOPFlora() {}
     
     public WorldGenBOPFlora(Block flora, int floraMeta)
@@ -40,9 +43,10 @@ public class WorldGenBOPFlora extends WorldGeneratorBOP
             int j1 = y + random.nextInt(4) - random.nextInt(4);
             int k1 = z + random.nextInt(8) - random.nextInt(8);
 
+            if (!DecorationGuard.canReach(world, i1, k1)) continue;
+
             if (world.isAirBlock(i1, j1, k1) && (!world.provider.hasNoSky || j1 < 255) && 
-            (flora == Blocks.web ? world.getBlock(i1, j1 + 1, k1) == BOPCBlocks.leaves2 || world.getBlock(i1, j1 + 1, k1) == BOPCBlocks.colorizedLeaves2 || world.getBlock(i1, j1 - 1, k1) == Blocks.grass : 
-            this.flora.canReplace(world, i1, j1, k1, 0, new ItemStack(flora, 1, floraMeta))))
+            (flora == Blocks.web ? this.canPlaceWeb(world, i1, j1, k1) : this.placementCheck.canPlace(world, flora, floraMeta, i1, j1, k1)))
             {
                 world.setBlock(i1, j1, k1, this.flora, this.floraMeta, 2);
             }
@@ -50,11 +54,18 @@ public class WorldGenBOPFlora extends WorldGeneratorBOP
 
         return true;
     }
+
+    private boolean canPlaceWeb(World world, int x, int y, int z)
+    {
+        Block blockAbove = world.getBlock(x, y + 1, z);
+
+        return blockAbove == BOPCBlocks.leaves2 || blockAbove == BOPCBlocks.colorizedLeaves2 || world.getBlock(x, y - 1, z) == Blocks.grass;
+    }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
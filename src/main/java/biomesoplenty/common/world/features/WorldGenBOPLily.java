@@ -4,10 +4,10 @@ import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.PlacementCheck;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPLily extends WorldGeneratorBOP
@@ -16,6 +16,8 @@ public class WorldGenBOPLily extends WorldGeneratorBOP
     public int floraMeta;
     private int groupCount = 64;
 
+    private final PlacementCheck placementCheck = new PlacementCheck();
+
     public WorldGenBOPLily() {}
     
     public WorldGenBOPLily(Block flora, int floraMeta)
@@ -42,7 +44,7 @@ public class WorldGenBOPLily extends WorldGeneratorBOP
 
             if (world.isAirBlock(i1, j1, k1) && (!world.provider.hasNoSky || j1 < 255) && 
             (flora == Blocks.web ? world.getBlock(i1, j1 + 1, k1) == BOPCBlocks.leaves2 || world.getBlock(i1, j1 + 1, k1) == BOPCBlocks.colorizedLeaves2 || world.getBlock(i1, j1 - 1, k1) == Blocks.grass : 
-            this.flora.canReplace(world, i1, j1, k1, 0, new ItemStack(flora, 1, floraMeta))))
+            this.placementCheck.canPlace(world, flora, floraMeta, i1, j1, k1)))
             {
                 world.setBlock(i1, j1, k1, this.flora, random.nextInt(3), 2);
             }
@@ -52,9 +54,9 @@ public class WorldGenBOPLily extends WorldGeneratorBOP
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
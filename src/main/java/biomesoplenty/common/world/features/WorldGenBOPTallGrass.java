@@ -4,9 +4,9 @@ import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.PlacementCheck;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPTallGrass extends WorldGeneratorBOP
@@ -14,6 +14,8 @@ public class WorldGenBOPTallGrass extends WorldGeneratorBOP
     private Block tallGrass;
     private int tallGrassMetadata;
 
+    private final PlacementCheck placementCheck = new PlacementCheck();
+
     public WorldGenBOPTallGrass(Block tallGrass, int tallGrassMetadata)
     {
         this.tallGrass = tallGrass;
@@ -41,7 +43,7 @@ public class WorldGenBOPTallGrass extends WorldGeneratorBOP
         	int j1 = y + random.nextInt(4) - random.nextInt(4);
         	int k1 = z + random.nextInt(8) - random.nextInt(8);
 
-        	if (world.isAirBlock(i1, j1, k1) && (this.tallGrass.canReplace(world, i1, j1, k1, 0, new ItemStack(this.tallGrass, 1, this.tallGrassMetadata))))
+        	if (world.isAirBlock(i1, j1, k1) && (this.placementCheck.canPlace(world, this.tallGrass, this.tallGrassMetadata, i1, j1, k1)))
         	{
         		world.setBlock(i1, j1, k1, this.tallGrass, this.tallGrassMetadata, 2);
         	}
@@ -51,9 +53,9 @@ public class WorldGenBOPTallGrass extends WorldGeneratorBOP
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
@@ -3,9 +3,9 @@ package biomesoplenty.common.world.features;
 import java.util.Random;
 
 import net.minecraft.block.Block;
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.PlacementCheck;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPUndergroundDecoration extends WorldGeneratorBOP
@@ -13,6 +13,8 @@ public class WorldGenBOPUndergroundDecoration extends WorldGeneratorBOP
     private Block tallGrass;
     private int tallGrassMetadata;
 
+    private final PlacementCheck placementCheck = new PlacementCheck();
+
     public WorldGenBOPUndergroundDecoration(Block p_i45466_1_, int p_i45466_2_)
     {
         this.tallGrass = p_i45466_1_;
@@ -40,7 +42,7 @@ public class WorldGenBOPUndergroundDecoration extends WorldGeneratorBOP
             int j1 = y + random.nextInt(4) - random.nextInt(4);
             int k1 = z + random.nextInt(8) - random.nextInt(8);
 
-            if (world.isAirBlock(i1, j1, k1) && this.tallGrass.canReplace(world, i1, j1, k1, 0, new ItemStack(this.tallGrass, 1, this.tallGrassMetadata)))
+            if (world.isAirBlock(i1, j1, k1) && this.placementCheck.canPlace(world, this.tallGrass, this.tallGrassMetadata, i1, j1, k1))
             {
                 world.setBlock(i1, j1, k1, this.tallGrass, this.tallGrassMetadata, 2);
             }
@@ -50,9 +52,9 @@ public class WorldGenBOPUndergroundDecoration extends WorldGeneratorBOP
     }
     
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
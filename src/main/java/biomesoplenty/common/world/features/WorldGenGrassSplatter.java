@@ -61,9 +61,9 @@ public class WorldGenGrassSplatter extends WorldGeneratorBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-        for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+        for (int i = 0; i < amountPerChunk; i++)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
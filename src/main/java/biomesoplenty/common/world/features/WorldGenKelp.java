@@ -13,13 +13,20 @@ public class WorldGenKelp extends WorldGeneratorBOP
 {
     private final int minHeight;
     private final int randomHeight;
+    private final int spread;
 	
-    public WorldGenKelp(int minHeight, int randomHeight)
+    public WorldGenKelp(int minHeight, int randomHeight, int spread)
     {
         super(true);
 
         this.minHeight = minHeight;
         this.randomHeight = randomHeight;
+        this.spread = spread;
+    }
+
+    public WorldGenKelp(int minHeight, int randomHeight)
+    {
+        this(minHeight, randomHeight, 16);
     }
     
 	@Override
@@ -61,40 +68,15 @@ public class WorldGenKelp extends WorldGeneratorBOP
 	}
 	
 	@Override
-	public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+	public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		if (featureName == "kelpPerChunk")
+		for (int i = 0; i < amountPerChunk; i++)
 		{
-			for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
-			{
-				int randX = x + random.nextInt(16);
-				int randZ = z + random.nextInt(16);
-				int randY = random.nextInt(64);
+			int randX = x + random.nextInt(spread);
+			int randZ = z + random.nextInt(spread);
+			int randY = random.nextInt(64);
 
-				this.generate(world, random, randX, randY, randZ);
-			}
-		}
-		else if (featureName == "kelpThickPerChunk")
-		{
-			for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
-			{
-				int randX = x + random.nextInt(8);
-				int randZ = z + random.nextInt(8);
-				int randY = random.nextInt(64);
-
-				this.generate(world, random, randX, randY, randZ);
-			}
-		}
-		else if (featureName == "shortKelpPerChunk")
-		{
-			for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
-			{
-				int randX = x + random.nextInt(16);
-				int randZ = z + random.nextInt(16);
-				int randY = random.nextInt(64);
-
-				this.generate(world, random, randX, randY, randZ);
-			}
+			this.generate(world, random, randX, randY, randZ);
 		}
 	}
 }
@@ -11,6 +11,11 @@ import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenLavaSpout extends WorldGeneratorBOP
 {
+    public WorldGenLavaSpout()
+    {
+        super(true);
+    }
+
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
     {
@@ -38,21 +43,21 @@ public class WorldGenLavaSpout extends WorldGeneratorBOP
                 }
             }
 
-            world.setBlock(x, y - 1, z, Blocks.flowing_lava);
-            world.setBlock(x, y, z, Blocks.flowing_lava);
-            world.setBlock(x, y + 1, z, Blocks.flowing_lava);
-            world.setBlock(x - 1, y + 1, z, Blocks.flowing_lava);
-            world.setBlock(x + 1, y + 1, z, Blocks.flowing_lava);
-            world.setBlock(x, y + 1, z - 1, Blocks.flowing_lava);
-            world.setBlock(x, y + 1, z + 1, Blocks.flowing_lava);
+            this.setBlockAndNotifyAdequately(world, x, y - 1, z, Blocks.flowing_lava, 0);
+            this.setBlockAndNotifyAdequately(world, x, y, z, Blocks.flowing_lava, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 1, z, Blocks.flowing_lava, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 1, z, Blocks.flowing_lava, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 1, z, Blocks.flowing_lava, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 1, z - 1, Blocks.flowing_lava, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 1, z + 1, Blocks.flowing_lava, 0);
             return true;
         }
     }
     
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-        for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+        for (int i = 0; i < amountPerChunk; i++)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
@@ -6,6 +6,7 @@ import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenMarsh extends WorldGenerator
 {
@@ -22,92 +23,92 @@ public class WorldGenMarsh extends WorldGenerator
             {
                 for (int var8 = 2; var8 <= 5; ++var8)
                 {
-                    world.setBlock(x, y, z, Blocks.grass);
-                    world.setBlock(x - 1, y, z, Blocks.grass);
-                    world.setBlock(x + 1, y, z, Blocks.grass);
-                    world.setBlock(x, y, z - 1, Blocks.grass);
-                    world.setBlock(x, y, z + 1, Blocks.grass);
-                    world.setBlock(x, y - 1, z, Blocks.dirt);
-                    world.setBlock(x, y - 2, z, Blocks.dirt);
-                    world.setBlock(x, y - 3, z, Blocks.dirt);
-                    world.setBlock(x, y - 4, z, Blocks.dirt);
-                    world.setBlock(x, y - 5, z, Blocks.dirt);
-                    world.setBlock(x, y - 6, z, Blocks.dirt);
-                    world.setBlock(x, y - 7, z, Blocks.dirt);
-                    world.setBlock(x, y - 8, z, Blocks.dirt);
-                    world.setBlock(x, y - 9, z, Blocks.dirt);
-                    world.setBlock(x, y - 10, z, Blocks.dirt);
-                    world.setBlock(x, y - 11, z, Blocks.dirt);
-                    world.setBlock(x, y - 12, z, Blocks.dirt);
-                    world.setBlock(x, y - 13, z, Blocks.dirt);
-                    world.setBlock(x, y - 14, z, Blocks.dirt);
-                    world.setBlock(x, y - 15, z, Blocks.dirt);
-                    world.setBlock(x, y - 16, z, Blocks.dirt);
-                    world.setBlock(x, y - 17, z, Blocks.dirt);
-                    world.setBlock(x - 1, y - 1, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 1, z, Blocks.dirt);
-                    world.setBlock(x, y - 1, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 1, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 2, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 2, z, Blocks.dirt);
-                    world.setBlock(x, y - 2, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 2, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 3, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 3, z, Blocks.dirt);
-                    world.setBlock(x, y - 3, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 3, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 4, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 4, z, Blocks.dirt);
-                    world.setBlock(x, y - 4, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 4, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 5, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 5, z, Blocks.dirt);
-                    world.setBlock(x, y - 5, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 5, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 6, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 6, z, Blocks.dirt);
-                    world.setBlock(x, y - 6, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 6, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 7, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 7, z, Blocks.dirt);
-                    world.setBlock(x, y - 7, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 7, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 8, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 8, z, Blocks.dirt);
-                    world.setBlock(x, y - 8, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 8, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 9, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 9, z, Blocks.dirt);
-                    world.setBlock(x, y - 9, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 9, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 10, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 10, z, Blocks.dirt);
-                    world.setBlock(x, y - 10, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 10, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 11, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 11, z, Blocks.dirt);
-                    world.setBlock(x, y - 11, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 11, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 12, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 12, z, Blocks.dirt);
-                    world.setBlock(x, y - 12, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 12, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 13, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 13, z, Blocks.dirt);
-                    world.setBlock(x, y - 13, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 13, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 14, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 14, z, Blocks.dirt);
-                    world.setBlock(x, y - 14, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 14, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 15, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 15, z, Blocks.dirt);
-                    world.setBlock(x, y - 15, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 15, z + 1, Blocks.dirt);
-                    world.setBlock(x - 1, y - 16, z, Blocks.dirt);
-                    world.setBlock(x + 1, y - 16, z, Blocks.dirt);
-                    world.setBlock(x, y - 16, z - 1, Blocks.dirt);
-                    world.setBlock(x, y - 16, z + 1, Blocks.dirt);
+                    DecorationGuard.setBlock(world, x, y, z, Blocks.grass, 0);
+                    DecorationGuard.setBlock(world, x - 1, y, z, Blocks.grass, 0);
+                    DecorationGuard.setBlock(world, x + 1, y, z, Blocks.grass, 0);
+                    DecorationGuard.setBlock(world, x, y, z - 1, Blocks.grass, 0);
+                    DecorationGuard.setBlock(world, x, y, z + 1, Blocks.grass, 0);
+                    DecorationGuard.setBlock(world, x, y - 1, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 2, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 3, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 4, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 5, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 6, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 7, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 8, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 9, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 10, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 11, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 12, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 13, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 14, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 15, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 16, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 17, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 1, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 1, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 1, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 1, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 2, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 2, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 2, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 2, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 3, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 3, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 3, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 3, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 4, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 4, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 4, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 4, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 5, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 5, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 5, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 5, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 6, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 6, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 6, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 6, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 7, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 7, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 7, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 7, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 8, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 8, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 8, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 8, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 9, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 9, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 9, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 9, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 10, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 10, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 10, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 10, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 11, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 11, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 11, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 11, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 12, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 12, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 12, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 12, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 13, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 13, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 13, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 13, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 14, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 14, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 14, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 14, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 15, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 15, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 15, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 15, z + 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x - 1, y - 16, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x + 1, y - 16, z, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 16, z - 1, Blocks.dirt, 0);
+                    DecorationGuard.setBlock(world, x, y - 16, z + 1, Blocks.dirt, 0);
 
                     if (random.nextInt(3) == 0)
                     {
@@ -2,14 +2,16 @@ package biomesoplenty.common.world.features;
 
 import java.util.Random;
 
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.PlacementCheck;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenRiverCane extends WorldGeneratorBOP
 {
+	private final PlacementCheck placementCheck = new PlacementCheck();
+
 	@Override
 	public boolean generate(World world, Random par2Random, int x, int y, int z)
 	{
@@ -25,7 +27,7 @@ public class WorldGenRiverCane extends WorldGeneratorBOP
 
 				for (int i2 = 0; i2 < l1; ++i2)
 				{
-					if (BOPCBlocks.plants.canReplace(world, i1, j1, k1, 0, new ItemStack(BOPCBlocks.plants, 1, 8)))
+					if (this.placementCheck.canPlace(world, BOPCBlocks.plants, 8, i1, j1, k1))
 					{
 						world.setBlock(i1, j1 + i2, k1, BOPCBlocks.plants, 8, 2);
 					}
@@ -37,9 +39,9 @@ public class WorldGenRiverCane extends WorldGeneratorBOP
 	}
 	
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
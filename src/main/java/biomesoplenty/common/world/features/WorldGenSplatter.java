@@ -1,12 +1,11 @@
 package biomesoplenty.common.world.features;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.BlockSet;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenSplatter extends WorldGeneratorBOP
@@ -14,13 +13,13 @@ public class WorldGenSplatter extends WorldGeneratorBOP
 	private Block splatterBlock;
 	private int splatterBlockMeta;
 	
-	private List<Block> blocksToSplatter;
+	private BlockSet blocksToSplatter;
 	
 	public WorldGenSplatter(Block splatterBlock, int splatterBlockMeta, Block... blocksToSplatter)
 	{
 		this.splatterBlock = splatterBlock;
 		this.splatterBlockMeta = splatterBlockMeta;
-		this.blocksToSplatter = Arrays.asList(blocksToSplatter);
+		this.blocksToSplatter = new BlockSet(blocksToSplatter);
 	}
 	
 	public WorldGenSplatter(Block splatterBlock, Block... blocksToSplatter)
@@ -59,9 +58,9 @@ public class WorldGenSplatter extends WorldGeneratorBOP
 	}
 	
 	@Override
-	public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z) 
+	public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z) 
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randY = random.nextInt(256);
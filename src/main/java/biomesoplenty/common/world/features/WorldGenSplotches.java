@@ -1,14 +1,13 @@
 package biomesoplenty.common.world.features;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
-import net.minecraft.init.Blocks;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.world.generation.BlockSet;
+import biomesoplenty.common.world.generation.DecorationGuard;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenSplotches extends WorldGeneratorBOP
@@ -18,9 +17,13 @@ public class WorldGenSplotches extends WorldGeneratorBOP
 
     private int numberOfBlocks;
 
-    private List blockList;
+    private int splotchesPerChunk;
+    private int minHeight;
+    private int randomHeight;
 
-    public WorldGenSplotches(Block quicksandBlock, int quicksandBlockMeta, int numberOfBlocks, Block... blockList)
+    private BlockSet blockList;
+
+    public WorldGenSplotches(Block quicksandBlock, int quicksandBlockMeta, int numberOfBlocks, int splotchesPerChunk, int minHeight, int randomHeight, Block... blockList)
     {
         super(true);
 
@@ -28,7 +31,11 @@ public class WorldGenSplotches extends WorldGeneratorBOP
         this.splotchBlockMeta = quicksandBlockMeta;
         this.numberOfBlocks = numberOfBlocks;
 
-        this.blockList = Arrays.asList(blockList);
+        this.splotchesPerChunk = splotchesPerChunk;
+        this.minHeight = minHeight;
+        this.randomHeight = randomHeight;
+
+        this.blockList = new BlockSet(blockList);
     }
 
     @Override
@@ -71,9 +78,11 @@ public class WorldGenSplotches extends WorldGeneratorBOP
                         {
                             for (int var44 = var34; var44 <= var37; ++var44)
                             {
+                                if (!DecorationGuard.canReach(world, var38, var44)) continue;
+
                                 double var45 = (var44 + 0.5D - var24) / (var28 / 2.0D);
 
-                                if (var39 * var39 + var42 * var42 + var45 * var45 < 1.0D && world.getBlock(var38, var41, var44) != Blocks.air && (blockList.contains(world.getBlock(var38, var41, var44))))
+                                if (var39 * var39 + var42 * var42 + var45 * var45 < 1.0D && blockList.contains(world.getBlock(var38, var41, var44)))
                                 {
                                     this.setBlockAndNotifyAdequately(world, var38, var41, var44, splotchBlock, splotchBlockMeta);
                                 }
@@ -88,113 +97,14 @@ public class WorldGenSplotches extends WorldGeneratorBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-        if (featureName.equals("generateQuicksand") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateQuicksand"))
-        {
-            for (int i = 0; i < 5; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(64) + 64;
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateCanyon") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateCanyon"))
-        {
-            for (int i = 0; i < 15; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(64) + 64;
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateStoneInGrass") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateStoneInGrass"))
-        {
-            for (int i = 0; i < 15; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(64) + 64;
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateStoneInGrass2") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateStoneInGrass2"))
-        {
-            for (int i = 0; i < 20; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(64) + 64;
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateGrass") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateGrass"))
-        {
-            for (int i = 0; i < 15; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(128);
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateSand") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateSand"))
-        {
-            for (int i = 0; i < 15; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(128);
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateQuagmire") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateQuagmire"))
-        {
-            for (int i = 0; i < 15; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(64) + 64;
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateAsh") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateAsh"))
-        {
-            for (int i = 0; i < 10; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(128);
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateMycelium") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateMycelium"))
-        {
-            for (int i = 0; i < 10; ++i)
-            {
-                int randX = x + random.nextInt(16);
-                int randY = random.nextInt(128);
-                int randZ = z + random.nextInt(16);
-
-                this.generate(world, random, randX, randY, randZ);
-            }
-        }
-        else if (featureName.equals("generateSponge") && (Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateSponge"))
+        if (amountPerChunk > 0)
         {
-            for (int i = 0; i < 5; ++i)
+            for (int i = 0; i < splotchesPerChunk; ++i)
             {
                 int randX = x + random.nextInt(16);
-                int randY = random.nextInt(64);
+                int randY = random.nextInt(randomHeight) + minHeight;
                 int randZ = z + random.nextInt(16);
 
                 this.generate(world, random, randX, randY, randZ);
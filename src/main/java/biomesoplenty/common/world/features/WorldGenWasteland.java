@@ -10,6 +10,11 @@ import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenWasteland extends WorldGeneratorBOP
 {
+    public WorldGenWasteland()
+    {
+        super(true);
+    }
+
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
     {
@@ -37,103 +42,103 @@ public class WorldGenWasteland extends WorldGeneratorBOP
                 }
             }
 
-            world.setBlock(x, y, z, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 1, y, z, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x, y, z + 1, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 1, y, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y, z - 1, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 2, y, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 2, y, z, BOPCBlocks.driedDirt);
-            world.setBlock(x - 2, y, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 2, y, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 2, y, z, BOPCBlocks.driedDirt);
-            world.setBlock(x + 2, y, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y, z - 2, BOPCBlocks.driedDirt);
-            world.setBlock(x, y, z - 2, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y, z - 2, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y, z + 2, BOPCBlocks.driedDirt);
-            world.setBlock(x, y, z + 2, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y, z + 2, BOPCBlocks.driedDirt);
-
-            world.setBlock(x, y + 1, z, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 1, y + 1, z, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 1, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 1, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 1, z + 1, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 1, y + 1, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 1, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y + 1, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 1, z - 1, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 2, y + 1, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 2, y + 1, z, BOPCBlocks.driedDirt);
-            world.setBlock(x - 2, y + 1, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 2, y + 1, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 2, y + 1, z, BOPCBlocks.driedDirt);
-            world.setBlock(x + 2, y + 1, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y + 1, z - 2, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 1, z - 2, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 1, z - 2, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y + 1, z + 2, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 1, z + 2, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 1, z + 2, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 1, y + 2, z, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 2, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 2, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 2, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y + 2, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 2, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y + 2, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 2, z - 1, BOPCBlocks.driedDirt);
-
-            world.setBlock(x, y + 2, z, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 1, y + 3, z, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 3, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 3, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 3, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y + 3, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 3, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x - 1, y + 3, z + 1, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 3, z - 1, BOPCBlocks.driedDirt);
-
-            world.setBlock(x, y + 3, z, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 1, y + 4, z, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 4, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 4, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 4, z + 1, BOPCBlocks.driedDirt);
-
-            world.setBlock(x, y + 4, z, BOPCBlocks.driedDirt);
-
-            world.setBlock(x - 1, y + 5, z, BOPCBlocks.driedDirt);
-            world.setBlock(x + 1, y + 5, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 5, z - 1, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 5, z + 1, BOPCBlocks.driedDirt);
-
-            world.setBlock(x, y + 5, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 6, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 7, z, BOPCBlocks.driedDirt);
-            world.setBlock(x, y + 8, z, BOPCBlocks.driedDirt);
+            this.setBlockAndNotifyAdequately(world, x, y, z, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 1, y, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y, z + 1, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 1, y, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y, z - 1, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 2, y, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 2, y, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 2, y, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 2, y, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 2, y, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 2, y, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y, z - 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y, z - 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y, z - 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y, z + 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y, z + 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y, z + 2, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x, y + 1, z, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 1, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 1, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 1, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 1, z + 1, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 1, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 1, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 1, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 1, z - 1, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 2, y + 1, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 2, y + 1, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 2, y + 1, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 2, y + 1, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 2, y + 1, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 2, y + 1, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 1, z - 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 1, z - 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 1, z - 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 1, z + 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 1, z + 2, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 1, z + 2, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 2, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 2, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 2, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 2, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 2, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 2, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 2, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 2, z - 1, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x, y + 2, z, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 3, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 3, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 3, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 3, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 3, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 3, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 3, z + 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 3, z - 1, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x, y + 3, z, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 4, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 4, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 4, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 4, z + 1, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x, y + 4, z, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x - 1, y + 5, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x + 1, y + 5, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 5, z - 1, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 5, z + 1, BOPCBlocks.driedDirt, 0);
+
+            this.setBlockAndNotifyAdequately(world, x, y + 5, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 6, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 7, z, BOPCBlocks.driedDirt, 0);
+            this.setBlockAndNotifyAdequately(world, x, y + 8, z, BOPCBlocks.driedDirt, 0);
 
             return true;
         }
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-        for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+        for (int i = 0; i < amountPerChunk; i++)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
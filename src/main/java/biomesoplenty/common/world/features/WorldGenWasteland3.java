@@ -10,6 +10,11 @@ import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenWasteland3 extends WorldGeneratorBOP
 {
+    public WorldGenWasteland3()
+    {
+        super(true);
+    }
+
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
     {
@@ -43,11 +48,11 @@ public class WorldGenWasteland3 extends WorldGeneratorBOP
 
             if (var999 == 0)
             {
-                world.setBlock(x, y, z, BOPCBlocks.driedDirt);
-                world.setBlock(x - 1, y, z, BOPCBlocks.driedDirt);
-                world.setBlock(x + 1, y, z, BOPCBlocks.driedDirt);
-                world.setBlock(x, y, z - 1, BOPCBlocks.driedDirt);
-                world.setBlock(x, y, z + 1, BOPCBlocks.driedDirt);
+                this.setBlockAndNotifyAdequately(world, x, y, z, BOPCBlocks.driedDirt, 0);
+                this.setBlockAndNotifyAdequately(world, x - 1, y, z, BOPCBlocks.driedDirt, 0);
+                this.setBlockAndNotifyAdequately(world, x + 1, y, z, BOPCBlocks.driedDirt, 0);
+                this.setBlockAndNotifyAdequately(world, x, y, z - 1, BOPCBlocks.driedDirt, 0);
+                this.setBlockAndNotifyAdequately(world, x, y, z + 1, BOPCBlocks.driedDirt, 0);
                 this.setBlockAndNotifyAdequately(world, x, y + 1, z, BOPCBlocks.driedDirt, 0);
                 this.setBlockAndNotifyAdequately(world, x + 1, y + 1, z, BOPCBlocks.driedDirt, 0);
                 this.setBlockAndNotifyAdequately(world, x - 1, y + 1, z, BOPCBlocks.driedDirt, 0);
@@ -58,7 +63,7 @@ public class WorldGenWasteland3 extends WorldGeneratorBOP
             }
             if (var999 == 1)
             {
-                world.setBlock(x, y, z, BOPCBlocks.driedDirt);
+                this.setBlockAndNotifyAdequately(world, x, y, z, BOPCBlocks.driedDirt, 0);
                 this.setBlockAndNotifyAdequately(world, x, y + 1, z, BOPCBlocks.driedDirt, 0);
                 return true;
             }
@@ -68,9 +73,9 @@ public class WorldGenWasteland3 extends WorldGeneratorBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-        for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+        for (int i = 0; i < amountPerChunk; i++)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
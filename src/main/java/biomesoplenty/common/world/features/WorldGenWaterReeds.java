@@ -3,14 +3,16 @@ package biomesoplenty.common.world.features;
 import java.util.Random;
 
 import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 import biomesoplenty.api.biome.BOPBiome;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.PlacementCheck;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenWaterReeds extends WorldGeneratorBOP
 {
+	private final PlacementCheck placementCheck = new PlacementCheck();
+
 	@Override
 	public boolean generate(World world, Random random, int x, int y, int z)
 	{
@@ -20,7 +22,7 @@ public class WorldGenWaterReeds extends WorldGeneratorBOP
 			int j1 = y + random.nextInt(2) - random.nextInt(2);
 			int k1 = z + random.nextInt(8) - random.nextInt(8);
 			
-			if (world.isAirBlock(i1, j1, k1) && BOPCBlocks.plants.canReplace(world, i1, j1, k1, 0, new ItemStack(BOPCBlocks.plants, 1, 14)))
+			if (world.isAirBlock(i1, j1, k1) && this.placementCheck.canPlace(world, BOPCBlocks.plants, 14, i1, j1, k1))
 			{
 				for (int i = 4; i > -4; --i)
 				{
@@ -36,9 +38,9 @@ public class WorldGenWaterReeds extends WorldGeneratorBOP
 	}
 	
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
 	{
-		for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+		for (int i = 0; i < amountPerChunk; i++)
 		{
 			int randX = x + random.nextInt(16) + 8;
 			int randZ = z + random.nextInt(16) + 8;
@@ -3,44 +3,51 @@ package biomesoplenty.common.world.features.managers;
 import java.util.Random;
 
 import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.gen.feature.WorldGenerator;
 import biomesoplenty.api.biome.BOPBiome;
-import biomesoplenty.api.biome.BOPBiomeDecorator;
-import biomesoplenty.api.biome.BiomeFeatures;
-import biomesoplenty.common.world.features.WorldGenBOPFlora;
+import biomesoplenty.common.world.generation.WeightedWorldGeneratorTable;
 import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenBOPFlowerManager extends WorldGeneratorBOP
 {
-    private BiomeFeatures biomeFeatures;
-
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
     {
-        if (biomeFeatures != null)
+        BiomeGenBase biome = world.getBiomeGenForCoords(x, z);
+
+        if (biome instanceof BOPBiome)
+        {
+            return this.generate(world, random, ((BOPBiome)biome).theBiomeDecorator.getDecorationPlan().getFlowerTable(), x, y, z);
+        }
+
+        return false;
+    }
+
+    private boolean generate(World world, Random random, WeightedWorldGeneratorTable<WorldGenerator> flowerTable, int x, int y, int z)
+    {
+        if (!flowerTable.isEmpty())
         {
-            if (biomeFeatures.weightedFlowerGen != null && !biomeFeatures.weightedFlowerGen.isEmpty())
-            {
-                WorldGenBOPFlora flowerGenerator = (WorldGenBOPFlora)BOPBiomeDecorator.getRandomWeightedWorldGenerator(biomeFeatures.weightedFlowerGen);
+            WorldGenerator flowerGenerator = flowerTable.getRandomWorldGenerator(random);
 
-                return flowerGenerator.generate(world, random, x, y, z);
-            }
+            return flowerGenerator.generate(world, random, x, y, z);
         }
 
         return false;
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-        this.biomeFeatures = biome.theBiomeDecorator.bopFeatures;
+        WeightedWorldGeneratorTable<WorldGenerator> flowerTable = biome.theBiomeDecorator.getDecorationPlan().getFlowerTable();
 
-        for (int i = 0; i < (Integer)biomeFeatures.getFeature(featureName); ++i)
+        for (int i = 0; i < amountPerChunk; ++i)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
             int randY = world.provider.isHellWorld ? random.nextInt(128) : random.nextInt(world.getHeightValue(randX, randZ) + 32);
 
-            this.generate(world, random, randX, randY, randZ);
+            this.generate(world, random, flowerTable, randX, randY, randZ);
         }
     }
 }
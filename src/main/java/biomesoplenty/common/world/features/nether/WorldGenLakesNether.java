@@ -124,9 +124,9 @@ public class WorldGenLakesNether extends WorldGeneratorBOP
 	}
 	
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-    	for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+    	for (int i = 0; i < amountPerChunk; i++)
     	{
     		int randX = x + random.nextInt(16) + 8;
     		int randY = random.nextInt(random.nextInt(random.nextInt(112) + 8) + 8);
@@ -11,6 +11,11 @@ import biomesoplenty.common.world.generation.WorldGeneratorBOP;
 
 public class WorldGenWaspHive extends WorldGeneratorBOP
 {
+	public WorldGenWaspHive()
+	{
+		super(true);
+	}
+
 	@Override
 	public boolean generate(World world, Random rand, int x, int y, int z)
 	{ 
@@ -82,9 +87,9 @@ public class WorldGenWaspHive extends WorldGeneratorBOP
 	}
 	
 	@Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-		 for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); ++i)
+		 for (int i = 0; i < amountPerChunk; ++i)
 		 {
 			 int j = random.nextInt(4);
 
@@ -119,8 +124,8 @@ public class WorldGenWaspHive extends WorldGeneratorBOP
 						}
 						else
 						{
-							if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) != BOPCBlocks.hive) world.setBlockToAir(origx + i, origy - hLayer, origz + j);
-							if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) == BOPCBlocks.hive && world.getBlockMetadata(origx + i, origy - hLayer, origz + j) != 0) world.setBlockToAir(origx + i, origy - hLayer, origz + j);
+							if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) != BOPCBlocks.hive) this.setBlockAndNotifyAdequately(world, origx + i, origy - hLayer, origz + j, Blocks.air, 0);
+							if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) == BOPCBlocks.hive && world.getBlockMetadata(origx + i, origy - hLayer, origz + j) != 0) this.setBlockAndNotifyAdequately(world, origx + i, origy - hLayer, origz + j, Blocks.air, 0);
 						}
 					}
 					else
@@ -134,14 +139,14 @@ public class WorldGenWaspHive extends WorldGeneratorBOP
 							}
 							else
 							{
-								if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) != BOPCBlocks.hive) world.setBlockToAir(origx + i, origy - hLayer, origz + j);
-								if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) == BOPCBlocks.hive && world.getBlockMetadata(origx + i, origy - hLayer, origz + j) != 0) world.setBlockToAir(origx + i, origy - hLayer, origz + j);
+								if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) != BOPCBlocks.hive) this.setBlockAndNotifyAdequately(world, origx + i, origy - hLayer, origz + j, Blocks.air, 0);
+								if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) == BOPCBlocks.hive && world.getBlockMetadata(origx + i, origy - hLayer, origz + j) != 0) this.setBlockAndNotifyAdequately(world, origx + i, origy - hLayer, origz + j, Blocks.air, 0);
 							}
 						}
 						else
 						{
-							if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) != BOPCBlocks.hive) world.setBlockToAir(origx + i, origy - hLayer, origz + j);
-							if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) == BOPCBlocks.hive && world.getBlockMetadata(origx + i, origy - hLayer, origz + j) != 0) world.setBlockToAir(origx + i, origy - hLayer, origz + j);
+							if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) != BOPCBlocks.hive) this.setBlockAndNotifyAdequately(world, origx + i, origy - hLayer, origz + j, Blocks.air, 0);
+							if (cubeno < 2 && world.getBlock(origx + i, origy - hLayer, origz + j) == BOPCBlocks.hive && world.getBlockMetadata(origx + i, origy - hLayer, origz + j) != 0) this.setBlockAndNotifyAdequately(world, origx + i, origy - hLayer, origz + j, Blocks.air, 0);
 						}
 					}
 				}
@@ -180,7 +185,7 @@ public class WorldGenWaspHive extends WorldGeneratorBOP
 					{
 						if (world.getBlockMetadata(spawnx - 1, spawny, spawnz) == 1 && world.getBlockMetadata(spawnx + 1, spawny, spawnz) == 1 && world.getBlockMetadata(spawnx, spawny, spawnz - 1) == 1 && world.getBlockMetadata(spawnx, spawny, spawnz + 1) == 1 && world.getBlockMetadata(spawnx, spawny - 1, spawnz) == 1 && world.getBlockMetadata(spawnx, spawny + 1, spawnz) == 1)
 						{
-							world.setBlock(spawnx, spawny, spawnz, Blocks.mob_spawner);
+							this.setBlockAndNotifyAdequately(world, spawnx, spawny, spawnz, Blocks.mob_spawner, 0);
 							TileEntityMobSpawner tileentitymobspawner = (TileEntityMobSpawner)world.getTileEntity(spawnx, spawny, spawnz);
 
 							if (tileentitymobspawner != null)
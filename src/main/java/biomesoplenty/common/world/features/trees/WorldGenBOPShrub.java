@@ -1,12 +1,11 @@
 package biomesoplenty.common.world.features.trees;
  
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenTrees;
+import biomesoplenty.common.world.generation.BlockSet;
 
 public class WorldGenBOPShrub extends WorldGenTrees
 {
@@ -19,7 +18,7 @@ public class WorldGenBOPShrub extends WorldGenTrees
 	private int minHeight;
 	private int maxHeight;
 	
-	private List soilBlocks;
+	private BlockSet soilBlocks;
 	
 	public WorldGenBOPShrub(Block wood, Block leaves, int metaWood, int metaLeaves, Block... soilBlocks)
 	{
@@ -39,7 +38,7 @@ public class WorldGenBOPShrub extends WorldGenTrees
         this.minHeight = minHeight;
         this.maxHeight = maxHeight;
         
-        this.soilBlocks = Arrays.asList(soilBlocks);
+        this.soilBlocks = new BlockSet(soilBlocks);
     }
 
     @Override
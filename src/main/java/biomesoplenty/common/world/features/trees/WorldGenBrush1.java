@@ -7,6 +7,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenBrush1 extends WorldGenAbstractTree
 {
@@ -40,7 +41,7 @@ public class WorldGenBrush1 extends WorldGenAbstractTree
 				}
 			}
 
-			world.setBlock(x, y, z, Blocks.dirt);
+			DecorationGuard.setBlock(world, x, y, z, Blocks.dirt, 0);
 			world.setBlock(x, y + 1, z, Blocks.log, 3, 2);
 			world.setBlock(x, y + 2, z, Blocks.log, 3, 2);
 			world.setBlock(x, y + 3, z, Blocks.log, 3, 2);
@@ -48,23 +49,23 @@ public class WorldGenBrush1 extends WorldGenAbstractTree
 			world.setBlock(x, y + 5, z, Blocks.log, 3, 2);
 			world.setBlock(x, y + 6, z, Blocks.log, 3, 2);
 			world.setBlock(x, y + 7, z, Blocks.log, 3, 2);
-			world.setBlock(x + 1, y + 7, z, Blocks.leaves);
-			world.setBlock(x - 1, y + 7, z, Blocks.leaves);
-			world.setBlock(x, y + 7, z + 1, Blocks.leaves);
-			world.setBlock(x, y + 7, z - 1, Blocks.leaves);
+			DecorationGuard.setBlock(world, x + 1, y + 7, z, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x - 1, y + 7, z, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x, y + 7, z + 1, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x, y + 7, z - 1, Blocks.leaves, 0);
 
-			world.setBlock(x + 1, y + 8, z, Blocks.leaves);
-			world.setBlock(x - 1, y + 8, z, Blocks.leaves);
-			world.setBlock(x, y + 8, z + 1, Blocks.leaves);
-			world.setBlock(x, y + 8, z - 1, Blocks.leaves);
+			DecorationGuard.setBlock(world, x + 1, y + 8, z, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x - 1, y + 8, z, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x, y + 8, z + 1, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x, y + 8, z - 1, Blocks.leaves, 0);
                                                          
-			world.setBlock(x + 1, y + 8, z + 1, Blocks.leaves);
-			world.setBlock(x + 1, y + 8, z - 1, Blocks.leaves);
-			world.setBlock(x - 1, y + 8, z + 1, Blocks.leaves);
-			world.setBlock(x - 1, y + 8, z - 1, Blocks.leaves);
-			world.setBlock(x, y + 8, z, Blocks.leaves);
+			DecorationGuard.setBlock(world, x + 1, y + 8, z + 1, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x + 1, y + 8, z - 1, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x - 1, y + 8, z + 1, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x - 1, y + 8, z - 1, Blocks.leaves, 0);
+			DecorationGuard.setBlock(world, x, y + 8, z, Blocks.leaves, 0);
 
-			world.setBlock(x, y + 9, z, Blocks.leaves);
+			DecorationGuard.setBlock(world, x, y + 9, z, Blocks.leaves, 0);
 			return true;
 		}
 	}
@@ -1,12 +1,11 @@
 package biomesoplenty.common.world.features.trees;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.common.world.generation.BlockSet;
 
 public class WorldGenBrush2 extends WorldGenAbstractTree
 {
@@ -16,7 +15,7 @@ public class WorldGenBrush2 extends WorldGenAbstractTree
     private int woodMeta;
     private int leavesMeta;
     
-    private List soilBlocks;
+    private BlockSet soilBlocks;
     
 	public WorldGenBrush2(Block wood, Block leaves, int woodMeta, int leavesMeta, Block... soilBlocks) 
 	{
@@ -28,7 +27,7 @@ public class WorldGenBrush2 extends WorldGenAbstractTree
 		this.leavesMeta = leavesMeta;
 		this.woodMeta = woodMeta;
 		
-		this.soilBlocks = Arrays.asList(soilBlocks);
+		this.soilBlocks = new BlockSet(soilBlocks);
 	}
 	
 	@Override
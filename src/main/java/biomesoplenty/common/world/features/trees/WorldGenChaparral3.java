@@ -7,6 +7,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenChaparral3 extends WorldGenAbstractTree
 {
@@ -40,8 +41,8 @@ public class WorldGenChaparral3 extends WorldGenAbstractTree
                 }
             }
 
-            world.setBlock(x, y, z, Blocks.log);
-            world.setBlock(x, y + 1, z, Blocks.leaves);
+            DecorationGuard.setBlock(world, x, y, z, Blocks.log, 0);
+            DecorationGuard.setBlock(world, x, y + 1, z, Blocks.leaves, 0);
             return true;
         }
     }
@@ -8,6 +8,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.BOPBlockHelper;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenGiantFlower extends WorldGenAbstractTree
 {
@@ -42,7 +43,7 @@ public class WorldGenGiantFlower extends WorldGenAbstractTree
 				}
 			}
 			
-			world.setBlock(x, y, z, Blocks.dirt);
+			DecorationGuard.setBlock(world, x, y, z, Blocks.dirt, 0);
 			world.setBlock(x, y + 1, z, BOPCBlocks.logs3, 3, 2);
 			world.setBlock(x, y + 2, z, BOPCBlocks.logs3, 3, 2);
 			world.setBlock(x, y + 3, z, BOPCBlocks.logs3, 3, 2);
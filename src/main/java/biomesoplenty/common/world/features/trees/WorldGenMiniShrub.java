@@ -1,13 +1,12 @@
 package biomesoplenty.common.world.features.trees;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Random;
 
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.common.world.generation.BlockSet;
 
 public class WorldGenMiniShrub extends WorldGenAbstractTree
 {
@@ -17,7 +16,7 @@ public class WorldGenMiniShrub extends WorldGenAbstractTree
     private int woodMeta;
     private int leavesMeta;
 
-    private List soilBlocks;
+    private BlockSet soilBlocks;
 
     public WorldGenMiniShrub(Block wood, Block leaves, int woodMeta, int leavesMeta, Block... soilBlocks) 
     {
@@ -29,7 +28,7 @@ public class WorldGenMiniShrub extends WorldGenAbstractTree
         this.leavesMeta = leavesMeta;
         this.woodMeta = woodMeta;
 
-        this.soilBlocks = Arrays.asList(soilBlocks);
+        this.soilBlocks = new BlockSet(soilBlocks);
     }
 
     @Override
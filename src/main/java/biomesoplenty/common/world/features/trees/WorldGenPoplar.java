@@ -7,6 +7,7 @@ import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenPoplar extends WorldGenAbstractTree
 {
@@ -40,7 +41,7 @@ public class WorldGenPoplar extends WorldGenAbstractTree
                 }
             }
 
-            world.setBlock(x, y, z, Blocks.dirt);
+            DecorationGuard.setBlock(world, x, y, z, Blocks.dirt, 0);
             world.setBlock(x, y + 1, z, Blocks.log2, 1, 2);
             world.setBlock(x, y + 2, z, Blocks.log2, 1, 2);
             world.setBlock(x, y + 3, z, Blocks.log2, 1, 2);
@@ -10,6 +10,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenRedwoodTree extends WorldGenAbstractTree
 {
@@ -39,6 +40,9 @@ public class WorldGenRedwoodTree extends WorldGenAbstractTree
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
     {
+        //Only grow where every block the leaves could reach is already loaded
+        if (!DecorationGuard.canReach(world, x, z, 9)) return false;
+
         int l = random.nextInt(this.randomTreeHeight) + this.minTreeHeight;
 
         if (y >= 1 && y < (256-2))
@@ -10,6 +10,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenRedwoodTree2 extends WorldGenAbstractTree
 {
@@ -39,6 +40,8 @@ public class WorldGenRedwoodTree2 extends WorldGenAbstractTree
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
     {
+        if (!DecorationGuard.canReach(world, x, z, 9)) return false;
+
         int treeHeight = random.nextInt(this.randomTreeHeight) + this.minTreeHeight;
 
         if (y >= 1 && y + treeHeight + 1 <= 256)
@@ -9,6 +9,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
 import net.minecraftforge.common.util.ForgeDirection;
 import biomesoplenty.api.content.BOPCBlocks;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenRedwoodTree3 extends WorldGenAbstractTree
 {
@@ -38,6 +39,8 @@ public class WorldGenRedwoodTree3 extends WorldGenAbstractTree
     @Override
     public boolean generate(World world, Random random, int x, int y, int z)
     {
+        if (!DecorationGuard.canReach(world, x, z, 9)) return false;
+
         int l = random.nextInt(this.randomTreeHeight) + this.minTreeHeight;
 
         if (y >= 1 && y < (256-2))
@@ -7,6 +7,7 @@ import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import biomesoplenty.common.world.generation.DecorationGuard;
 
 public class WorldGenTropicsShrub extends WorldGenAbstractTree
 {
@@ -42,7 +43,7 @@ public class WorldGenTropicsShrub extends WorldGenAbstractTree
                 }
             }
 
-            world.setBlock(x, y, z, Blocks.dirt);
+            DecorationGuard.setBlock(world, x, y, z, Blocks.dirt, 0);
             world.setBlock(x, y + 1, z, Blocks.log, 3, 2);
             world.setBlock(x, y + 2, z, Blocks.log, 3, 2);
             world.setBlock(x + 1, y + 2, z, Blocks.leaves, 3, 2);
@@ -15,11 +15,13 @@ public class LakesForcedGenerator extends ForcedWorldFeatureBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-        for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature(featureName); i++)
+        boolean waterLake = featureName.equals("waterLakesPerChunk");
+
+        for (int i = 0; i < amountPerChunk; i++)
         {
-            if (featureName.equals("waterLakesPerChunk"))
+            if (waterLake)
             {
                 int randX = x + random.nextInt(16) + 8;
                 int randY = random.nextInt(random.nextInt(240) + 8);
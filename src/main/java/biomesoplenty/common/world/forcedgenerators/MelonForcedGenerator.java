@@ -15,9 +15,9 @@ public class MelonForcedGenerator extends ForcedWorldFeatureBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
-        if ((Boolean)biome.theBiomeDecorator.bopFeatures.getFeature("generateMelons"))
+        if (amountPerChunk > 0)
         {
             int randX = x + random.nextInt(16) + 8;
             int randZ = z + random.nextInt(16) + 8;
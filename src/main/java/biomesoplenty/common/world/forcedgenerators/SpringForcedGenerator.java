@@ -5,6 +5,7 @@ import java.util.Random;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
 import biomesoplenty.api.biome.BOPBiome;
+import biomesoplenty.common.biome.decoration.OverworldBiomeFeatures;
 import biomesoplenty.common.world.generation.ForcedWorldFeatureBOP;
 
 public class SpringForcedGenerator extends ForcedWorldFeatureBOP
@@ -15,11 +16,13 @@ public class SpringForcedGenerator extends ForcedWorldFeatureBOP
     }
 
     @Override
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z)
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z)
     {
         if (biome.theBiomeDecorator.generateLakes)
         {
-            for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature("waterSpringsPerChunk"); ++i)
+            OverworldBiomeFeatures features = (OverworldBiomeFeatures)biome.theBiomeDecorator.bopFeatures;
+
+            for (int i = 0; i < features.waterSpringsPerChunk; ++i)
             {
                 int randX = x + random.nextInt(16) + 8;
                 int randY = random.nextInt(random.nextInt(120) + 8);
@@ -28,7 +31,7 @@ public class SpringForcedGenerator extends ForcedWorldFeatureBOP
                 this.generate(world, random, randX, randY, randZ);
             }
 
-            for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature("lavaSpringsPerChunk"); ++i)
+            for (int i = 0; i < features.lavaSpringsPerChunk; ++i)
             {
                 int randX = x + random.nextInt(16) + 8;
                 int randY = random.nextInt(random.nextInt(random.nextInt(112) + 8) + 8);
@@ -37,7 +40,7 @@ public class SpringForcedGenerator extends ForcedWorldFeatureBOP
                 this.generate(world, random, randX, randY, randZ);
             }
             
-            for (int i = 0; i < (Integer)biome.theBiomeDecorator.bopFeatures.getFeature("bloodSpringsPerChunk"); ++i)
+            for (int i = 0; i < features.bloodSpringsPerChunk; ++i)
             {
                 int randX = x + random.nextInt(16) + 8;
                 int randY = random.nextInt(random.nextInt(random.nextInt(112) + 8) + 8);
@@ -0,0 +1,87 @@
+package biomesoplenty.common.world.generation;
+
+import net.minecraft.block.Block;
+
+/**
+ * A fixed set of blocks for generators to test the blocks they find against, held as one bit per block ID.
+ * Block IDs can change when a world is loaded, so every set rebuilds itself the first time it is used after
+ * the IDs have been remapped.
+ */
+public class BlockSet
+{
+    private static volatile int remapCount = 0;
+
+    private final Block[] blocks;
+
+    /** Replaced whole when rebuilt, so threads checking the set concurrently always see a complete one */
+    private volatile Bits bits;
+
+    public BlockSet(Block... blocks)
+    {
+        this.blocks = blocks.clone();
+    }
+
+    public boolean contains(Block block)
+    {
+        Bits currentBits = this.bits;
+
+        if (currentBits == null || currentBits.remapCount != remapCount) currentBits = this.rebuild();
+
+        int id = Block.getIdFromBlock(block);
+        long[] words = currentBits.words;
+
+        return id >= 0 && (id >> 6) < words.length && (words[id >> 6] & 1L << (id & 63)) != 0L;
+    }
+
+    private synchronized Bits rebuild()
+    {
+        int currentRemapCount = remapCount;
+
+        if (this.bits != null && this.bits.remapCount == currentRemapCount) return this.bits;
+
+        long[] newBits = new long[1];
+
+        for (Block block : blocks)
+        {
+            int id = block == null ? -1 : Block.getIdFromBlock(block);
+
+            if (id < 0) continue;
+
+            if ((id >> 6) >= newBits.length)
+            {
+                long[] grownBits = new long[(id >> 6) + 1];
+
+                System.arraycopy(newBits, 0, grownBits, 0, newBits.length);
+                newBits = grownBits;
+            }
+
+            newBits[id >> 6] |= 1L << (id & 63);
+        }
+
+        Bits builtBits = new Bits(newBits, currentRemapCount);
+
+        this.bits = builtBits;
+
+        return builtBits;
+    }
+
+    /**
+     * Called when block IDs have been remapped, so that every set is rebuilt before it is next used.
+     */
+    public static void onIdsRemapped()
+    {
+        remapCount++;
+    }
+
+    private static class Bits
+    {
+        private final long[] words;
+        private final int remapCount;
+
+        private Bits(long[] words, int remapCount)
+        {
+            this.words = words;
+            this.remapCount = remapCount;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package biomesoplenty.common.world.generation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.block.Block;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.Chunk;
+import biomesoplenty.common.configuration.BOPConfigurationTerrainGen;
+import biomesoplenty.common.utils.BOPLogger;
+
+/**
+ * Keeps track of the chunk being decorated by our biome decorator and the feature it is currently generating.
+ *
+ * Features that reach beyond the chunks that are loaded during population force further chunks to be loaded or
+ * generated (cascading generation). When detection is enabled, each such chunk is recorded against the feature
+ * and biome that caused it. When prevention is enabled, features ask before touching a position and leave out
+ * anything that lies in a chunk that isn't loaded yet.
+ *
+ * Our generators also check here to leave out neighbour notifications while decorating, counting how many
+ * each feature would otherwise have sent.
+ */
+public class DecorationGuard
+{
+    private static final ThreadLocal<DecorationContext> currentContext = new ThreadLocal<DecorationContext>();
+
+    /** The number of chunks loaded by each feature and biome, keyed by "feature in biome" */
+    private static final Map<String, Integer> cascadeCounts = new HashMap<String, Integer>();
+
+    /** The number of block writes made without notifying neighbours that otherwise would have, by feature */
+    private static final Map<String, Long> suppressedNotificationCounts = new HashMap<String, Long>();
+
+    /**
+     * Marks the start of decorating a chunk, returning the context of any decoration this one cascaded from, which
+     * should be passed back to endDecoration once the chunk has been decorated.
+     */
+    public static DecorationContext beginDecoration(World world, BiomeGenBase biome, int chunkX, int chunkZ)
+    {
+        DecorationContext previousContext = currentContext.get();
+
+        currentContext.set(new DecorationContext(world, biome, chunkX, chunkZ));
+
+        return previousContext;
+    }
+
+    public static void endDecoration(DecorationContext previousContext)
+    {
+        DecorationContext context = currentContext.get();
+
+        if (context != null) context.flushSuppressedNotifications();
+
+        currentContext.set(previousContext);
+    }
+
+    public static void setFeature(String featureName)
+    {
+        DecorationContext context = currentContext.get();
+
+        if (context != null)
+        {
+            context.flushSuppressedNotifications();
+            context.featureName = featureName;
+        }
+    }
+
+    public static boolean isDecorating(World world)
+    {
+        DecorationContext context = currentContext.get();
+
+        return context != null && context.world == world;
+    }
+
+    /**
+     * Counts a block written by the current feature without the neighbour notifications it would otherwise send.
+     */
+    public static void countSuppressedNotification()
+    {
+        DecorationContext context = currentContext.get();
+
+        if (context != null) context.suppressedNotifications++;
+    }
+
+    /**
+     * Places a block for a generator that notifies neighbours of what it places. Notifications are left out and
+     * counted against the current feature while decorating the given world, and sent as usual otherwise, such
+     * as when a sapling grows.
+     */
+    public static void setBlock(World world, int x, int y, int z, Block block, int meta)
+    {
+        if (isDecorating(world))
+        {
+            countSuppressedNotification();
+
+            world.setBlock(x, y, z, block, meta, 2);
+        }
+        else
+        {
+            world.setBlock(x, y, z, block, meta, 3);
+        }
+    }
+
+    /**
+     * Whether the current feature may read or write blocks at the given position without loading another chunk.
+     * Always true unless prevention is enabled and we are decorating the given world.
+     */
+    public static boolean canReach(World world, int x, int z)
+    {
+        if (!BOPConfigurationTerrainGen.preventCascadingGeneration) return true;
+
+        DecorationContext context = currentContext.get();
+
+        if (context == null || context.world != world) return true;
+
+        return world.getChunkProvider().chunkExists(x >> 4, z >> 4);
+    }
+
+    /**
+     * Whether every chunk within the given radius of a position is loaded, for features such as large trees that
+     * are either generated whole or not at all.
+     */
+    public static boolean canReach(World world, int x, int z, int radius)
+    {
+        if (!BOPConfigurationTerrainGen.preventCascadingGeneration) return true;
+
+        DecorationContext context = currentContext.get();
+
+        if (context == null || context.world != world) return true;
+
+        for (int chunkX = (x - radius) >> 4; chunkX <= (x + radius) >> 4; chunkX++)
+        {
+            for (int chunkZ = (z - radius) >> 4; chunkZ <= (z + radius) >> 4; chunkZ++)
+            {
+                if (!world.getChunkProvider().chunkExists(chunkX, chunkZ)) return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Called whenever a chunk is loaded, recording it if one of our features caused it.
+     */
+    public static void onChunkLoad(World world, Chunk chunk)
+    {
+        if (!BOPConfigurationTerrainGen.detectCascadingGeneration) return;
+
+        DecorationContext context = currentContext.get();
+
+        if (context == null || context.world != world) return;
+
+        String cause = context.featureName + " in " + context.biome.biomeName;
+        int count;
+
+        synchronized (cascadeCounts)
+        {
+            Integer previousCount = cascadeCounts.get(cause);
+
+            count = previousCount == null ? 1 : previousCount + 1;
+            cascadeCounts.put(cause, count);
+        }
+
+        if (count == 1)
+        {
+            BOPLogger.warning("Decorating chunk ({}, {}) with {} loaded chunk ({}, {}), further chunks loaded by it are logged at debug level", context.chunkX, context.chunkZ, cause, chunk.xPosition, chunk.zPosition);
+        }
+        else
+        {
+            BOPLogger.fine("Decorating chunk ({}, {}) with {} loaded chunk ({}, {}), {} so far", context.chunkX, context.chunkZ, cause, chunk.xPosition, chunk.zPosition, count);
+        }
+    }
+
+    /**
+     * Gets the number of chunks loaded so far by each feature and biome.
+     */
+    public static Map<String, Integer> getCascadeCounts()
+    {
+        synchronized (cascadeCounts)
+        {
+            return new HashMap<String, Integer>(cascadeCounts);
+        }
+    }
+
+    /**
+     * Gets the number of neighbour notifications left out by each feature so far.
+     */
+    public static Map<String, Long> getSuppressedNotificationCounts()
+    {
+        synchronized (suppressedNotificationCounts)
+        {
+            return new HashMap<String, Long>(suppressedNotificationCounts);
+        }
+    }
+
+    public static class DecorationContext
+    {
+        private final World world;
+        private final BiomeGenBase biome;
+        private final int chunkX;
+        private final int chunkZ;
+
+        private String featureName = "vanilla decoration";
+
+        /** Counted here and added to the totals once the feature is done, rather than for every block */
+        private int suppressedNotifications = 0;
+
+        private DecorationContext(World world, BiomeGenBase biome, int chunkX, int chunkZ)
+        {
+            this.world = world;
+            this.biome = biome;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        private void flushSuppressedNotifications()
+        {
+            if (suppressedNotifications == 0) return;
+
+            synchronized (suppressedNotificationCounts)
+            {
+                Long previousCount = suppressedNotificationCounts.get(featureName);
+
+                suppressedNotificationCounts.put(featureName, (previousCount == null ? 0L : previousCount) + suppressedNotifications);
+            }
+
+            suppressedNotifications = 0;
+        }
+    }
+}
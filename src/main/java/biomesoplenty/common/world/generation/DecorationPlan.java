@@ -0,0 +1,113 @@
+package biomesoplenty.common.world.generation;
+
+import java.util.ArrayList;
+
+import net.minecraft.world.gen.feature.WorldGenerator;
+import net.minecraftforge.event.terraingen.DecorateBiomeEvent.Decorate.EventType;
+import biomesoplenty.api.biome.BiomeFeatures;
+
+/**
+ * An immutable, pre-resolved list of the features a biome decorates with.
+ * Built once per decorator so that decorating a chunk only has to walk flat arrays.
+ */
+public class DecorationPlan
+{
+    private final String[] featureNames;
+    private final IBOPWorldGenerator[] worldGenerators;
+    private final int[] amountsPerChunk;
+    private final EventType[] eventTypes;
+
+    private final WeightedWorldGeneratorTable<WorldGenerator> flowerTable;
+    private final WeightedWorldGeneratorTable<WorldGenerator> grassTable;
+
+    private DecorationPlan(String[] featureNames, IBOPWorldGenerator[] worldGenerators, int[] amountsPerChunk, EventType[] eventTypes, BiomeFeatures biomeFeatures)
+    {
+        this.featureNames = featureNames;
+        this.worldGenerators = worldGenerators;
+        this.amountsPerChunk = amountsPerChunk;
+        this.eventTypes = eventTypes;
+
+        this.flowerTable = new WeightedWorldGeneratorTable<WorldGenerator>(biomeFeatures.weightedFlowerGen);
+        this.grassTable = new WeightedWorldGeneratorTable<WorldGenerator>(biomeFeatures.weightedGrassGen);
+    }
+
+    public static DecorationPlan compile(BiomeFeatures biomeFeatures)
+    {
+        ArrayList<String> names = new ArrayList<String>();
+        ArrayList<IBOPWorldGenerator> generators = new ArrayList<IBOPWorldGenerator>();
+        ArrayList<Integer> amounts = new ArrayList<Integer>();
+
+        for (String featureName : biomeFeatures.getFeatureNames())
+        {
+            //Features with no amount are kept, as some generators serve several fields at once and still have to run
+            int amountPerChunk = biomeFeatures.getFeatureAmount(featureName);
+            WorldGenFieldAssociation.WorldFeature worldFeature = WorldGenFieldAssociation.getAssociatedFeature(featureName);
+
+            if (worldFeature != null)
+            {
+                IBOPWorldGenerator worldGenerator = worldFeature.getBOPWorldGenerator();
+
+                if (worldGenerator != null)
+                {
+                    names.add(featureName);
+                    generators.add(worldGenerator);
+                    amounts.add(amountPerChunk);
+                }
+            }
+        }
+
+        int size = names.size();
+        String[] featureNames = names.toArray(new String[size]);
+        IBOPWorldGenerator[] worldGenerators = generators.toArray(new IBOPWorldGenerator[size]);
+        int[] amountsPerChunk = new int[size];
+        EventType[] eventTypes = new EventType[size];
+
+        for (int i = 0; i < size; i++)
+        {
+            amountsPerChunk[i] = amounts.get(i);
+
+            if (featureNames[i].equals("bopFlowersPerChunk")) eventTypes[i] = EventType.FLOWERS;
+            else if (featureNames[i].equals("bopGrassPerChunk")) eventTypes[i] = EventType.GRASS;
+        }
+
+        return new DecorationPlan(featureNames, worldGenerators, amountsPerChunk, eventTypes, biomeFeatures);
+    }
+
+    public int size()
+    {
+        return this.worldGenerators.length;
+    }
+
+    public String getFeatureName(int index)
+    {
+        return this.featureNames[index];
+    }
+
+    public IBOPWorldGenerator getWorldGenerator(int index)
+    {
+        return this.worldGenerators[index];
+    }
+
+    public int getAmountPerChunk(int index)
+    {
+        return this.amountsPerChunk[index];
+    }
+
+    /**
+     * The terrain gen event that must be allowed before this feature is generated, or null if there is none
+     */
+    public EventType getEventType(int index)
+    {
+        return this.eventTypes[index];
+    }
+
+    public WeightedWorldGeneratorTable<WorldGenerator> getFlowerTable()
+    {
+        return this.flowerTable;
+    }
+
+    public WeightedWorldGeneratorTable<WorldGenerator> getGrassTable()
+    {
+        return this.grassTable;
+    }
+}
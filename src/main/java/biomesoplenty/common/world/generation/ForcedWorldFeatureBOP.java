@@ -1,17 +1,31 @@
 package biomesoplenty.common.world.generation;
 
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
 
 public abstract class ForcedWorldFeatureBOP implements IBOPWorldGenerator
 {
+    private static final AtomicInteger instancesCreated = new AtomicInteger();
+
     private WorldGenerator worldGenerator;
 
     public ForcedWorldFeatureBOP(WorldGenerator worldGenerator)
     {
         this.worldGenerator = worldGenerator;
+
+        instancesCreated.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of forced feature wrappers constructed since startup. Wrappers are built once per
+     * associated feature, so this should stay constant after WorldGenFieldAssociation.init().
+     */
+    public static int getInstancesCreated()
+    {
+        return instancesCreated.get();
     }
 
     @Override
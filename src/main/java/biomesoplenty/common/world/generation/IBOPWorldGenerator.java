@@ -10,5 +10,5 @@ public interface IBOPWorldGenerator
 {
     public boolean generate(World world, Random random, int x, int y, int z);
 
-    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int x, int z);
+    public void setupGeneration(World world, Random random, BOPBiome biome, String featureName, int amountPerChunk, int x, int z);
 }
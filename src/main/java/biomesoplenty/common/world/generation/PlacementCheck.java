@@ -0,0 +1,37 @@
+package biomesoplenty.common.world.generation;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import biomesoplenty.common.blocks.templates.IPlacementPredicate;
+
+/**
+ * Checks whether a generator can place a block at a position. Our own blocks are asked directly with the
+ * metadata to be placed; any other block is asked through canReplace with an ItemStack kept by this check,
+ * rather than a new stack for every attempt.
+ */
+public class PlacementCheck
+{
+    private Block stackBlock;
+    private ItemStack stack;
+
+    public boolean canPlace(World world, Block block, int metadata, int x, int y, int z)
+    {
+        if (block instanceof IPlacementPredicate)
+        {
+            return ((IPlacementPredicate)block).canPlaceWithMetadata(world, x, y, z, metadata);
+        }
+
+        if (stack == null || stackBlock != block)
+        {
+            stack = new ItemStack(block, 1, metadata);
+            stackBlock = block;
+        }
+        else
+        {
+            stack.setItemDamage(metadata);
+        }
+
+        return block.canReplace(world, x, y, z, 0, stack);
+    }
+}
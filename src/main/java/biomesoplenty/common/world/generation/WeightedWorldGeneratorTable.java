@@ -0,0 +1,116 @@
+package biomesoplenty.common.world.generation;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Random;
+
+import net.minecraft.world.gen.feature.WorldGenerator;
+
+/**
+ * A frozen copy of a weighted generator map, sampled in constant time using Vose's alias method.
+ */
+public class WeightedWorldGeneratorTable<T extends WorldGenerator>
+{
+    private final Object[] worldGenerators;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    public WeightedWorldGeneratorTable(Map<T, ? extends Number> weightedGenerators)
+    {
+        ArrayList<T> generators = new ArrayList<T>();
+        ArrayList<Double> weights = new ArrayList<Double>();
+        double totalWeight = 0D;
+
+        if (weightedGenerators != null)
+        {
+            for (Map.Entry<T, ? extends Number> entry : weightedGenerators.entrySet())
+            {
+                double weight = entry.getValue().doubleValue();
+
+                if (weight > 0D)
+                {
+                    generators.add(entry.getKey());
+                    weights.add(weight);
+                    totalWeight += weight;
+                }
+            }
+        }
+
+        int size = generators.size();
+
+        this.worldGenerators = generators.toArray();
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        double[] scaledWeights = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < size; i++)
+        {
+            scaledWeights[i] = weights.get(i) * size / totalWeight;
+
+            if (scaledWeights[i] < 1D) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        while (smallCount > 0 && largeCount > 0)
+        {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            this.probabilities[less] = scaledWeights[less];
+            this.aliases[less] = more;
+
+            scaledWeights[more] = (scaledWeights[more] + scaledWeights[less]) - 1D;
+
+            if (scaledWeights[more] < 1D) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+
+        //Anything left over is only off from 1 by floating point error
+        while (largeCount > 0)
+        {
+            int index = large[--largeCount];
+
+            this.probabilities[index] = 1D;
+            this.aliases[index] = index;
+        }
+
+        while (smallCount > 0)
+        {
+            int index = small[--smallCount];
+
+            this.probabilities[index] = 1D;
+            this.aliases[index] = index;
+        }
+    }
+
+    public boolean isEmpty()
+    {
+        return this.worldGenerators.length == 0;
+    }
+
+    public int size()
+    {
+        return this.worldGenerators.length;
+    }
+
+    /**
+     * Picks a generator using a single draw from the given random, or returns null if the table is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T getRandomWorldGenerator(Random random)
+    {
+        int size = this.worldGenerators.length;
+
+        if (size == 0) return null;
+
+        double value = random.nextDouble() * size;
+        int column = Math.min((int)value, size - 1);
+
+        return (T)this.worldGenerators[value - column < this.probabilities[column] ? column : this.aliases[column]];
+    }
+}
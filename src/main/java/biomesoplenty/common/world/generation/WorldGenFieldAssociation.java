@@ -54,16 +54,16 @@ public class WorldGenFieldAssociation
 
     private static void associateFeatures()
     {
-        associateFeature("generateQuicksand", new WorldGenSplotches(BOPCBlocks.mud, 1, 24, Blocks.grass, Blocks.dirt, Blocks.sand));
-        associateFeature("generateCanyon", new WorldGenSplotches(BOPCBlocks.rocks, 0, 48, Blocks.stone));
-        associateFeature("generateStoneInGrass", new WorldGenSplotches(Blocks.stone, 0, 32, Blocks.grass));
-        associateFeature("generateStoneInGrass2", new WorldGenSplotches(Blocks.stone, 0, 48, Blocks.grass, Blocks.dirt));
-        associateFeature("generateGrass", new WorldGenSplotches(Blocks.grass, 0, 48, BOPCBlocks.rocks));
-        associateFeature("generateSand", new WorldGenSplotches(Blocks.sand, 0, 32, BOPCBlocks.rocks));
-        associateFeature("generateQuagmire", new WorldGenSplotches(Blocks.grass, 0, 48, BOPCBlocks.mud));
-        associateFeature("generateAsh", new WorldGenSplotches(BOPCBlocks.ash, 0, 32, BOPCBlocks.ashStone, Blocks.netherrack));
-        associateFeature("generateMycelium", new WorldGenSplotches(Blocks.mycelium, 0, 32, Blocks.grass));
-        associateFeature("generateSponge", new WorldGenSplotches(Blocks.sponge, 0, 24, Blocks.dirt, Blocks.sand, Blocks.gravel));
+        associateFeature("generateQuicksand", new WorldGenSplotches(BOPCBlocks.mud, 1, 24, 5, 64, 64, Blocks.grass, Blocks.dirt, Blocks.sand));
+        associateFeature("generateCanyon", new WorldGenSplotches(BOPCBlocks.rocks, 0, 48, 15, 64, 64, Blocks.stone));
+        associateFeature("generateStoneInGrass", new WorldGenSplotches(Blocks.stone, 0, 32, 15, 64, 64, Blocks.grass));
+        associateFeature("generateStoneInGrass2", new WorldGenSplotches(Blocks.stone, 0, 48, 20, 64, 64, Blocks.grass, Blocks.dirt));
+        associateFeature("generateGrass", new WorldGenSplotches(Blocks.grass, 0, 48, 15, 0, 128, BOPCBlocks.rocks));
+        associateFeature("generateSand", new WorldGenSplotches(Blocks.sand, 0, 32, 15, 0, 128, BOPCBlocks.rocks));
+        associateFeature("generateQuagmire", new WorldGenSplotches(Blocks.grass, 0, 48, 15, 64, 64, BOPCBlocks.mud));
+        associateFeature("generateAsh", new WorldGenSplotches(BOPCBlocks.ash, 0, 32, 10, 0, 128, BOPCBlocks.ashStone, Blocks.netherrack));
+        associateFeature("generateMycelium", new WorldGenSplotches(Blocks.mycelium, 0, 32, 10, 0, 128, Blocks.grass));
+        associateFeature("generateSponge", new WorldGenSplotches(Blocks.sponge, 0, 24, 5, 0, 64, Blocks.dirt, Blocks.sand, Blocks.gravel));
         
         associateFeature("mudPerChunk", new WorldGenWaterside(BOPCBlocks.mud, 7, Blocks.dirt, Blocks.grass));
         associateFeature("gravelPerChunk", new WorldGenWaterside(Blocks.gravel, 7, Blocks.dirt, Blocks.grass));
@@ -124,7 +124,7 @@ public class WorldGenFieldAssociation
         associateFeature("seaweedPerChunk", new WorldGenBOPCoral(BOPCBlocks.coral2, 8, 256));
         associateFeature("coralPerChunk", new WorldGenBOPCoral(BOPCBlocks.coral1, -1));
         associateFeature("kelpPerChunk", new WorldGenKelp(4, 8));
-        associateFeature("kelpThickPerChunk", new WorldGenKelp(4, 8));
+        associateFeature("kelpThickPerChunk", new WorldGenKelp(4, 8, 8));
         associateFeature("shortKelpPerChunk", new WorldGenKelp(2, 4));
         
         //Nether Features
@@ -179,10 +179,14 @@ public class WorldGenFieldAssociation
         private WorldGenerator worldGenerator;
         private Class<? extends ForcedWorldFeatureBOP> forcedFeature;
 
+        private IBOPWorldGenerator bopWorldGenerator;
+
         protected WorldFeature(WorldGenerator worldGenerator, Class<? extends ForcedWorldFeatureBOP> forcedFeature)
         {
             this.worldGenerator = worldGenerator;
             this.forcedFeature = forcedFeature;
+
+            this.bopWorldGenerator = this.createBOPWorldGenerator();
         }
 
         protected WorldFeature(WorldGenerator worldGenerator)
@@ -191,6 +195,11 @@ public class WorldGenFieldAssociation
         }
 
         public IBOPWorldGenerator getBOPWorldGenerator()
+        {
+            return this.bopWorldGenerator;
+        }
+
+        private IBOPWorldGenerator createBOPWorldGenerator()
         {
             if (this.worldGenerator instanceof IBOPWorldGenerator)
             {
@@ -211,4 +220,4 @@ public class WorldGenFieldAssociation
             return null;
         }
     }
-}
\ No newline at end of file
+}
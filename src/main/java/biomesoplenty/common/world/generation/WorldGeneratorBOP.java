@@ -2,14 +2,19 @@ package biomesoplenty.common.world.generation;
 
 import java.util.Random;
 
+import net.minecraft.block.Block;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
 
 public abstract class WorldGeneratorBOP extends WorldGenerator implements IBOPWorldGenerator
 {
+    private final boolean doBlockNotify;
+
     public WorldGeneratorBOP(boolean doBlockNotify)
     {
         super(doBlockNotify);
+
+        this.doBlockNotify = doBlockNotify;
     }
 
     public WorldGeneratorBOP()
@@ -18,4 +23,21 @@ public abstract class WorldGeneratorBOP extends WorldGenerator implements IBOPWo
     }
     
 	public abstract boolean generate(World world, Random rand, int x, int y, int z);
+
+    /**
+     * Neighbours are never notified while decorating, as that only sets off block updates in the chunks
+     * around the one being decorated. Notifications are still sent when generating outside of decoration.
+     */
+    @Override
+    protected void setBlockAndNotifyAdequately(World world, int x, int y, int z, Block block, int meta)
+    {
+        if (this.doBlockNotify)
+        {
+            DecorationGuard.setBlock(world, x, y, z, block, meta);
+        }
+        else
+        {
+            world.setBlock(x, y, z, block, meta, 2);
+        }
+    }
 }
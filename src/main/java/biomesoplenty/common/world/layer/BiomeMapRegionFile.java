@@ -0,0 +1,138 @@
+package biomesoplenty.common.world.layer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Method;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A memory-mapped file holding REGION_SIZE x REGION_SIZE tiles of biome ids, one byte per id, each followed by
+ * a bitmap of which of its ids have been stored. The header records the seed and configuration the tiles were
+ * generated with, and the file is wiped if either of them no longer match.
+ */
+public class BiomeMapRegionFile
+{
+    public static final int TILE_SIZE = 512;
+    public static final int REGION_SIZE = 4;
+
+    private static final int MAGIC = 0x424F5042;
+    private static final int VERSION = 2;
+
+    //Magic, version, seed and config hash
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int TILE_BYTES = TILE_SIZE * TILE_SIZE;
+    private static final int PRESENCE_WORDS = TILE_SIZE * TILE_SIZE / 64;
+    private static final int TILE_SLOT_BYTES = TILE_BYTES + PRESENCE_WORDS * 8;
+
+    private final RandomAccessFile file;
+    private MappedByteBuffer buffer;
+
+    public BiomeMapRegionFile(File path, long seed, int configHash) throws IOException
+    {
+        this.file = new RandomAccessFile(path, "rw");
+
+        try
+        {
+            this.buffer = this.file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long)REGION_SIZE * REGION_SIZE * TILE_SLOT_BYTES);
+        }
+        catch (IOException e)
+        {
+            this.file.close();
+            throw e;
+        }
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getLong(8) != seed || buffer.getInt(16) != configHash)
+        {
+            //Clearing the presence bitmaps is enough to forget every stored id
+            for (int index = 0; index < REGION_SIZE * REGION_SIZE; index++)
+            {
+                int presenceOffset = HEADER_SIZE + index * TILE_SLOT_BYTES + TILE_BYTES;
+
+                for (int word = 0; word < PRESENCE_WORDS; word++) buffer.putLong(presenceOffset + word * 8, 0L);
+            }
+
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(8, seed);
+            buffer.putInt(16, configHash);
+        }
+    }
+
+    /**
+     * Copies the ids stored for the tile at the given position within this region into biomeIds, along with
+     * the bitmap of which of them have been stored.
+     */
+    public synchronized void readTile(int localTileX, int localTileZ, byte[] biomeIds, long[] present)
+    {
+        if (buffer == null) return;
+
+        int offset = HEADER_SIZE + (localTileX + localTileZ * REGION_SIZE) * TILE_SLOT_BYTES;
+
+        buffer.position(offset);
+        buffer.get(biomeIds, 0, TILE_BYTES);
+
+        for (int word = 0; word < PRESENCE_WORDS; word++)
+        {
+            present[word] = buffer.getLong(offset + TILE_BYTES + word * 8);
+        }
+    }
+
+    /**
+     * Stores the rows of the given tile from minZ to maxZ, along with their part of its bitmap.
+     */
+    public synchronized void writeRows(int localTileX, int localTileZ, byte[] biomeIds, long[] present, int minZ, int maxZ)
+    {
+        if (buffer == null) return;
+
+        int offset = HEADER_SIZE + (localTileX + localTileZ * REGION_SIZE) * TILE_SLOT_BYTES;
+
+        buffer.position(offset + minZ * TILE_SIZE);
+        buffer.put(biomeIds, minZ * TILE_SIZE, (maxZ - minZ + 1) * TILE_SIZE);
+
+        //Only mark the ids as present once they have been written
+        for (int word = minZ * TILE_SIZE / 64; word < (maxZ + 1) * TILE_SIZE / 64; word++)
+        {
+            buffer.putLong(offset + TILE_BYTES + word * 8, present[word]);
+        }
+    }
+
+    public synchronized void flush()
+    {
+        if (buffer != null) buffer.force();
+    }
+
+    public synchronized void close() throws IOException
+    {
+        if (buffer == null) return;
+
+        buffer.force();
+        unmap(buffer);
+        buffer = null;
+
+        file.close();
+    }
+
+    /**
+     * Releases the memory mapping of the given buffer straight away, rather than whenever it happens to be
+     * garbage collected, which on some platforms keeps the file locked until then.
+     */
+    private static void unmap(MappedByteBuffer buffer)
+    {
+        try
+        {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+
+            cleanerMethod.setAccessible(true);
+
+            Object cleaner = cleanerMethod.invoke(buffer);
+
+            if (cleaner != null) cleaner.getClass().getMethod("clean").invoke(cleaner);
+        }
+        catch (Exception e)
+        {
+            //Not available on this JVM, the mapping is released once the buffer is collected instead
+        }
+    }
+}
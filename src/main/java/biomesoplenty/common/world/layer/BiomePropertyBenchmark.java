@@ -0,0 +1,189 @@
+package biomesoplenty.common.world.layer;
+
+import java.util.Arrays;
+
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.biome.BiomeGenJungle;
+import net.minecraft.world.biome.BiomeGenMesa;
+import net.minecraft.world.biome.BiomeGenMutated;
+import net.minecraft.world.gen.layer.GenLayer;
+import net.minecraft.world.gen.layer.IntCache;
+import biomesoplenty.api.content.BOPCBiomes;
+import biomesoplenty.common.utils.BOPLogger;
+import biomesoplenty.common.world.BOPBiomeManager;
+import biomesoplenty.common.world.ChunkGenerationStats;
+
+/**
+ * Runs the overworld layer stack from GenLayerBOP.initializeAllBiomeGenerators twice over the same seed and area,
+ * once with a BiomePropertyTable and once with the checks the layers made before it, comparing their output and timing.
+ * The layers need our biomes, so this runs after they have been registered when the game is started with
+ * -Dbiomesoplenty.benchmarkBiomeLayers=true.
+ */
+public class BiomePropertyBenchmark
+{
+    private static final long SEED = 0L;
+
+    /** The area covered, in chunks either side of the origin */
+    private static final int RADIUS = 32;
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 20;
+
+    public static void run(WorldType worldType)
+    {
+        GenLayer tableLayer = GenLayerBOP.initializeAllBiomeGenerators(SEED, worldType, new BiomePropertyTable())[1];
+        GenLayer lookupLayer = GenLayerBOP.initializeAllBiomeGenerators(SEED, worldType, new LookupBiomeProperties())[1];
+
+        if (!Arrays.equals(getBiomeIds(tableLayer), getBiomeIds(lookupLayer)))
+        {
+            BOPLogger.severe("The overworld layers give different biomes with the biome property table than without it");
+            return;
+        }
+
+        //Run both a few times first so that neither is timed before it has been compiled
+        for (int round = 0; round < WARMUP_ROUNDS; round++)
+        {
+            generate(tableLayer);
+            generate(lookupLayer);
+        }
+
+        long lookupNanos = 0L;
+        long tableNanos = 0L;
+        long lookupAllocatedBytes = 0L;
+        long tableAllocatedBytes = 0L;
+
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            //Alternate which goes first so that neither always runs with the other's leftovers in the cache
+            for (int turn = 0; turn < 2; turn++)
+            {
+                boolean useTable = (round + turn) % 2 == 0;
+                long startAllocatedBytes = ChunkGenerationStats.getAllocatedBytes();
+                long startNanos = System.nanoTime();
+
+                generate(useTable ? tableLayer : lookupLayer);
+
+                long nanos = System.nanoTime() - startNanos;
+                long allocatedBytes = ChunkGenerationStats.getAllocatedBytes() - startAllocatedBytes;
+
+                if (useTable)
+                {
+                    tableNanos += nanos;
+                    tableAllocatedBytes += allocatedBytes;
+                }
+                else
+                {
+                    lookupNanos += nanos;
+                    lookupAllocatedBytes += allocatedBytes;
+                }
+            }
+        }
+
+        long chunks = (long)(RADIUS * 2 + 1) * (RADIUS * 2 + 1) * ROUNDS;
+
+        BOPLogger.info("Overworld layers with lookups: {} ns per chunk, {} bytes allocated per chunk", (double)lookupNanos / chunks, (double)lookupAllocatedBytes / chunks);
+        BOPLogger.info("Overworld layers with the biome property table: {} ns per chunk, {} bytes allocated per chunk", (double)tableNanos / chunks, (double)tableAllocatedBytes / chunks);
+    }
+
+    /**
+     * Generates the biomes of every chunk in the area, as WorldChunkManager.getBiomeGenAt does for each chunk.
+     */
+    private static void generate(GenLayer biomeIndexLayer)
+    {
+        for (int chunkX = -RADIUS; chunkX <= RADIUS; chunkX++)
+        {
+            for (int chunkZ = -RADIUS; chunkZ <= RADIUS; chunkZ++)
+            {
+                IntCache.resetIntCache();
+                biomeIndexLayer.getInts(chunkX << 4, chunkZ << 4, 16, 16);
+            }
+        }
+    }
+
+    /**
+     * Gets the biome ids of the whole area, copied out of the IntCache so they outlive the next call.
+     */
+    private static int[] getBiomeIds(GenLayer biomeIndexLayer)
+    {
+        int[] biomeIds = new int[(RADIUS * 2 + 1) * (RADIUS * 2 + 1) * 256];
+        int offset = 0;
+
+        for (int chunkX = -RADIUS; chunkX <= RADIUS; chunkX++)
+        {
+            for (int chunkZ = -RADIUS; chunkZ <= RADIUS; chunkZ++)
+            {
+                IntCache.resetIntCache();
+                System.arraycopy(biomeIndexLayer.getInts(chunkX << 4, chunkZ << 4, 16, 16), 0, biomeIds, offset, 256);
+                offset += 256;
+            }
+        }
+
+        return biomeIds;
+    }
+
+    /**
+     * Answers each check the way the shore, river mix and mutation layers did before the table was added.
+     */
+    private static class LookupBiomeProperties extends BiomePropertyTable
+    {
+        @Override
+        public boolean isOceanic(int biomeId)
+        {
+            return BOPBiomeManager.isBiomeOceanic(biomeId) || biomeId == BiomeGenBase.ocean.biomeID || biomeId == BiomeGenBase.deepOcean.biomeID || biomeId == BiomeGenBase.frozenOcean.biomeID;
+        }
+
+        @Override
+        public boolean isSnowy(int biomeId)
+        {
+            BiomeGenBase biome = BiomeGenBase.getBiome(biomeId);
+
+            return biome != null && biome.func_150559_j();
+        }
+
+        @Override
+        public boolean isJungle(int biomeId)
+        {
+            BiomeGenBase biome = BiomeGenBase.getBiome(biomeId);
+
+            return biome != null && biome.getBiomeClass() == BiomeGenJungle.class;
+        }
+
+        @Override
+        public boolean isJungleEdgeNeighbour(int biomeId)
+        {
+            return BiomeGenBase.getBiome(biomeId) != null && BiomeGenBase.getBiome(biomeId).getBiomeClass() == BiomeGenJungle.class ? true : biomeId == BiomeGenBase.jungleEdge.biomeID || biomeId == BiomeGenBase.jungle.biomeID || biomeId == BiomeGenBase.jungleHills.biomeID || biomeId == BiomeGenBase.forest.biomeID || biomeId == BiomeGenBase.taiga.biomeID || this.isOceanic(biomeId);
+        }
+
+        @Override
+        public boolean isMesa(int biomeId)
+        {
+            return BiomeGenBase.getBiome(biomeId) != null && BiomeGenBase.getBiome(biomeId) instanceof BiomeGenMesa;
+        }
+
+        @Override
+        public boolean isMutated(int biomeId)
+        {
+            BiomeGenBase mutatedBiome = BiomeGenBase.getBiome(biomeId);
+
+            return mutatedBiome != null && mutatedBiome instanceof BiomeGenMutated;
+        }
+
+        @Override
+        public boolean hasFrozenRiver(int biomeId)
+        {
+            return biomeId == BiomeGenBase.icePlains.biomeID || isBiome(biomeId, BOPCBiomes.alps) || isBiome(biomeId, BOPCBiomes.alpsForest) || isBiome(biomeId, BOPCBiomes.arctic) || isBiome(biomeId, BOPCBiomes.glacier) || isBiome(biomeId, BOPCBiomes.frostForest) || isBiome(biomeId, BOPCBiomes.snowyConiferousForest);
+        }
+
+        @Override
+        public int getRiverOverride(int biomeId)
+        {
+            return BOPBiomeManager.overworldRiverBiomes[biomeId] != null ? BOPBiomeManager.overworldRiverBiomes[biomeId].biomeID : -1;
+        }
+
+        private static boolean isBiome(int biomeId, BiomeGenBase biome)
+        {
+            return biome != null && biomeId == biome.biomeID;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package biomesoplenty.common.world.layer;
+
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.biome.BiomeGenJungle;
+import net.minecraft.world.biome.BiomeGenMesa;
+import net.minecraft.world.biome.BiomeGenMutated;
+import biomesoplenty.api.content.BOPCBiomes;
+import biomesoplenty.common.world.BOPBiomeManager;
+
+/**
+ * The properties of every biome that our layers check for each cell, worked out once when the layers are created
+ * so that checking them is an array lookup rather than a search through a list or a biome's class.
+ */
+public class BiomePropertyTable
+{
+    private final boolean[] oceanic;
+    private final boolean[] snowy;
+    private final boolean[] jungle;
+    private final boolean[] jungleEdgeNeighbour;
+    private final boolean[] mesa;
+    private final boolean[] mutated;
+    private final boolean[] frozenRiver;
+
+    /** The id of the river to use in place of the vanilla one for each biome, or -1 if there isn't one */
+    private final int[] riverOverrides;
+
+    public BiomePropertyTable()
+    {
+        BiomeGenBase[] biomes = BiomeGenBase.getBiomeGenArray();
+
+        this.oceanic = new boolean[biomes.length];
+        this.snowy = new boolean[biomes.length];
+        this.jungle = new boolean[biomes.length];
+        this.jungleEdgeNeighbour = new boolean[biomes.length];
+        this.mesa = new boolean[biomes.length];
+        this.mutated = new boolean[biomes.length];
+        this.frozenRiver = new boolean[biomes.length];
+        this.riverOverrides = new int[biomes.length];
+
+        for (int id = 0; id < biomes.length; id++)
+        {
+            BiomeGenBase biome = biomes[id];
+
+            //The same oceans as GenLayer.isBiomeOceanic, which isn't visible here, along with our own
+            oceanic[id] = BOPBiomeManager.isBiomeOceanic(id) || id == BiomeGenBase.ocean.biomeID || id == BiomeGenBase.deepOcean.biomeID || id == BiomeGenBase.frozenOcean.biomeID;
+            riverOverrides[id] = id < BOPBiomeManager.overworldRiverBiomes.length && BOPBiomeManager.overworldRiverBiomes[id] != null ? BOPBiomeManager.overworldRiverBiomes[id].biomeID : -1;
+
+            if (biome == null) continue;
+
+            snowy[id] = biome.func_150559_j();
+            jungle[id] = biome.getBiomeClass() == BiomeGenJungle.class;
+            mesa[id] = biome instanceof BiomeGenMesa;
+            mutated[id] = biome instanceof BiomeGenMutated;
+        }
+
+        for (int id = 0; id < biomes.length; id++)
+        {
+            jungleEdgeNeighbour[id] = jungle[id] || oceanic[id] || id == BiomeGenBase.jungleEdge.biomeID || id == BiomeGenBase.jungle.biomeID || id == BiomeGenBase.jungleHills.biomeID || id == BiomeGenBase.forest.biomeID || id == BiomeGenBase.taiga.biomeID;
+        }
+
+        this.setFrozenRiver(BiomeGenBase.icePlains, BOPCBiomes.alps, BOPCBiomes.alpsForest, BOPCBiomes.arctic, BOPCBiomes.glacier, BOPCBiomes.frostForest, BOPCBiomes.snowyConiferousForest);
+    }
+
+    private void setFrozenRiver(BiomeGenBase... biomes)
+    {
+        for (BiomeGenBase biome : biomes)
+        {
+            if (biome != null) frozenRiver[biome.biomeID] = true;
+        }
+    }
+
+    public boolean isOceanic(int biomeId)
+    {
+        return biomeId >= 0 && biomeId < oceanic.length && oceanic[biomeId];
+    }
+
+    /**
+     * Whether the biome is snowy enough to have cold beaches.
+     */
+    public boolean isSnowy(int biomeId)
+    {
+        return biomeId >= 0 && biomeId < snowy.length && snowy[biomeId];
+    }
+
+    public boolean isJungle(int biomeId)
+    {
+        return biomeId >= 0 && biomeId < jungle.length && jungle[biomeId];
+    }
+
+    /**
+     * Whether a jungle next to the biome can keep its full size rather than becoming a jungle edge.
+     */
+    public boolean isJungleEdgeNeighbour(int biomeId)
+    {
+        return biomeId >= 0 && biomeId < jungleEdgeNeighbour.length && jungleEdgeNeighbour[biomeId];
+    }
+
+    public boolean isMesa(int biomeId)
+    {
+        return biomeId >= 0 && biomeId < mesa.length && mesa[biomeId];
+    }
+
+    public boolean isMutated(int biomeId)
+    {
+        return biomeId >= 0 && biomeId < mutated.length && mutated[biomeId];
+    }
+
+    /**
+     * Whether rivers running through the biome should be frozen.
+     */
+    public boolean hasFrozenRiver(int biomeId)
+    {
+        return biomeId >= 0 && biomeId < frozenRiver.length && frozenRiver[biomeId];
+    }
+
+    public int getRiverOverride(int biomeId)
+    {
+        return biomeId >= 0 && biomeId < riverOverrides.length ? riverOverrides[biomeId] : -1;
+    }
+}
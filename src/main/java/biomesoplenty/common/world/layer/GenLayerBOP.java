@@ -28,6 +28,14 @@ public abstract class GenLayerBOP extends GenLayer
 	}
 
     public static GenLayer[] initializeAllBiomeGenerators(long seed, WorldType par2WorldType)
+    {
+        return initializeAllBiomeGenerators(seed, par2WorldType, new BiomePropertyTable());
+    }
+
+    /**
+     * Creates the layers with the given biome properties, which BiomePropertyBenchmark swaps for the checks they replaced.
+     */
+    public static GenLayer[] initializeAllBiomeGenerators(long seed, WorldType par2WorldType, BiomePropertyTable biomeProperties)
     {
         boolean flag = false;
         GenLayer genLayerCreateLand = BOPConfigurationTerrainGen.oceanFiller ? new GenLayerIsland(1L) : new GenLayerCreateLand(1L);
@@ -63,7 +71,7 @@ public abstract class GenLayerBOP extends GenLayer
 
         GenLayer genlayer1 = GenLayerZoom.magnify(1000L, genlayerriverinit, 2);
         //GenLayerHills genlayerhills = new GenLayerHills(1000L, (GenLayer)object, genlayer1);
-        GenLayerMutationBOP genlayermutation = new GenLayerMutationBOP(1000L, (GenLayer)object, genlayer1);
+        GenLayerMutationBOP genlayermutation = new GenLayerMutationBOP(1000L, (GenLayer)object, genlayer1, biomeProperties);
         //
         GenLayerSubBiome genlayersubbiome = new GenLayerSubBiome(1500L, genlayermutation);
         //
@@ -85,12 +93,12 @@ public abstract class GenLayerBOP extends GenLayer
 
             if (j == 1)
             {
-                object = new GenLayerShoreBOP(1000L, (GenLayer)object);
+                object = new GenLayerShoreBOP(1000L, (GenLayer)object, biomeProperties);
             }
         }
 
         GenLayerSmooth genlayersmooth1 = new GenLayerSmooth(1000L, (GenLayer)object);
-        GenLayerRiverMixBOP genlayerrivermix = new GenLayerRiverMixBOP(100L, genlayersmooth1, genlayersmooth);
+        GenLayerRiverMixBOP genlayerrivermix = new GenLayerRiverMixBOP(100L, genlayersmooth1, genlayersmooth, biomeProperties);
         GenLayerVoronoiZoom genlayervoronoizoom = new GenLayerVoronoiZoom(10L, genlayerrivermix);
         genlayerrivermix.initWorldGenSeed(seed);
         genlayervoronoizoom.initWorldGenSeed(seed);
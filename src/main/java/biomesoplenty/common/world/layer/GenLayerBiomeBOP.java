@@ -21,6 +21,12 @@ public class GenLayerBiomeBOP extends GenLayerBiome
 	public final List<BiomeEntry>[] biomeLists = new ArrayList[] { new ArrayList(), new ArrayList(), new ArrayList(), new ArrayList() };
 	private final int[] totalWeights = new int[biomeLists.length];
 	
+	//Compiled from biomeLists once they are complete, so picking a biome doesn't need to walk a list of entries
+	private final int[][] biomeIds = new int[biomeLists.length][];
+	private final int[][] cumulativeWeights = new int[biomeLists.length][];
+	private final int[] validListScratch = new int[biomeLists.length];
+	private boolean allListsValid = true;
+	
 	public GenLayerBiomeBOP(long seed, GenLayer parentLayer, WorldType worldType) 
 	{
 		super(seed, parentLayer, worldType);
@@ -61,6 +67,22 @@ public class GenLayerBiomeBOP extends GenLayerBiome
         	if (currentBiomeList.isEmpty()) currentBiomeList.addAll(createMixedList());
         	
         	totalWeights[i] = WeightedRandom.getTotalWeight(currentBiomeList);
+        	
+        	biomeIds[i] = new int[currentBiomeList.size()];
+        	cumulativeWeights[i] = new int[currentBiomeList.size()];
+        	
+        	int cumulativeWeight = 0;
+        	
+        	for (int j = 0; j < currentBiomeList.size(); j++)
+        	{
+        		BiomeEntry entry = currentBiomeList.get(j);
+        		
+        		cumulativeWeight += entry.itemWeight;
+        		biomeIds[i][j] = entry.biome.biomeID;
+        		cumulativeWeights[i][j] = cumulativeWeight;
+        	}
+        	
+        	if (currentBiomeList.isEmpty()) allListsValid = false;
         }
 	}
 	
@@ -154,39 +176,50 @@ public class GenLayerBiomeBOP extends GenLayerBiome
     
     private int getRandomValidList()
     {
-    	List<Integer> validLists = new ArrayList();
+    	if (allListsValid) return this.nextInt(biomeLists.length);
     	
-    	for (int i = 0; i < biomeLists.length; i++) validLists.add(i);
+    	//Mirrors picking from a shrinking list of candidates so that the same random numbers are consumed
+    	int[] validLists = this.validListScratch;
+    	int validListCount = validLists.length;
     	
-    	int list = -1;
+    	for (int i = 0; i < validListCount; i++) validLists[i] = i;
     	
-    	while (list == -1)
+    	while (validListCount > 0)
     	{
-    		int validListCount = validLists.size();
+    		int index = this.nextInt(validListCount);
+    		int randList = validLists[index];
     		
-    		if (validListCount > 0)
-    		{
-    			int randList = validLists.get(this.nextInt(validListCount));
-    			List<BiomeEntry> currentList = biomeLists[randList];
-
-    			if (currentList != null && !currentList.isEmpty()) list = randList;
-    			else validLists.remove((Object)randList);
-    		}
-    		else throw new RuntimeException("No biomes are enabled!");
+    		if (biomeIds[randList].length > 0) return randList;
+    		
+    		System.arraycopy(validLists, index + 1, validLists, index, validListCount - index - 1);
+    		validListCount--;
     	}
-
-    	return list;
+    	
+    	throw new RuntimeException("No biomes are enabled!");
     }
 
     private int getBiomeIdFromList(int listId)
     {
-    	List<BiomeEntry> currentBiomeList = biomeLists[listId];
+    	int[] currentBiomeIds = biomeIds[listId];
 
-    	if (!currentBiomeList.isEmpty())
+    	if (currentBiomeIds.length > 0)
     	{
     		int weight = nextInt(totalWeights[listId]);
+    		int[] currentWeights = cumulativeWeights[listId];
+    		
+    		//Find the first entry whose cumulative weight exceeds the chosen weight, as WeightedRandom.getItem does
+    		int low = 0;
+    		int high = currentWeights.length - 1;
+    		
+    		while (low < high)
+    		{
+    			int mid = (low + high) >>> 1;
+    			
+    			if (currentWeights[mid] > weight) high = mid;
+    			else low = mid + 1;
+    		}
 
-    		return ((BiomeEntry)WeightedRandom.getItem(biomeLists[listId], weight)).biome.biomeID;
+    		return currentBiomeIds[low];
     	}
     	else throw new RuntimeException("No biomes are enabled!");
     }
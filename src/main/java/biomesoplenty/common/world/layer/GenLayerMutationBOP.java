@@ -1,7 +1,6 @@
 package biomesoplenty.common.world.layer;
 
 import net.minecraft.world.biome.BiomeGenBase;
-import net.minecraft.world.biome.BiomeGenMutated;
 import net.minecraft.world.gen.layer.GenLayer;
 import net.minecraft.world.gen.layer.IntCache;
 
@@ -11,12 +10,14 @@ import org.apache.logging.log4j.Logger;
 public class GenLayerMutationBOP extends GenLayer
 {
     private GenLayer field_151628_d;
+    private BiomePropertyTable biomeProperties;
 
-    public GenLayerMutationBOP(long seed, GenLayer parent, GenLayer p_i45479_4_)
+    public GenLayerMutationBOP(long seed, GenLayer parent, GenLayer p_i45479_4_, BiomePropertyTable biomeProperties)
     {
         super(seed);
         this.parent = parent;
         this.field_151628_d = p_i45479_4_;
+        this.biomeProperties = biomeProperties;
     }
 
     /**
@@ -41,9 +42,7 @@ public class GenLayerMutationBOP extends GenLayer
 
                 if (currentBiomeId != 0 && l1 >= 2 && (l1 - 2) % 29 == 1 && currentBiomeId < 128)
                 {
-                    BiomeGenBase mutatedBiome = BiomeGenBase.getBiome(currentBiomeId + 128);
-                	
-                    if (mutatedBiome != null && mutatedBiome instanceof BiomeGenMutated)
+                    if (biomeProperties.isMutated(currentBiomeId + 128))
                     {
                         outputBiomeIds[xItr + zItr * length] = currentBiomeId + 128;
                     }
@@ -140,9 +139,7 @@ public class GenLayerMutationBOP extends GenLayer
 
                     if (hills && mutatedBiomeId != currentBiomeId)
                     {
-                        BiomeGenBase mutatedBiome = BiomeGenBase.getBiome(mutatedBiomeId + 128);
-                        
-                        if (mutatedBiome != null && mutatedBiome instanceof BiomeGenMutated)
+                        if (biomeProperties.isMutated(mutatedBiomeId + 128))
                         {
                             mutatedBiomeId += 128;
                         }
@@ -0,0 +1,278 @@
+package biomesoplenty.common.world.layer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.minecraft.world.gen.layer.GenLayer;
+import net.minecraft.world.gen.layer.IntCache;
+import biomesoplenty.common.utils.BOPLogger;
+
+/**
+ * Serves the output of its parent from 512x512 tiles stored in BiomeMapRegionFiles. Tiles are filled in as
+ * areas are requested, with any area that isn't fully stored yet being generated by the parent as usual.
+ *
+ * The layers below this one are only ever called with the area the caller asked for, so they share the
+ * IntCache with the caller exactly as they would without it. Layers aren't safe to use from several threads
+ * at once, and the server thread and the spawn search can both reach this one, so requests are handled one
+ * at a time.
+ */
+public class GenLayerPersistentCache extends GenLayer
+{
+    private static final int TILE_SHIFT = 9;
+    private static final int TILE_SIZE = BiomeMapRegionFile.TILE_SIZE;
+    private static final int REGION_SHIFT = 2;
+    private static final int REGION_MASK = BiomeMapRegionFile.REGION_SIZE - 1;
+
+    private static final int MAX_OPEN_REGIONS = 16;
+    private static final int MAX_LOADED_TILES = 16;
+
+    private final File directory;
+    private final String name;
+    private final long seed;
+    private final int configHash;
+
+    private boolean storageFailed = false;
+    private boolean closed = false;
+
+    private final LinkedHashMap<Long, BiomeMapRegionFile> openRegions = new LinkedHashMap<Long, BiomeMapRegionFile>(MAX_OPEN_REGIONS, 0.75F, true);
+    private final LinkedHashMap<Long, Tile> loadedTiles = new LinkedHashMap<Long, Tile>(MAX_LOADED_TILES, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Tile> eldest)
+        {
+            return this.size() > MAX_LOADED_TILES;
+        }
+    };
+
+    public GenLayerPersistentCache(GenLayer parent, File directory, String name, long seed, int configHash)
+    {
+        super(0L);
+
+        this.parent = parent;
+        this.directory = directory;
+        this.name = name;
+        this.seed = seed;
+        this.configHash = configHash;
+    }
+
+    @Override
+    public synchronized int[] getInts(int x, int z, int width, int length)
+    {
+        int minTileX = x >> TILE_SHIFT;
+        int minTileZ = z >> TILE_SHIFT;
+        int maxTileX = (x + width - 1) >> TILE_SHIFT;
+        int maxTileZ = (z + length - 1) >> TILE_SHIFT;
+        int tilesWide = maxTileX - minTileX + 1;
+
+        Tile[] tiles = new Tile[tilesWide * (maxTileZ - minTileZ + 1)];
+        boolean stored = true;
+
+        for (int tileZ = minTileZ; tileZ <= maxTileZ; tileZ++)
+        {
+            for (int tileX = minTileX; tileX <= maxTileX; tileX++)
+            {
+                Tile tile = this.getTile(tileX, tileZ);
+
+                tiles[(tileX - minTileX) + (tileZ - minTileZ) * tilesWide] = tile;
+
+                if (stored && !tile.isStored(x - (tileX << TILE_SHIFT), z - (tileZ << TILE_SHIFT), width, length)) stored = false;
+            }
+        }
+
+        if (!stored)
+        {
+            int[] biomeIDs = this.parent.getInts(x, z, width, length);
+
+            for (int tileZ = minTileZ; tileZ <= maxTileZ; tileZ++)
+            {
+                for (int tileX = minTileX; tileX <= maxTileX; tileX++)
+                {
+                    Tile tile = tiles[(tileX - minTileX) + (tileZ - minTileZ) * tilesWide];
+
+                    tile.store(biomeIDs, x - (tileX << TILE_SHIFT), z - (tileZ << TILE_SHIFT), width, length);
+                    this.writeTile(tileX, tileZ, tile, z - (tileZ << TILE_SHIFT), length);
+                }
+            }
+
+            return biomeIDs;
+        }
+
+        int[] outputBiomeIDs = IntCache.getIntCache(width * length);
+
+        for (int zi = 0; zi < length; zi++)
+        {
+            int currentZ = z + zi;
+            int tileZ = currentZ >> TILE_SHIFT;
+            int localZ = currentZ - (tileZ << TILE_SHIFT);
+
+            for (int xi = 0; xi < width; xi++)
+            {
+                int currentX = x + xi;
+                int tileX = currentX >> TILE_SHIFT;
+                Tile tile = tiles[(tileX - minTileX) + (tileZ - minTileZ) * tilesWide];
+
+                outputBiomeIDs[xi + zi * width] = tile.biomeIds[(currentX - (tileX << TILE_SHIFT)) + localZ * TILE_SIZE] & 255;
+            }
+        }
+
+        return outputBiomeIDs;
+    }
+
+    private Tile getTile(int tileX, int tileZ)
+    {
+        Long key = getKey(tileX, tileZ);
+        Tile tile = loadedTiles.get(key);
+
+        if (tile != null) return tile;
+
+        tile = new Tile();
+
+        BiomeMapRegionFile region = this.getRegion(tileX >> REGION_SHIFT, tileZ >> REGION_SHIFT);
+
+        if (region != null) region.readTile(tileX & REGION_MASK, tileZ & REGION_MASK, tile.biomeIds, tile.present);
+
+        loadedTiles.put(key, tile);
+
+        return tile;
+    }
+
+    /**
+     * Stores the rows of the tile covered by an area that starts at localZ within it.
+     */
+    private void writeTile(int tileX, int tileZ, Tile tile, int localZ, int length)
+    {
+        BiomeMapRegionFile region = this.getRegion(tileX >> REGION_SHIFT, tileZ >> REGION_SHIFT);
+
+        if (region != null) region.writeRows(tileX & REGION_MASK, tileZ & REGION_MASK, tile.biomeIds, tile.present, Math.max(localZ, 0), Math.min(localZ + length, TILE_SIZE) - 1);
+    }
+
+    private BiomeMapRegionFile getRegion(int regionX, int regionZ)
+    {
+        if (storageFailed || closed) return null;
+
+        Long key = getKey(regionX, regionZ);
+        BiomeMapRegionFile region = openRegions.get(key);
+
+        if (region == null)
+        {
+            try
+            {
+                directory.mkdirs();
+
+                region = new BiomeMapRegionFile(new File(directory, name + "." + regionX + "." + regionZ + ".bopbm"), seed, configHash);
+            }
+            catch (IOException e)
+            {
+                BOPLogger.warning("Unable to open the biome cache in {}, biomes will be generated without it: {}", directory, e);
+                storageFailed = true;
+
+                return null;
+            }
+
+            if (openRegions.size() >= MAX_OPEN_REGIONS)
+            {
+                Iterator<BiomeMapRegionFile> iterator = openRegions.values().iterator();
+
+                closeRegion(iterator.next());
+                iterator.remove();
+            }
+
+            openRegions.put(key, region);
+        }
+
+        return region;
+    }
+
+    public synchronized void flush()
+    {
+        for (BiomeMapRegionFile region : openRegions.values())
+        {
+            region.flush();
+        }
+    }
+
+    /**
+     * Closes every region file. Anything requested afterwards is generated without being stored.
+     */
+    public synchronized void close()
+    {
+        for (BiomeMapRegionFile region : openRegions.values())
+        {
+            closeRegion(region);
+        }
+
+        openRegions.clear();
+        loadedTiles.clear();
+        closed = true;
+    }
+
+    private void closeRegion(BiomeMapRegionFile region)
+    {
+        try
+        {
+            region.close();
+        }
+        catch (IOException e)
+        {
+            BOPLogger.warning("Failed to close biome cache region in {}: {}", directory, e);
+        }
+    }
+
+    private static Long getKey(int x, int z)
+    {
+        return Long.valueOf(((long)x & 4294967295L) | ((long)z & 4294967295L) << 32);
+    }
+
+    private static class Tile
+    {
+        public final byte[] biomeIds = new byte[TILE_SIZE * TILE_SIZE];
+
+        /** One bit for each id, set once it has been generated */
+        public final long[] present = new long[TILE_SIZE * TILE_SIZE / 64];
+
+        /**
+         * Whether every id in the part of the given area that lies within this tile has been stored. The area
+         * is relative to the tile and may extend past any of its edges.
+         */
+        public boolean isStored(int localX, int localZ, int width, int length)
+        {
+            int minX = Math.max(localX, 0);
+            int maxX = Math.min(localX + width, TILE_SIZE);
+
+            for (int zi = Math.max(localZ, 0); zi < Math.min(localZ + length, TILE_SIZE); zi++)
+            {
+                for (int xi = minX; xi < maxX; xi++)
+                {
+                    int index = xi + zi * TILE_SIZE;
+
+                    if ((present[index >> 6] & 1L << (index & 63)) == 0L) return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Copies the ids generated for an area into the part of it that lies within this tile.
+         */
+        public void store(int[] biomeIDs, int localX, int localZ, int width, int length)
+        {
+            int minX = Math.max(localX, 0);
+            int maxX = Math.min(localX + width, TILE_SIZE);
+
+            for (int zi = Math.max(localZ, 0); zi < Math.min(localZ + length, TILE_SIZE); zi++)
+            {
+                for (int xi = minX; xi < maxX; xi++)
+                {
+                    int index = xi + zi * TILE_SIZE;
+
+                    biomeIds[index] = (byte)biomeIDs[(xi - localX) + (zi - localZ) * width];
+                    present[index >> 6] |= 1L << (index & 63);
+                }
+            }
+        }
+    }
+}
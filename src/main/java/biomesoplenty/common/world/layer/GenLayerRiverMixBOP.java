@@ -4,20 +4,20 @@ import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.layer.GenLayer;
 import net.minecraft.world.gen.layer.GenLayerRiverMix;
 import net.minecraft.world.gen.layer.IntCache;
-import biomesoplenty.api.content.BOPCBiomes;
-import biomesoplenty.common.world.BOPBiomeManager;
 
 public class GenLayerRiverMixBOP extends GenLayerRiverMix
 {
     private GenLayer biomePatternGeneratorChain;
     private GenLayer riverPatternGeneratorChain;
+    private BiomePropertyTable biomeProperties;
 
-    public GenLayerRiverMixBOP(long seed, GenLayer biomePatternGeneratorChain, GenLayer riverPatternGeneratorChain)
+    public GenLayerRiverMixBOP(long seed, GenLayer biomePatternGeneratorChain, GenLayer riverPatternGeneratorChain, BiomePropertyTable biomeProperties)
     {
         super(seed, biomePatternGeneratorChain, riverPatternGeneratorChain);
         
         this.biomePatternGeneratorChain = biomePatternGeneratorChain;
         this.riverPatternGeneratorChain = riverPatternGeneratorChain;
+        this.biomeProperties = biomeProperties;
     }
 
     @Override
@@ -41,13 +41,15 @@ public class GenLayerRiverMixBOP extends GenLayerRiverMix
             {
                 if (riverBiomeIds[i1] == BiomeGenBase.river.biomeID)
                 {
-                    if (inputBiomeIds[i1] == BiomeGenBase.icePlains.biomeID || inputBiomeIds[i1] == BOPCBiomes.alps.biomeID || inputBiomeIds[i1] == BOPCBiomes.alpsForest.biomeID || inputBiomeIds[i1] == BOPCBiomes.arctic.biomeID || inputBiomeIds[i1] == BOPCBiomes.glacier.biomeID || inputBiomeIds[i1] == BOPCBiomes.frostForest.biomeID || inputBiomeIds[i1] == BOPCBiomes.snowyConiferousForest.biomeID)
+                    int riverOverride = biomeProperties.getRiverOverride(inputBiomeIds[i1]);
+
+                    if (biomeProperties.hasFrozenRiver(inputBiomeIds[i1]))
                     {
                         outputBiomeIds[i1] = BiomeGenBase.frozenRiver.biomeID;
                     }
-                    else if (BOPBiomeManager.overworldRiverBiomes[inputBiomeIds[i1]] != null)
+                    else if (riverOverride != -1)
                     {
-                        outputBiomeIds[i1] = BOPBiomeManager.overworldRiverBiomes[inputBiomeIds[i1]].biomeID;
+                        outputBiomeIds[i1] = riverOverride;
                     }
                     else if (inputBiomeIds[i1] != BiomeGenBase.mushroomIsland.biomeID && inputBiomeIds[i1] != BiomeGenBase.mushroomIslandShore.biomeID)
                     {
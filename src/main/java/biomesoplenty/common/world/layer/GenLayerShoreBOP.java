@@ -1,19 +1,19 @@
 package biomesoplenty.common.world.layer;
 
 import net.minecraft.world.biome.BiomeGenBase;
-import net.minecraft.world.biome.BiomeGenJungle;
-import net.minecraft.world.biome.BiomeGenMesa;
 import net.minecraft.world.gen.layer.GenLayer;
 import net.minecraft.world.gen.layer.IntCache;
-import biomesoplenty.common.world.BOPBiomeManager;
 
 public class GenLayerShoreBOP extends GenLayer
 {
-    public GenLayerShoreBOP(long seed, GenLayer parent)
+    private final BiomePropertyTable biomeProperties;
+
+    public GenLayerShoreBOP(long seed, GenLayer parent, BiomePropertyTable biomeProperties)
     {
         super(seed);
         
         this.parent = parent;
+        this.biomeProperties = biomeProperties;
     }
 
     @Override
@@ -28,7 +28,6 @@ public class GenLayerShoreBOP extends GenLayer
             {
                 this.initChunkSeed((long)(j1 + x), (long)(i1 + z));
                 int landBiomeId = inputBiomeIds[j1 + 1 + (i1 + 1) * (width + 2)];
-                BiomeGenBase biomegenbase = BiomeGenBase.getBiome(landBiomeId);
                 int l1;
                 int i2;
                 int j2;
@@ -50,7 +49,7 @@ public class GenLayerShoreBOP extends GenLayer
                         outputBiomeIds[j1 + i1 * width] = BiomeGenBase.mushroomIslandShore.biomeID;
                     }
                 }
-                else if (biomegenbase != null && biomegenbase.getBiomeClass() == BiomeGenJungle.class)
+                else if (biomeProperties.isJungle(landBiomeId))
                 {
                     l1 = inputBiomeIds[j1 + 1 + (i1 + 1 - 1) * (width + 2)];
                     i2 = inputBiomeIds[j1 + 1 + 1 + (i1 + 1) * (width + 2)];
@@ -59,7 +58,7 @@ public class GenLayerShoreBOP extends GenLayer
 
                     if (this.func_151631_c(l1) && this.func_151631_c(i2) && this.func_151631_c(j2) && this.func_151631_c(k2))
                     {
-                        if (!isBiomeOceanic(l1) && !isBiomeOceanic(i2) && !isBiomeOceanic(j2) && !isBiomeOceanic(k2))
+                        if (!biomeProperties.isOceanic(l1) && !biomeProperties.isOceanic(i2) && !biomeProperties.isOceanic(j2) && !biomeProperties.isOceanic(k2))
                         {
                             outputBiomeIds[j1 + i1 * width] = landBiomeId;
                         }
@@ -75,20 +74,20 @@ public class GenLayerShoreBOP extends GenLayer
                 }
                 else if (landBiomeId != BiomeGenBase.extremeHills.biomeID && landBiomeId != BiomeGenBase.extremeHillsPlus.biomeID && landBiomeId != BiomeGenBase.extremeHillsEdge.biomeID)
                 {
-                    if (biomegenbase != null && biomegenbase.func_150559_j())
+                    if (biomeProperties.isSnowy(landBiomeId))
                     {
                         this.func_151632_a(inputBiomeIds, outputBiomeIds, j1, i1, width, landBiomeId, BiomeGenBase.coldBeach.biomeID);
                     }
                     else if (landBiomeId != BiomeGenBase.mesa.biomeID && landBiomeId != BiomeGenBase.mesaPlateau_F.biomeID)
                     {
-                        if (!BOPBiomeManager.isBiomeOceanic(landBiomeId) && landBiomeId != BiomeGenBase.ocean.biomeID && landBiomeId != BiomeGenBase.deepOcean.biomeID && landBiomeId != BiomeGenBase.river.biomeID && landBiomeId != BiomeGenBase.swampland.biomeID)
+                        if (!biomeProperties.isOceanic(landBiomeId) && landBiomeId != BiomeGenBase.river.biomeID && landBiomeId != BiomeGenBase.swampland.biomeID)
                         {
                             l1 = inputBiomeIds[j1 + 1 + (i1 + 1 - 1) * (width + 2)];
                             i2 = inputBiomeIds[j1 + 1 + 1 + (i1 + 1) * (width + 2)];
                             j2 = inputBiomeIds[j1 + 1 - 1 + (i1 + 1) * (width + 2)];
                             k2 = inputBiomeIds[j1 + 1 + (i1 + 1 + 1) * (width + 2)];
 
-                            if (!isBiomeOceanic(l1) && !isBiomeOceanic(i2) && !isBiomeOceanic(j2) && !isBiomeOceanic(k2))
+                            if (!biomeProperties.isOceanic(l1) && !biomeProperties.isOceanic(i2) && !biomeProperties.isOceanic(j2) && !biomeProperties.isOceanic(k2))
                             {
                                 outputBiomeIds[j1 + i1 * width] = landBiomeId;
                             }
@@ -109,7 +108,7 @@ public class GenLayerShoreBOP extends GenLayer
                         j2 = inputBiomeIds[j1 + 1 - 1 + (i1 + 1) * (width + 2)];
                         k2 = inputBiomeIds[j1 + 1 + (i1 + 1 + 1) * (width + 2)];
 
-                        if (!isBiomeOceanic(l1) && !isBiomeOceanic(i2) && !isBiomeOceanic(j2) && !isBiomeOceanic(k2))
+                        if (!biomeProperties.isOceanic(l1) && !biomeProperties.isOceanic(i2) && !biomeProperties.isOceanic(j2) && !biomeProperties.isOceanic(k2))
                         {
                             if (this.func_151633_d(l1) && this.func_151633_d(i2) && this.func_151633_d(j2) && this.func_151633_d(k2))
                             {
@@ -138,7 +137,7 @@ public class GenLayerShoreBOP extends GenLayer
 
     private void func_151632_a(int[] inputBiomeIds, int[] outputBiomeIds, int x, int z, int width, int landBiomeId, int beachBiomeId)
     {
-        if (isBiomeOceanic(landBiomeId))
+        if (biomeProperties.isOceanic(landBiomeId))
         {
             outputBiomeIds[x + z * width] = landBiomeId;
         }
@@ -149,7 +148,7 @@ public class GenLayerShoreBOP extends GenLayer
             int l1 = inputBiomeIds[x + 1 - 1 + (z + 1) * (width + 2)];
             int i2 = inputBiomeIds[x + 1 + (z + 1 + 1) * (width + 2)];
 
-            if (!isBiomeOceanic(j1) && !isBiomeOceanic(k1) && !isBiomeOceanic(l1) && !isBiomeOceanic(i2))
+            if (!biomeProperties.isOceanic(j1) && !biomeProperties.isOceanic(k1) && !biomeProperties.isOceanic(l1) && !biomeProperties.isOceanic(i2))
             {
                 outputBiomeIds[x + z * width] = landBiomeId;
             }
@@ -160,18 +159,13 @@ public class GenLayerShoreBOP extends GenLayer
         }
     }
     
-    protected static boolean isBiomeOceanic(int biomeId)
-    {
-    	return BOPBiomeManager.isBiomeOceanic(biomeId) || GenLayer.isBiomeOceanic(biomeId);
-    }
-
     private boolean func_151631_c(int p_151631_1_)
     {
-        return BiomeGenBase.getBiome(p_151631_1_) != null && BiomeGenBase.getBiome(p_151631_1_).getBiomeClass() == BiomeGenJungle.class ? true : p_151631_1_ == BiomeGenBase.jungleEdge.biomeID || p_151631_1_ == BiomeGenBase.jungle.biomeID || p_151631_1_ == BiomeGenBase.jungleHills.biomeID || p_151631_1_ == BiomeGenBase.forest.biomeID || p_151631_1_ == BiomeGenBase.taiga.biomeID || isBiomeOceanic(p_151631_1_);
+        return biomeProperties.isJungleEdgeNeighbour(p_151631_1_);
     }
 
     private boolean func_151633_d(int p_151633_1_)
     {
-        return BiomeGenBase.getBiome(p_151633_1_) != null && BiomeGenBase.getBiome(p_151633_1_) instanceof BiomeGenMesa;
+        return biomeProperties.isMesa(p_151633_1_);
     }
 }
\ No newline at end of file
@@ -1,14 +1,12 @@
 package biomesoplenty.common.world.layer;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.layer.GenLayer;
 import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.common.BiomeManager.BiomeEntry;
-
-import org.apache.commons.lang3.tuple.Pair;
-
 import biomesoplenty.common.biome.BOPSubBiome;
 import biomesoplenty.common.world.BOPBiomeManager;
 import biomesoplenty.common.world.noise.SimplexNoise;
@@ -16,64 +14,93 @@ import biomesoplenty.common.world.noise.SimplexNoise;
 public class GenLayerSubBiome extends GenLayer
 {
 	private final int OFFSET_RANGE = 500000;
-	
-	private Pair<Integer, Integer>[] offsets = new Pair[BiomeGenBase.getBiomeGenArray().length];
-	
-	public GenLayerSubBiome(long seed, GenLayer parent) 
+
+	private int[] offsetsX = new int[BiomeGenBase.getBiomeGenArray().length];
+	private int[] offsetsZ = new int[BiomeGenBase.getBiomeGenArray().length];
+
+	//Indices into subBiomes for each parent biome id, or null if the biome has no sub biomes
+	private int[][] subBiomeIndices = new int[BiomeGenBase.getBiomeGenArray().length][];
+	private BOPSubBiome[] subBiomes;
+
+	public GenLayerSubBiome(long seed, GenLayer parent)
 	{
 		super(seed);
-		
+
 		this.parent = parent;
-		
+
 		this.setOffsets();
+		this.setSubBiomes();
 	}
-	
+
     @Override
 	public int[] getInts(int x, int z, int width, int length)
     {
         int[] inputBiomeIDs = this.parent.getInts(x - 1, z - 1, width + 2, length + 2);
         int[] outputBiomeIDs = IntCache.getIntCache(width * length);
 
-        for (int xi = 0; xi < width; ++xi) 
+        for (int xi = 0; xi < width; ++xi)
         {
-        	for (int zi = 0; zi < length; ++zi) 
+        	for (int zi = 0; zi < length; ++zi)
         	{
-        		this.initChunkSeed(xi + x, zi + z);
         		int currentBiomeId = inputBiomeIDs[xi + 1 + (zi + 1) * (width + 2)];
-        		
-        		List<BiomeEntry> currentSubBiomes = BOPBiomeManager.overworldSubBiomes[currentBiomeId];
-        		BOPSubBiome selectedSubBiome = currentSubBiomes != null ? (BOPSubBiome)currentSubBiomes.get(this.nextInt(currentSubBiomes.size())).biome : null;
-        		
-        		if (selectedSubBiome != null)
+        		int[] currentSubBiomes = subBiomeIndices[currentBiomeId];
+
+        		outputBiomeIDs[xi + zi * width] = currentBiomeId;
+
+        		if (currentSubBiomes != null)
         		{
-        			Pair<Integer, Integer> offset = getOffset(selectedSubBiome);
-        			
-        			if (SimplexNoise.noise((xi + x + offset.getLeft()) * selectedSubBiome.zoom, (zi + z + offset.getRight()) * selectedSubBiome.zoom) > selectedSubBiome.threshold)  
+        			BOPSubBiome selectedSubBiome;
+
+        			//nextInt(1) is always 0, so the seed only matters when there is a choice to make
+        			if (currentSubBiomes.length > 1)
+        			{
+        				this.initChunkSeed(xi + x, zi + z);
+        				selectedSubBiome = subBiomes[currentSubBiomes[this.nextInt(currentSubBiomes.length)]];
+        			}
+        			else selectedSubBiome = subBiomes[currentSubBiomes[0]];
+
+        			if (SimplexNoise.noise((xi + x + offsetsX[selectedSubBiome.biomeID]) * selectedSubBiome.zoom, (zi + z + offsetsZ[selectedSubBiome.biomeID]) * selectedSubBiome.zoom) > selectedSubBiome.threshold)
         			{
         				outputBiomeIDs[xi + zi * width] = selectedSubBiome.biomeID;
         			}
-        			else outputBiomeIDs[xi + zi * width] = currentBiomeId;
-        		}
-        		else
-        		{
-        			outputBiomeIDs[xi + zi * width] = currentBiomeId;
         		}
         	}
         }
 
         return outputBiomeIDs;
     }
-    
-    private Pair<Integer, Integer> getOffset(BiomeGenBase biome)
+
+    private void setOffsets()
     {
-    	return offsets[biome.biomeID];
+    	for (int i = 0; i < offsetsX.length; i++)
+    	{
+    		offsetsX[i] = this.nextInt(OFFSET_RANGE) - (OFFSET_RANGE / 2);
+    		offsetsZ[i] = this.nextInt(OFFSET_RANGE) - (OFFSET_RANGE / 2);
+    	}
     }
 
-    private void setOffsets()
+    private void setSubBiomes()
     {
-    	for (int i = 0; i< offsets.length; i++)
+    	List<BOPSubBiome> subBiomeList = new ArrayList();
+
+    	for (int i = 0; i < subBiomeIndices.length; i++)
     	{
-    		offsets[i] = Pair.of(this.nextInt(OFFSET_RANGE) - (OFFSET_RANGE / 2), this.nextInt(OFFSET_RANGE) - (OFFSET_RANGE / 2));
+    		List<BiomeEntry> currentSubBiomes = BOPBiomeManager.overworldSubBiomes[i];
+
+    		if (currentSubBiomes == null || currentSubBiomes.isEmpty()) continue;
+
+    		subBiomeIndices[i] = new int[currentSubBiomes.size()];
+
+    		for (int j = 0; j < currentSubBiomes.size(); j++)
+    		{
+    			BOPSubBiome subBiome = (BOPSubBiome)currentSubBiomes.get(j).biome;
+
+    			if (!subBiomeList.contains(subBiome)) subBiomeList.add(subBiome);
+
+    			subBiomeIndices[i][j] = subBiomeList.indexOf(subBiome);
+    		}
     	}
+
+    	this.subBiomes = subBiomeList.toArray(new BOPSubBiome[subBiomeList.size()]);
     }
 }